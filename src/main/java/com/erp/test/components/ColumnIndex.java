@@ -0,0 +1,80 @@
+package com.erp.test.components;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Bir tablo sütunu için hücre metninden satır indekslerine giden karma indeks.
+ * Tam eşleşme ve büyük/küçük harf duyarsız arama sabit zamanda, önek araması sıralı harita üzerinden yapılır.
+ * Büyük/küçük harf duyarsız aramada Türkçe küçük harf kuralları uygulanır; noktalı ve noktasız i harfleri ayrıca
+ * eşit sayılır, böylece hem "İSTANBUL" ile "istanbul" hem de "INV-001" ile "inv-001" eşleşir.
+ */
+final class ColumnIndex {
+    private static final Locale LOCALE = Locale.forLanguageTag("tr");
+
+    private final Map<String, List<Integer>> exact = new HashMap<>();
+    private final Map<String, List<Integer>> ignoreCase = new HashMap<>();
+    private final TreeMap<String, List<Integer>> sorted = new TreeMap<>();
+
+    /**
+     * Sütun indeksi constructor'ı.
+     *
+     * @param values Sütundaki hücre metinleri, satır sırasıyla
+     */
+    ColumnIndex(List<String> values) {
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            exact.computeIfAbsent(value, k -> new ArrayList<>()).add(i);
+            ignoreCase.computeIfAbsent(foldCase(value), k -> new ArrayList<>()).add(i);
+        }
+        sorted.putAll(exact);
+    }
+
+    /**
+     * Metne tam olarak eşit hücrelerin satır indekslerini döndürür.
+     *
+     * @param text Aranacak metin
+     * @return Artan sırada satır indeksleri
+     */
+    List<Integer> find(String text) {
+        return Collections.unmodifiableList(exact.getOrDefault(text, Collections.emptyList()));
+    }
+
+    /**
+     * Büyük/küçük harf farkı gözetmeden eşleşen hücrelerin satır indekslerini döndürür.
+     *
+     * @param text Aranacak metin
+     * @return Artan sırada satır indeksleri
+     */
+    List<Integer> findIgnoreCase(String text) {
+        return Collections.unmodifiableList(ignoreCase.getOrDefault(foldCase(text), Collections.emptyList()));
+    }
+
+    /**
+     * Belirtilen önekle başlayan hücrelerin satır indekslerini döndürür.
+     *
+     * @param prefix Önek
+     * @return Artan sırada satır indeksleri
+     */
+    List<Integer> findByPrefix(String prefix) {
+        SortedMap<String, List<Integer>> range = prefix.isEmpty()
+                ? sorted
+                : sorted.subMap(prefix, prefix + Character.MAX_VALUE);
+        List<Integer> rows = new ArrayList<>();
+        for (List<Integer> indices : range.values()) {
+            rows.addAll(indices);
+        }
+        Collections.sort(rows);
+        return Collections.unmodifiableList(rows);
+    }
+
+    private static String foldCase(String text) {
+        return text.toLowerCase(LOCALE).replace('ı', 'i');
+    }
+}
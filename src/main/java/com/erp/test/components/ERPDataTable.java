@@ -1,15 +1,23 @@
 package com.erp.test.components;
 
+import com.erp.test.core.config.ConfigManager;
+import com.erp.test.core.wait.SmartWait;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * ERP sistemlerindeki karmaşık veri tabloları için özel bileşen.
@@ -18,10 +26,37 @@ import java.util.Map;
 public class ERPDataTable {
     private static final Logger logger = LoggerFactory.getLogger(ERPDataTable.class);
     
+    // Başlıkları ve tüm gövde hücrelerini tek bir istekte okuyan betik
+    private static final String SNAPSHOT_SCRIPT =
+            "var table = arguments[0];" +
+            "var text = function(el) { return (el.innerText || el.textContent || '').trim(); };" +
+            "var headers = Array.prototype.map.call(table.querySelectorAll('th'), text);" +
+            "var rows = Array.prototype.map.call(table.querySelectorAll('tbody > tr'), function(tr) {" +
+            "  return Array.prototype.map.call(tr.querySelectorAll('td'), text);" +
+            "});" +
+            "return {headers: headers, rows: rows};";
+    
+    // Etkin ve görünürse sonraki sayfa düğmesine tıklayan betik
+    private static final String NEXT_PAGE_SCRIPT =
+            "var b = arguments[0];" +
+            "if (b.disabled || b.getAttribute('aria-disabled') === 'true'" +
+            "    || /(^|\\s)disabled(\\s|$)/.test(b.className) || b.offsetParent === null) { return false; }" +
+            "b.click();" +
+            "return true;";
+    
+    // Kaydırma kabını bir pencere yüksekliği kadar aşağı kaydıran betik
+    private static final String SCROLL_WINDOW_SCRIPT =
+            "var c = arguments[0];" +
+            "var before = c.scrollTop;" +
+            "c.scrollTop = before + c.clientHeight;" +
+            "return c.scrollTop > before;";
+    
     private final WebDriver driver;
+    private final SmartWait smartWait;
     private final By tableLocator;
     private WebElement tableElement;
     private List<String> headerTexts;
+    private TableSnapshot snapshot;
     
     /**
      * ERP veri tablosu constructor'ı.
@@ -30,8 +65,20 @@ public class ERPDataTable {
      * @param tableLocator Tablo locator'ı
      */
     public ERPDataTable(WebDriver driver, By tableLocator) {
+        this(driver, tableLocator, new SmartWait(driver, ConfigManager.getInstance().getExplicitWaitDuration()));
+    }
+    
+    /**
+     * Sayfa geçişlerini verilen bekleme motoruyla bekleyen ERP veri tablosu constructor'ı.
+     *
+     * @param driver WebDriver instance
+     * @param tableLocator Tablo locator'ı
+     * @param smartWait Sayfa geçişlerinde kullanılacak bekleme motoru
+     */
+    ERPDataTable(WebDriver driver, By tableLocator, SmartWait smartWait) {
         this.driver = driver;
         this.tableLocator = tableLocator;
+        this.smartWait = smartWait;
         initTable();
     }
     
@@ -41,24 +88,40 @@ public class ERPDataTable {
     private void initTable() {
         logger.debug("Initializing ERP data table: {}", tableLocator);
         tableElement = driver.findElement(tableLocator);
-        headerTexts = getHeaderTexts();
+        headerTexts = snapshot().getHeaders();
+        logger.debug("Table headers: {}", headerTexts);
     }
     
     /**
-     * Tablo başlıklarının metinlerini alır.
+     * Tablonun mevcut içeriğini döndürür.
+     * Başlıklar ve tüm hücreler tek bir executeScript çağrısıyla okunur ve
+     * tablo üzerinde bir tıklama ya da sıralama yapılana kadar önbellekte tutulur.
      *
-     * @return Başlık metinleri listesi
+     * @return Tablo görüntüsü
      */
-    private List<String> getHeaderTexts() {
-        List<String> headers = new ArrayList<>();
-        List<WebElement> headerElements = tableElement.findElements(By.xpath(".//th"));
-        
-        for (WebElement header : headerElements) {
-            headers.add(header.getText().trim());
+    public TableSnapshot snapshot() {
+        if (snapshot == null) {
+            logger.debug("Taking snapshot of table: {}", tableLocator);
+            Object result;
+            try {
+                result = ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT, tableElement);
+            } catch (StaleElementReferenceException e) {
+                logger.debug("Table element is stale, locating it again: {}", tableLocator);
+                tableElement = driver.findElement(tableLocator);
+                result = ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT, tableElement);
+            }
+            snapshot = TableSnapshot.fromScriptResult(result);
+            headerTexts = snapshot.getHeaders();
         }
-        
-        logger.debug("Table headers: {}", headers);
-        return headers;
+        return snapshot;
+    }
+    
+    /**
+     * Önbellekteki tablo görüntüsünü geçersiz kılar.
+     * Tablo içeriğini değiştiren bir işlemden (arama, filtreleme, sayfa yenileme) sonra çağrılmalıdır.
+     */
+    public void invalidateSnapshot() {
+        snapshot = null;
     }
     
     /**
@@ -87,6 +150,7 @@ public class ERPDataTable {
         logger.debug("Clicking cell at row {}, column {}", rowIndex, columnIndex);
         WebElement cell = getCell(rowIndex, columnIndex);
         cell.click();
+        invalidateSnapshot();
     }
     
     /**
@@ -134,8 +198,7 @@ public class ERPDataTable {
      * @return Hücre metni
      */
     public String getCellText(int rowIndex, int columnIndex) {
-        WebElement cell = getCell(rowIndex, columnIndex);
-        return cell.getText().trim();
+        return snapshot().getCellText(rowIndex, columnIndex);
     }
     
     /**
@@ -158,22 +221,30 @@ public class ERPDataTable {
      * @return Satır indeksi, bulunamazsa -1
      */
     public int findRowIndexByColumnValue(String columnName, String text) {
-        int columnIndex = getColumnIndex(columnName);
-        List<WebElement> rows = tableElement.findElements(By.xpath(".//tbody/tr"));
-        
-        for (int i = 0; i < rows.size(); i++) {
-            WebElement row = rows.get(i);
-            List<WebElement> cells = row.findElements(By.xpath(".//td"));
-            
-            if (columnIndex < cells.size()) {
-                String cellText = cells.get(columnIndex).getText().trim();
-                if (cellText.equals(text)) {
-                    return i;
-                }
-            }
-        }
-        
-        return -1;
+        return snapshot().findRowIndex(columnName, text);
+    }
+    
+    /**
+     * Belirtilen sütunda büyük/küçük harf farkı gözetmeden eşleşen ilk satırı bulur.
+     *
+     * @param columnName Sütun adı
+     * @param text Aranacak metin
+     * @return Satır indeksi, bulunamazsa -1
+     */
+    public int findRowIndexByColumnValueIgnoreCase(String columnName, String text) {
+        List<Integer> matches = snapshot().findRowIndicesIgnoreCase(columnName, text);
+        return matches.isEmpty() ? -1 : matches.get(0);
+    }
+    
+    /**
+     * Belirtilen sütunda belirtilen önekle başlayan tüm satırları bulur.
+     *
+     * @param columnName Sütun adı
+     * @param prefix Önek
+     * @return Satır indeksleri
+     */
+    public List<Integer> findRowIndicesByColumnPrefix(String columnName, String prefix) {
+        return snapshot().findRowIndicesByPrefix(columnName, prefix);
     }
     
     /**
@@ -183,22 +254,14 @@ public class ERPDataTable {
      * @return Sütun adı -> Hücre metni haritası
      */
     public Map<String, String> getRowData(int rowIndex) {
-        Map<String, String> rowData = new HashMap<>();
-        List<WebElement> rows = tableElement.findElements(By.xpath(".//tbody/tr"));
+        TableSnapshot current = snapshot();
         
-        if (rowIndex >= rows.size()) {
-            logger.error("Row index out of bounds: {}, max: {}", rowIndex, rows.size() - 1);
+        if (rowIndex >= current.getRowCount()) {
+            logger.error("Row index out of bounds: {}, max: {}", rowIndex, current.getRowCount() - 1);
             throw new IndexOutOfBoundsException("Row index out of bounds: " + rowIndex);
         }
         
-        WebElement row = rows.get(rowIndex);
-        List<WebElement> cells = row.findElements(By.xpath(".//td"));
-        
-        for (int i = 0; i < Math.min(cells.size(), headerTexts.size()); i++) {
-            rowData.put(headerTexts.get(i), cells.get(i).getText().trim());
-        }
-        
-        return rowData;
+        return current.getRowData(rowIndex);
     }
     
     /**
@@ -207,8 +270,130 @@ public class ERPDataTable {
      * @return Satır sayısı
      */
     public int getRowCount() {
-        List<WebElement> rows = tableElement.findElements(By.xpath(".//tbody/tr"));
-        return rows.size();
+        return snapshot().getRowCount();
+    }
+    
+    /**
+     * Belirtilen sütundaki tüm hücre metinlerini döndürür.
+     *
+     * @param columnName Sütun adı
+     * @return Hücre metinleri listesi
+     */
+    public List<String> getColumnValues(String columnName) {
+        return snapshot().getColumnValues(columnName);
+    }
+    
+    /**
+     * Sunucu tarafında sayfalanan bir tablonun tüm satırlarını sayfa sayfa dolaşan iterator döndürür.
+     * Dolaşma o anki sayfadan başlar; sonraki sayfa yalnızca mevcut sayfa tükendiğinde yüklenir.
+     * Tablo, dolaşmanın bırakıldığı sayfada kalır; ilk sayfaya geri dönülmez.
+     *
+     * @param nextPageLocator Sonraki sayfa düğmesinin locator'ı
+     * @return Satır iterator'ı (Sütun adı -> Hücre metni)
+     */
+    public Iterator<Map<String, String>> iterateAllPages(By nextPageLocator) {
+        return new PagedRowIterator(this::snapshot, () -> goToNextPage(nextPageLocator), false);
+    }
+    
+    /**
+     * Sunucu tarafında sayfalanan bir tablonun tüm satırlarını akış olarak döndürür.
+     * findFirst veya anyMatch gibi kısa devre yapan işlemler gereksiz sayfaları yüklemez.
+     *
+     * @param nextPageLocator Sonraki sayfa düğmesinin locator'ı
+     * @return Satır akışı (Sütun adı -> Hücre metni)
+     */
+    public Stream<Map<String, String>> streamAllPages(By nextPageLocator) {
+        return toStream(iterateAllPages(nextPageLocator));
+    }
+    
+    /**
+     * Sanal kaydırmalı bir tablonun tüm satırlarını pencere pencere dolaşan iterator döndürür.
+     * Ardışık pencerelerde tekrar eden satırlar atlanır.
+     *
+     * @param scrollContainerLocator Kaydırılabilir kabın locator'ı
+     * @return Satır iterator'ı (Sütun adı -> Hücre metni)
+     */
+    public Iterator<Map<String, String>> iterateByScrolling(By scrollContainerLocator) {
+        return new PagedRowIterator(this::snapshot, () -> scrollToNextWindow(scrollContainerLocator), true);
+    }
+    
+    /**
+     * Sanal kaydırmalı bir tablonun tüm satırlarını akış olarak döndürür.
+     *
+     * @param scrollContainerLocator Kaydırılabilir kabın locator'ı
+     * @return Satır akışı (Sütun adı -> Hücre metni)
+     */
+    public Stream<Map<String, String>> streamByScrolling(By scrollContainerLocator) {
+        return toStream(iterateByScrolling(scrollContainerLocator));
+    }
+    
+    private Stream<Map<String, String>> toStream(Iterator<Map<String, String>> iterator) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+    
+    /**
+     * Sonraki sayfaya geçer ve tablo içeriğinin değişmesini bekler.
+     *
+     * @param nextPageLocator Sonraki sayfa düğmesinin locator'ı
+     * @return Sonraki sayfaya geçildiyse true, son sayfadaysa false
+     * @throws TimeoutException Tıklamadan sonra tablo içeriği süre içinde değişmezse
+     */
+    private boolean goToNextPage(By nextPageLocator) {
+        List<WebElement> buttons = driver.findElements(nextPageLocator);
+        if (buttons.isEmpty()) {
+            return false;
+        }
+        
+        TableSnapshot before = snapshot();
+        Object clicked = ((JavascriptExecutor) driver).executeScript(NEXT_PAGE_SCRIPT, buttons.get(0));
+        if (!Boolean.TRUE.equals(clicked)) {
+            logger.debug("Reached last page of table: {}", tableLocator);
+            return false;
+        }
+        
+        waitForContentChange(before);
+        return true;
+    }
+    
+    /**
+     * Kaydırma kabını bir pencere aşağı kaydırır ve yeni satırların çizilmesini bekler.
+     *
+     * @param scrollContainerLocator Kaydırılabilir kabın locator'ı
+     * @return Kaydırma yapıldıysa true, en alttaysa false
+     * @throws TimeoutException Kaydırmadan sonra tablo içeriği süre içinde değişmezse
+     */
+    private boolean scrollToNextWindow(By scrollContainerLocator) {
+        WebElement container = driver.findElement(scrollContainerLocator);
+        TableSnapshot before = snapshot();
+        Object scrolled = ((JavascriptExecutor) driver).executeScript(SCROLL_WINDOW_SCRIPT, container);
+        if (!Boolean.TRUE.equals(scrolled)) {
+            logger.debug("Reached end of scrollable table: {}", tableLocator);
+            return false;
+        }
+        
+        waitForContentChange(before);
+        return true;
+    }
+    
+    /**
+     * Tablo içeriğinin önceki görüntüden farklı olmasını yapılandırmadaki açık bekleme süresince bekler.
+     * Sayfa geçişi zaten başlatıldığından zaman aşımı son sayfa sayılmaz; aksi halde kalan satırlar sessizce
+     * atlanırdı.
+     *
+     * @param before Önceki görüntü
+     * @throws TimeoutException İçerik süre içinde değişmezse
+     */
+    private void waitForContentChange(TableSnapshot before) {
+        try {
+            smartWait.until(d -> {
+                invalidateSnapshot();
+                return !snapshot().equals(before);
+            });
+        } catch (TimeoutException e) {
+            throw new TimeoutException("Table content did not change after moving to the next page: "
+                    + tableLocator, e);
+        }
     }
     
     /**
@@ -221,6 +406,7 @@ public class ERPDataTable {
         int columnIndex = getColumnIndex(columnName);
         WebElement headerElement = tableElement.findElements(By.xpath(".//th")).get(columnIndex);
         headerElement.click();
+        invalidateSnapshot();
     }
     
     /**
@@ -251,5 +437,6 @@ public class ERPDataTable {
         WebElement cell = getCell(rowIndex, getColumnIndex(columnName));
         WebElement button = cell.findElement(By.xpath(".//button[contains(text(),'" + buttonText + "') or @title='" + buttonText + "']"));
         button.click();
+        invalidateSnapshot();
     }
 }
@@ -1,6 +1,8 @@
 package com.erp.test.components;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -10,9 +12,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * ERP sistemlerindeki formlar için özel bileşen.
@@ -21,10 +26,62 @@ import java.util.Map;
 public class ERPForm {
     private static final Logger logger = LoggerFactory.getLogger(ERPForm.class);
     
+    // Tüm alanları etiketlerine göre bulup değerlerini tek bir istekte atayan betik.
+    // Alan çözümleme sırası Java tarafındaki ile aynıdır: label (for / üst eleman) -> placeholder -> name/id.
+    private static final String FILL_SCRIPT =
+            "var form = arguments[0], values = arguments[1], failed = [];" +
+            "var q = function(v) { return '\"' + CSS.escape(v) + '\"'; };" +
+            "var fire = function(el, type) { el.dispatchEvent(new Event(type, {bubbles: true})); };" +
+            "var byLabel = function(text) {" +
+            "  var labels = form.querySelectorAll('label');" +
+            "  for (var i = 0; i < labels.length; i++) {" +
+            "    if ((labels[i].textContent || '').indexOf(text) === -1) { continue; }" +
+            "    var label = labels[i];" +
+            "    if (label.htmlFor) { return form.querySelector('#' + CSS.escape(label.htmlFor)); }" +
+            "    return label.parentNode.querySelector('input, textarea, select');" +
+            "  }" +
+            "  return null;" +
+            "};" +
+            "var resolve = function(key) {" +
+            "  return byLabel(key)" +
+            "      || form.querySelector('input[placeholder=' + q(key) + '], textarea[placeholder=' + q(key) + ']')" +
+            "      || form.querySelector('[name=' + q(key) + ']:not([type=radio]), [id=' + q(key) + ']');" +
+            "};" +
+            "var setText = function(el, text) {" +
+            "  var proto = el.tagName === 'TEXTAREA' ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;" +
+            "  el.focus();" +
+            "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, text);" +
+            "  fire(el, 'input'); fire(el, 'change'); el.blur();" +
+            "};" +
+            "Object.keys(values).forEach(function(key) {" +
+            "  var value = values[key], text = value === null ? '' : String(value);" +
+            "  var radios = form.querySelectorAll('input[type=radio][name=' + q(key) + ']');" +
+            "  if (radios.length) {" +
+            "    var radio = Array.prototype.find.call(radios, function(r) { return r.value === text; });" +
+            "    if (radio) { if (!radio.checked) { radio.click(); } } else { failed.push(key); }" +
+            "    return;" +
+            "  }" +
+            "  var el = resolve(key);" +
+            "  if (!el) { failed.push(key); return; }" +
+            "  if (el.tagName === 'SELECT') {" +
+            "    var option = Array.prototype.find.call(el.options, function(o) { return o.text.trim() === text; });" +
+            "    if (!option) { failed.push(key); return; }" +
+            "    el.value = option.value; fire(el, 'input'); fire(el, 'change');" +
+            "  } else if (el.type === 'checkbox') {" +
+            "    if (el.checked !== (value === true || text === 'true')) { el.click(); }" +
+            "  } else if (el.type === 'radio') {" +
+            "    if (!el.checked) { el.click(); }" +
+            "  } else {" +
+            "    setText(el, text);" +
+            "  }" +
+            "});" +
+            "return failed;";
+    
     private final WebDriver driver;
     private final WebDriverWait wait;
     private final By formLocator;
     private WebElement formElement;
+    private FormFieldMap fieldMap;
     
     /**
      * ERP form constructor'ı.
@@ -47,6 +104,52 @@ public class ERPForm {
         formElement = driver.findElement(formLocator);
     }
     
+    /**
+     * Önbellekteki alan haritasını geçersiz kılar.
+     * Harita bir sonraki alan erişiminde yeniden oluşturulur.
+     */
+    public void invalidateFieldMap() {
+        fieldMap = null;
+    }
+    
+    /**
+     * Alanı önbellekteki alan haritasından bulur.
+     * Alan haritada yoksa ve form DOM'u harita oluşturulduktan sonra değiştiyse harita yeniden oluşturulur.
+     *
+     * @param labelText Etiket metni, placeholder, name veya id
+     * @param type Alan türü
+     * @return Alan elementi, bulunamazsa null
+     */
+    private WebElement findCachedField(String labelText, FormFieldMap.FieldType type) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        if (fieldMap == null) {
+            fieldMap = FormFieldMap.build(js, formElement);
+        }
+        
+        WebElement field = fieldMap.find(labelText, type);
+        if (field == null && FormFieldMap.isStale(js, formElement)) {
+            logger.debug("Form DOM changed, rebuilding field map: {}", formLocator);
+            fieldMap = FormFieldMap.build(js, formElement);
+            field = fieldMap.find(labelText, type);
+        }
+        return field;
+    }
+    
+    /**
+     * İşlemi çalıştırır; önbellekteki bir alan bayatlamışsa haritayı yenileyip bir kez daha dener.
+     *
+     * @param action Alan üzerinde yapılacak işlem
+     */
+    private void withFreshFields(Runnable action) {
+        try {
+            action.run();
+        } catch (StaleElementReferenceException e) {
+            logger.debug("Cached form field is stale, rebuilding field map: {}", formLocator);
+            invalidateFieldMap();
+            action.run();
+        }
+    }
+    
     /**
      * Form içindeki bir metin alanına değer girer.
      *
@@ -55,9 +158,11 @@ public class ERPForm {
      */
     public void enterTextByLabel(String labelText, String value) {
         logger.debug("Entering text '{}' into field with label: {}", value, labelText);
-        WebElement inputField = findInputFieldByLabel(labelText);
-        inputField.clear();
-        inputField.sendKeys(value);
+        withFreshFields(() -> {
+            WebElement inputField = findInputFieldByLabel(labelText);
+            inputField.clear();
+            inputField.sendKeys(value);
+        });
     }
     
     /**
@@ -67,6 +172,11 @@ public class ERPForm {
      * @return Input elementi
      */
     private WebElement findInputFieldByLabel(String labelText) {
+        WebElement cached = findCachedField(labelText, FormFieldMap.FieldType.TEXT);
+        if (cached != null) {
+            return cached;
+        }
+        
         // Try to find by label with 'for' attribute
         List<WebElement> labels = formElement.findElements(By.xpath(".//label[contains(text(),'" + labelText + "')]"));
         
@@ -115,6 +225,11 @@ public class ERPForm {
      * @return Select elementi
      */
     private Select findSelectByLabel(String labelText) {
+        WebElement cached = findCachedField(labelText, FormFieldMap.FieldType.SELECT);
+        if (cached != null) {
+            return new Select(cached);
+        }
+        
         // Try to find by label with 'for' attribute
         List<WebElement> labels = formElement.findElements(By.xpath(".//label[contains(text(),'" + labelText + "')]"));
         
@@ -155,8 +270,7 @@ public class ERPForm {
      */
     public void selectByVisibleText(String labelText, String visibleText) {
         logger.debug("Selecting option '{}' from dropdown with label: {}", visibleText, labelText);
-        Select select = findSelectByLabel(labelText);
-        select.selectByVisibleText(visibleText);
+        withFreshFields(() -> findSelectByLabel(labelText).selectByVisibleText(visibleText));
     }
     
     /**
@@ -167,8 +281,7 @@ public class ERPForm {
      */
     public void selectByValue(String labelText, String value) {
         logger.debug("Selecting option with value '{}' from dropdown with label: {}", value, labelText);
-        Select select = findSelectByLabel(labelText);
-        select.selectByValue(value);
+        withFreshFields(() -> findSelectByLabel(labelText).selectByValue(value));
     }
     
     /**
@@ -179,12 +292,14 @@ public class ERPForm {
      */
     public void setCheckbox(String labelText, boolean check) {
         logger.debug("Setting checkbox with label '{}' to: {}", labelText, check);
-        WebElement checkbox = findCheckboxByLabel(labelText);
-        boolean isChecked = checkbox.isSelected();
-        
-        if (check != isChecked) {
-            checkbox.click();
-        }
+        withFreshFields(() -> {
+            WebElement checkbox = findCheckboxByLabel(labelText);
+            boolean isChecked = checkbox.isSelected();
+            
+            if (check != isChecked) {
+                checkbox.click();
+            }
+        });
     }
     
     /**
@@ -194,6 +309,11 @@ public class ERPForm {
      * @return Checkbox elementi
      */
     private WebElement findCheckboxByLabel(String labelText) {
+        WebElement cached = findCachedField(labelText, FormFieldMap.FieldType.CHECKBOX);
+        if (cached != null) {
+            return cached;
+        }
+        
         // Try to find by label with 'for' attribute
         List<WebElement> labels = formElement.findElements(By.xpath(".//label[contains(text(),'" + labelText + "')]"));
         
@@ -265,6 +385,52 @@ public class ERPForm {
         }
     }
     
+    /**
+     * Formdaki birden fazla alanı tek bir executeScript çağrısıyla doldurur.
+     * Metin alanları, dropdown'lar (görünür metne göre), checkbox'lar (Boolean değer) ve
+     * radio grupları (grup adı -> değer) desteklenir; her alan için input ve change olayları tetiklenir.
+     *
+     * @param values Etiket metni -> Değer haritası
+     */
+    public void fill(Map<String, Object> values) {
+        fill(values, Collections.emptySet());
+    }
+    
+    /**
+     * Formdaki birden fazla alanı tek bir executeScript çağrısıyla doldurur.
+     * Gerçek klavye girişi gerektiren alanlar (maskeli girişler, otomatik tamamlama vb.)
+     * betikle değil, {@link #enterTextByLabel(String, String)} ile tek tek doldurulur.
+     *
+     * @param values Etiket metni -> Değer haritası
+     * @param keystrokeFields Gerçek tuş vuruşlarıyla doldurulacak alanların etiketleri
+     */
+    public void fill(Map<String, Object> values, Set<String> keystrokeFields) {
+        logger.debug("Filling {} form field(s) in a single script call", values.size());
+        Map<String, Object> scriptValues = new LinkedHashMap<>();
+        
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            if (keystrokeFields.contains(entry.getKey())) {
+                continue;
+            }
+            Object value = entry.getValue();
+            scriptValues.put(entry.getKey(), value instanceof Boolean || value == null ? value : String.valueOf(value));
+        }
+        
+        if (!scriptValues.isEmpty()) {
+            Object failed = ((JavascriptExecutor) driver).executeScript(FILL_SCRIPT, formElement, scriptValues);
+            if (failed instanceof List && !((List<?>) failed).isEmpty()) {
+                logger.error("Form fields could not be filled: {}", failed);
+                throw new IllegalArgumentException("Form fields could not be filled: " + failed);
+            }
+        }
+        
+        for (String label : keystrokeFields) {
+            if (values.containsKey(label)) {
+                enterTextByLabel(label, String.valueOf(values.get(label)));
+            }
+        }
+    }
+    
     /**
      * Form içindeki tüm alanların değerlerini bir harita olarak döndürür.
      *
@@ -0,0 +1,135 @@
+package com.erp.test.components;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bir formdaki alanların etiket, placeholder, name ve id değerlerinden elemanlara giden çözümlenmiş haritası.
+ * Harita tek bir executeScript çağrısıyla oluşturulur; form DOM'u değiştiğinde bir MutationObserver tarafından
+ * kirli olarak işaretlenir.
+ */
+final class FormFieldMap {
+
+    /**
+     * Alan türleri.
+     */
+    enum FieldType {
+        TEXT, SELECT, CHECKBOX, RADIO
+    }
+
+    // Formdaki tüm alanları ve bunlara işaret eden anahtarları toplayan betik
+    private static final String BUILD_SCRIPT =
+            "var form = arguments[0];" +
+            "if (!form.__erpFieldObserver) {" +
+            "  form.__erpFieldObserver = new MutationObserver(function() { form.__erpFieldsDirty = true; });" +
+            "  form.__erpFieldObserver.observe(form, {childList: true, subtree: true, attributes: true," +
+            "      attributeFilter: ['id', 'name', 'for', 'placeholder', 'type']});" +
+            "}" +
+            "form.__erpFieldsDirty = false;" +
+            "var text = function(el) { return (el.textContent || '').trim(); };" +
+            "return Array.prototype.map.call(form.querySelectorAll('input, select, textarea'), function(el) {" +
+            "  var labels = [];" +
+            "  Array.prototype.forEach.call(el.labels || [], function(l) { labels.push(text(l)); });" +
+            "  var sibling = el.parentNode ? el.parentNode.querySelector('label:not([for])') : null;" +
+            "  if (sibling) { labels.push(text(sibling)); }" +
+            "  var type = el.tagName === 'SELECT' ? 'SELECT'" +
+            "      : el.type === 'checkbox' ? 'CHECKBOX' : el.type === 'radio' ? 'RADIO' : 'TEXT';" +
+            "  return {element: el, type: type, labels: labels," +
+            "      attributes: [el.placeholder || '', el.name || '', el.id || ''].filter(Boolean)};" +
+            "});";
+
+    private static final String DIRTY_SCRIPT = "return arguments[0].__erpFieldsDirty !== false;";
+
+    private final Map<String, List<Field>> byLabel = new LinkedHashMap<>();
+    private final Map<String, List<Field>> byAttribute = new HashMap<>();
+
+    private FormFieldMap() {
+    }
+
+    /**
+     * Form için alan haritasını oluşturur.
+     *
+     * @param js JavascriptExecutor
+     * @param formElement Form elementi
+     * @return FormFieldMap instance
+     */
+    @SuppressWarnings("unchecked")
+    static FormFieldMap build(JavascriptExecutor js, WebElement formElement) {
+        FormFieldMap map = new FormFieldMap();
+        List<Object> descriptors = (List<Object>) js.executeScript(BUILD_SCRIPT, formElement);
+
+        for (Object descriptor : descriptors) {
+            Map<String, Object> entry = (Map<String, Object>) descriptor;
+            Field field = new Field((WebElement) entry.get("element"), FieldType.valueOf((String) entry.get("type")));
+            for (Object label : (List<Object>) entry.get("labels")) {
+                map.byLabel.computeIfAbsent(label.toString(), k -> new ArrayList<>()).add(field);
+            }
+            for (Object attribute : (List<Object>) entry.get("attributes")) {
+                map.byAttribute.computeIfAbsent(attribute.toString(), k -> new ArrayList<>()).add(field);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Harita oluşturulduktan sonra form DOM'unun değişip değişmediğini kontrol eder.
+     *
+     * @param js JavascriptExecutor
+     * @param formElement Form elementi
+     * @return Form değiştiyse true
+     */
+    static boolean isStale(JavascriptExecutor js, WebElement formElement) {
+        return Boolean.TRUE.equals(js.executeScript(DIRTY_SCRIPT, formElement));
+    }
+
+    /**
+     * Anahtara karşılık gelen, belirtilen türdeki ilk alanı bulur.
+     * Arama sırası: etiket tam eşleşme, etiket içerir, placeholder/name/id tam eşleşme.
+     *
+     * @param key Etiket metni, placeholder, name veya id
+     * @param type Alan türü
+     * @return Alan elementi, bulunamazsa null
+     */
+    WebElement find(String key, FieldType type) {
+        WebElement element = first(byLabel.get(key), type);
+        if (element != null) {
+            return element;
+        }
+        for (Map.Entry<String, List<Field>> entry : byLabel.entrySet()) {
+            if (entry.getKey().contains(key)) {
+                element = first(entry.getValue(), type);
+                if (element != null) {
+                    return element;
+                }
+            }
+        }
+        return first(byAttribute.get(key), type);
+    }
+
+    private static WebElement first(List<Field> fields, FieldType type) {
+        if (fields != null) {
+            for (Field field : fields) {
+                if (field.type == type) {
+                    return field.element;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final class Field {
+        private final WebElement element;
+        private final FieldType type;
+
+        private Field(WebElement element, FieldType type) {
+            this.element = element;
+            this.type = type;
+        }
+    }
+}
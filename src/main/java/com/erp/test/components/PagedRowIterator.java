@@ -0,0 +1,99 @@
+package com.erp.test.components;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Sayfalı veya sanal kaydırmalı tablolarda satırları sayfa sayfa okuyan iterator.
+ * Bellekte yalnızca o anki sayfa tutulur; sonraki sayfa ancak mevcut sayfa tükendiğinde yüklenir.
+ */
+final class PagedRowIterator implements Iterator<Map<String, String>> {
+    private final Supplier<TableSnapshot> pageLoader;
+    private final BooleanSupplier nextPage;
+    private final boolean overlappingWindows;
+
+    private TableSnapshot currentPage;
+    private int cursor;
+    private boolean exhausted;
+
+    /**
+     * Sayfalı satır iterator'ı constructor'ı.
+     *
+     * @param pageLoader O anki sayfanın görüntüsünü okuyan fonksiyon
+     * @param nextPage Sonraki sayfaya geçen fonksiyon; başka sayfa yoksa false döner
+     * @param overlappingWindows Ardışık sayfalar kesişebiliyorsa (sanal kaydırma) true
+     */
+    PagedRowIterator(Supplier<TableSnapshot> pageLoader, BooleanSupplier nextPage, boolean overlappingWindows) {
+        this.pageLoader = pageLoader;
+        this.nextPage = nextPage;
+        this.overlappingWindows = overlappingWindows;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (exhausted) {
+            return false;
+        }
+        if (currentPage == null) {
+            currentPage = pageLoader.get();
+            cursor = 0;
+        }
+        while (cursor >= currentPage.getRowCount()) {
+            if (!nextPage.getAsBoolean()) {
+                exhausted = true;
+                currentPage = null;
+                return false;
+            }
+            TableSnapshot previous = currentPage;
+            currentPage = pageLoader.get();
+            cursor = overlappingWindows ? overlap(previous, currentPage) : 0;
+        }
+        return true;
+    }
+
+    @Override
+    public Map<String, String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more table rows");
+        }
+        return currentPage.getRowData(cursor++);
+    }
+
+    /**
+     * Yeni pencerenin başındaki, önceki pencerenin sonuyla aynı olan satır sayısını bulur.
+     *
+     * @param previous Önceki pencere
+     * @param current Yeni pencere
+     * @return Atlanacak satır sayısı
+     */
+    private static int overlap(TableSnapshot previous, TableSnapshot current) {
+        int previousCount = previous.getRowCount();
+        int maxOverlap = Math.min(previousCount, current.getRowCount());
+        int columnCount = current.getHeaders().size();
+
+        for (int size = maxOverlap; size > 0; size--) {
+            boolean matches = true;
+            for (int i = 0; i < size && matches; i++) {
+                for (int column = 0; column < columnCount && matches; column++) {
+                    matches = safeCell(previous, previousCount - size + i, column)
+                            .equals(safeCell(current, i, column));
+                }
+            }
+            if (matches) {
+                return size;
+            }
+        }
+        return 0;
+    }
+
+    private static String safeCell(TableSnapshot snapshot, int row, int column) {
+        try {
+            return snapshot.getCellText(row, column);
+        } catch (IndexOutOfBoundsException e) {
+            return "";
+        }
+    }
+}
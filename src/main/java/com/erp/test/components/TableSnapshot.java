@@ -0,0 +1,324 @@
+package com.erp.test.components;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Bir tablonun belirli bir andaki başlık ve hücre metinlerini tutan değişmez model.
+ * Tüm sorgular bellekte çalışır, tarayıcıya istek göndermez.
+ * Sütun aramaları için karma indeksler ilk kullanımda bir kez oluşturulur.
+ */
+public final class TableSnapshot {
+    private final List<String> headers;
+    private final List<List<String>> rows;
+    private final Map<Integer, ColumnIndex> columnIndexes = new ConcurrentHashMap<>();
+
+    /**
+     * Tablo görüntüsü constructor'ı.
+     *
+     * @param headers Başlık metinleri
+     * @param rows Satırların hücre metinleri
+     */
+    public TableSnapshot(List<String> headers, List<List<String>> rows) {
+        this.headers = Collections.unmodifiableList(new ArrayList<>(headers));
+        List<List<String>> copy = new ArrayList<>(rows.size());
+        for (List<String> row : rows) {
+            copy.add(Collections.unmodifiableList(new ArrayList<>(row)));
+        }
+        this.rows = Collections.unmodifiableList(copy);
+    }
+
+    /**
+     * executeScript sonucundan bir tablo görüntüsü oluşturur.
+     * Beklenen yapı: {@code {headers: [...], rows: [[...], ...]}}
+     *
+     * @param scriptResult JavaScript dönüş değeri
+     * @return TableSnapshot instance
+     */
+    @SuppressWarnings("unchecked")
+    public static TableSnapshot fromScriptResult(Object scriptResult) {
+        if (!(scriptResult instanceof Map)) {
+            throw new IllegalArgumentException("Unexpected table snapshot result: " + scriptResult);
+        }
+        Map<String, Object> result = (Map<String, Object>) scriptResult;
+
+        List<String> headers = new ArrayList<>();
+        for (Object header : (List<Object>) result.get("headers")) {
+            headers.add(header == null ? "" : header.toString().trim());
+        }
+
+        List<List<String>> rows = new ArrayList<>();
+        for (Object row : (List<Object>) result.get("rows")) {
+            List<String> cells = new ArrayList<>();
+            for (Object cell : (List<Object>) row) {
+                cells.add(cell == null ? "" : cell.toString().trim());
+            }
+            rows.add(cells);
+        }
+
+        return new TableSnapshot(headers, rows);
+    }
+
+    /**
+     * Başlık metinlerini döndürür.
+     *
+     * @return Başlık metinleri listesi
+     */
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Satır sayısını döndürür.
+     *
+     * @return Satır sayısı
+     */
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Belirtilen sütun adına göre sütun indeksini bulur.
+     *
+     * @param columnName Sütun adı
+     * @return Sütun indeksi (0-tabanlı)
+     */
+    public int getColumnIndex(String columnName) {
+        for (int i = 0; i < headers.size(); i++) {
+            if (headers.get(i).equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Column not found: " + columnName);
+    }
+
+    /**
+     * Belirtilen satır ve sütundaki hücre metnini döndürür.
+     *
+     * @param rowIndex Satır indeksi (0-tabanlı)
+     * @param columnIndex Sütun indeksi (0-tabanlı)
+     * @return Hücre metni
+     */
+    public String getCellText(int rowIndex, int columnIndex) {
+        List<String> row = getRow(rowIndex);
+        if (columnIndex < 0 || columnIndex >= row.size()) {
+            throw new IndexOutOfBoundsException("Column index out of bounds: " + columnIndex);
+        }
+        return row.get(columnIndex);
+    }
+
+    /**
+     * Belirtilen satır ve sütun adındaki hücre metnini döndürür.
+     *
+     * @param rowIndex Satır indeksi (0-tabanlı)
+     * @param columnName Sütun adı
+     * @return Hücre metni
+     */
+    public String getCellText(int rowIndex, String columnName) {
+        return getCellText(rowIndex, getColumnIndex(columnName));
+    }
+
+    /**
+     * Hücre metnini tamsayı olarak döndürür.
+     *
+     * @param rowIndex Satır indeksi (0-tabanlı)
+     * @param columnName Sütun adı
+     * @return Hücre değeri
+     */
+    public int getInt(int rowIndex, String columnName) {
+        return (int) getDouble(rowIndex, columnName);
+    }
+
+    /**
+     * Hücre metnini ondalık sayı olarak döndürür.
+     * Para birimi ve binlik ayraçları yok sayılır; "1.234,56 TL" ve "1,234.56" aynı değeri verir. Tek ayraç varsa
+     * nokta ardından üç rakam geldiğinde ("1.234 TL") ya da birden çok kez geçtiğinde ("1.234.567") binlik ayracı,
+     * virgül ise tek geçtiğinde ondalık ayracı sayılır.
+     *
+     * @param rowIndex Satır indeksi (0-tabanlı)
+     * @param columnName Sütun adı
+     * @return Hücre değeri
+     */
+    public double getDouble(int rowIndex, String columnName) {
+        return parseNumber(getCellText(rowIndex, columnName));
+    }
+
+    /**
+     * Hücre metnini boolean olarak döndürür.
+     *
+     * @param rowIndex Satır indeksi (0-tabanlı)
+     * @param columnName Sütun adı
+     * @return Hücre "true", "evet" veya "aktif" ise true
+     */
+    public boolean getBoolean(int rowIndex, String columnName) {
+        String text = getCellText(rowIndex, columnName).toLowerCase();
+        return text.equals("true") || text.equals("evet") || text.equals("aktif");
+    }
+
+    /**
+     * Belirtilen satırın tüm hücre metinlerini bir harita olarak döndürür.
+     *
+     * @param rowIndex Satır indeksi (0-tabanlı)
+     * @return Sütun adı -> Hücre metni haritası
+     */
+    public Map<String, String> getRowData(int rowIndex) {
+        List<String> row = getRow(rowIndex);
+        Map<String, String> rowData = new LinkedHashMap<>();
+        for (int i = 0; i < Math.min(row.size(), headers.size()); i++) {
+            rowData.put(headers.get(i), row.get(i));
+        }
+        return rowData;
+    }
+
+    /**
+     * Belirtilen sütundaki tüm hücre metinlerini döndürür.
+     *
+     * @param columnName Sütun adı
+     * @return Hücre metinleri listesi
+     */
+    public List<String> getColumnValues(String columnName) {
+        int columnIndex = getColumnIndex(columnName);
+        List<String> values = new ArrayList<>(rows.size());
+        for (List<String> row : rows) {
+            values.add(columnIndex < row.size() ? row.get(columnIndex) : "");
+        }
+        return values;
+    }
+
+    /**
+     * Belirtilen sütunda belirtilen metne eşit olan ilk satırı bulur.
+     *
+     * @param columnName Sütun adı
+     * @param text Aranacak metin
+     * @return Satır indeksi, bulunamazsa -1
+     */
+    public int findRowIndex(String columnName, String text) {
+        List<Integer> matches = findRowIndices(columnName, text);
+        return matches.isEmpty() ? -1 : matches.get(0);
+    }
+
+    /**
+     * Belirtilen sütunda belirtilen metne eşit olan tüm satırları bulur.
+     *
+     * @param columnName Sütun adı
+     * @param text Aranacak metin
+     * @return Artan sırada satır indeksleri
+     */
+    public List<Integer> findRowIndices(String columnName, String text) {
+        return columnIndex(columnName).find(text);
+    }
+
+    /**
+     * Belirtilen sütunda büyük/küçük harf farkı gözetmeden eşleşen tüm satırları bulur.
+     *
+     * @param columnName Sütun adı
+     * @param text Aranacak metin
+     * @return Artan sırada satır indeksleri
+     */
+    public List<Integer> findRowIndicesIgnoreCase(String columnName, String text) {
+        return columnIndex(columnName).findIgnoreCase(text);
+    }
+
+    /**
+     * Belirtilen sütunda belirtilen önekle başlayan tüm satırları bulur.
+     *
+     * @param columnName Sütun adı
+     * @param prefix Önek
+     * @return Artan sırada satır indeksleri
+     */
+    public List<Integer> findRowIndicesByPrefix(String columnName, String prefix) {
+        return columnIndex(columnName).findByPrefix(prefix);
+    }
+
+    /**
+     * Koşula uyan satırları harita olarak döndürür.
+     *
+     * @param condition Satır koşulu
+     * @return Koşula uyan satırlar
+     */
+    public List<Map<String, String>> filter(Predicate<Map<String, String>> condition) {
+        List<Map<String, String>> matches = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, String> rowData = getRowData(i);
+            if (condition.test(rowData)) {
+                matches.add(rowData);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TableSnapshot)) {
+            return false;
+        }
+        TableSnapshot other = (TableSnapshot) o;
+        return headers.equals(other.headers) && rows.equals(other.rows);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * headers.hashCode() + rows.hashCode();
+    }
+
+    private ColumnIndex columnIndex(String columnName) {
+        int columnIndex = getColumnIndex(columnName);
+        return columnIndexes.computeIfAbsent(columnIndex, i -> new ColumnIndex(getColumnValues(columnName)));
+    }
+
+    private List<String> getRow(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= rows.size()) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: " + rowIndex);
+        }
+        return rows.get(rowIndex);
+    }
+
+    private static double parseNumber(String text) {
+        String cleaned = text.replaceAll("[^0-9,.\\-]", "");
+        int lastComma = cleaned.lastIndexOf(',');
+        int lastDot = cleaned.lastIndexOf('.');
+
+        if (lastComma >= 0 && lastDot >= 0) {
+            // İki ayraç da varsa sondaki ondalık ayracıdır
+            cleaned = lastComma > lastDot
+                    ? cleaned.replace(".", "").replace(',', '.')
+                    : cleaned.replace(",", "");
+        } else if (lastDot >= 0) {
+            // "1.234.567" ya da "1.234 TL" binlik gruplamasıdır; "0.125" ve "12.5" ondalıktır
+            if (cleaned.indexOf('.') != lastDot || isThousandsGroup(cleaned, lastDot)) {
+                cleaned = cleaned.replace(".", "");
+            }
+        } else if (lastComma >= 0) {
+            cleaned = cleaned.indexOf(',') != lastComma
+                    ? cleaned.replace(",", "")
+                    : cleaned.replace(',', '.');
+        }
+
+        try {
+            return Double.parseDouble(cleaned);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cell value is not numeric: " + text, e);
+        }
+    }
+
+    /**
+     * Tek ayracın binlik ayracı olup olmadığını belirler: ardından tam üç rakam gelir ve önündeki tam sayı kısmı
+     * sıfır değildir.
+     *
+     * @param number Yalnızca rakam, ayraç ve eksi işareti içeren metin
+     * @param separator Ayracın konumu
+     * @return Binlik ayracıysa true
+     */
+    private static boolean isThousandsGroup(String number, int separator) {
+        String integerPart = number.substring(0, separator).replace("-", "");
+        return number.length() - separator - 1 == 3 && !integerPart.matches("0*");
+    }
+}
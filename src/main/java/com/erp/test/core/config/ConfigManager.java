@@ -5,38 +5,233 @@ import org.slf4j.LoggerFactory;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Test yapılandırmasını yöneten sınıf.
- * Singleton tasarım deseni kullanılarak oluşturulmuştur.
+ * Yapılandırma bir kez yüklenir ve değişmez bir görüntü olarak yayınlanır; sayısal, boolean ve süre değerleri
+ * yükleme sırasında ayrıştırılıp doğrulanır. Okuma işlemleri kilit almaz, paralel testler arasında çekişme olmaz.
+ * Değer önceliği: sistem özellikleri, ERP_ önekli ortam değişkenleri (ör. base.url için ERP_BASE_URL),
+ * config.properties dosyası.
  */
-public class ConfigManager {
+public final class ConfigManager {
     private static final Logger logger = LoggerFactory.getLogger(ConfigManager.class);
     private static final String CONFIG_FILE = "src/test/resources/config/config.properties";
-    private static ConfigManager instance;
-    private Properties properties;
+    private static final List<String> PARALLEL_MODES = Arrays.asList("none", "methods", "classes", "tests", "instances");
+    private static final List<String> ROUND_TRIP_BUDGET_MODES = Arrays.asList("off", "warn", "fail");
+    // USERNAME, BROWSER gibi işletim sistemi değişkenleri test değerlerini ezmesin diye ortam değişkenleri öneklidir
+    private static final String ENVIRONMENT_PREFIX = "ERP_";
+    // Görüntünün okuduğu anahtarlar; dosyada bulunmasalar da ortam değişkeni ya da sistem özelliğiyle verilebilirler
+    private static final List<String> KNOWN_KEYS = Arrays.asList(
+            "browser", "headless", "base.url", "api.base.url", "api.invoice.path", "api.timeout.ms",
+            "api.seed.parallelism", "implicit.wait", "explicit.wait", "page.load.timeout", "wait.poll.initial.ms",
+            "wait.poll.max.ms", "wait.dom.quiet.ms", "wait.network.quiet.ms", "username", "password", "company",
+            "environment", "test.data.path", "report.path", "screenshot.path", "screenshot.threads",
+            "screenshot.queue.capacity", "screenshot.max.width", "screenshot.quality", "screenshot.dedup.distance",
+            "session.cache.enabled", "metrics.driver.enabled", "roundtrip.budget.mode", "parallel.mode",
+            "parallel.thread.count", "test.duration.history", "driver.pool.enabled", "driver.pool.size",
+            "driver.pool.warmup", "driver.pool.max.reuse");
 
-    private ConfigManager() {
-        properties = new Properties();
+    private final Map<String, String> properties;
+
+    private final String browser;
+    private final boolean headless;
+    private final String baseUrl;
+    private final String apiBaseUrl;
+    private final Duration apiTimeout;
+    private final int apiSeedParallelism;
+    private final Duration implicitWait;
+    private final Duration explicitWait;
+    private final Duration pageLoadTimeout;
+    private final Duration waitPollInitial;
+    private final Duration waitPollMax;
+    private final Duration domQuietPeriod;
+    private final Duration networkQuietPeriod;
+    private final boolean driverPoolEnabled;
+    private final int driverPoolSize;
+    private final int driverPoolWarmUp;
+    private final int driverPoolMaxReuse;
+    private final boolean sessionCacheEnabled;
+    private final boolean driverMetricsEnabled;
+    private final String roundTripBudgetMode;
+    private final String parallelMode;
+    private final int parallelThreadCount;
+    private final int screenshotThreads;
+    private final int screenshotQueueCapacity;
+    private final int screenshotMaxWidth;
+    private final int screenshotQuality;
+    private final int screenshotDedupDistance;
+
+    private ConfigManager(Map<String, String> properties) {
+        this.properties = Collections.unmodifiableMap(properties);
+
+        List<String> errors = new ArrayList<>();
+        this.browser = getProperty("browser", "chrome");
+        this.headless = Boolean.parseBoolean(getProperty("headless", "false"));
+        this.baseUrl = parseUrl("base.url", errors);
+        this.apiBaseUrl = properties.containsKey("api.base.url") ? parseUrl("api.base.url", errors) : baseUrl;
+        this.apiTimeout = Duration.ofMillis(parseInt("api.timeout.ms", 10000, errors));
+        this.apiSeedParallelism = parseInt("api.seed.parallelism", 8, errors);
+        if (apiSeedParallelism < 1) {
+            errors.add("property 'api.seed.parallelism' must be positive: " + apiSeedParallelism);
+        }
+        this.implicitWait = Duration.ofSeconds(parseInt("implicit.wait", null, errors));
+        this.explicitWait = Duration.ofSeconds(parseInt("explicit.wait", null, errors));
+        this.pageLoadTimeout = Duration.ofSeconds(parseInt("page.load.timeout", null, errors));
+        this.waitPollInitial = Duration.ofMillis(parseInt("wait.poll.initial.ms", 50, errors));
+        this.waitPollMax = Duration.ofMillis(parseInt("wait.poll.max.ms", 500, errors));
+        this.domQuietPeriod = Duration.ofMillis(parseInt("wait.dom.quiet.ms", 300, errors));
+        this.networkQuietPeriod = Duration.ofMillis(parseInt("wait.network.quiet.ms", 500, errors));
+        if (waitPollInitial.isNegative() || waitPollInitial.isZero() || waitPollMax.compareTo(waitPollInitial) < 0) {
+            errors.add("properties 'wait.poll.initial.ms' and 'wait.poll.max.ms' must satisfy 0 < initial <= max");
+        }
+        this.driverPoolEnabled = Boolean.parseBoolean(getProperty("driver.pool.enabled", "false"));
+        this.driverPoolSize = parseInt("driver.pool.size", 2, errors);
+        this.driverPoolWarmUp = parseInt("driver.pool.warmup", 0, errors);
+        this.driverPoolMaxReuse = parseInt("driver.pool.max.reuse", 20, errors);
+        this.sessionCacheEnabled = Boolean.parseBoolean(getProperty("session.cache.enabled", "true"));
+        this.driverMetricsEnabled = Boolean.parseBoolean(getProperty("metrics.driver.enabled", "true"));
+        this.roundTripBudgetMode = getProperty("roundtrip.budget.mode", "fail").trim().toLowerCase(Locale.ROOT);
+        if (!ROUND_TRIP_BUDGET_MODES.contains(roundTripBudgetMode)) {
+            errors.add("property 'roundtrip.budget.mode' must be one of " + ROUND_TRIP_BUDGET_MODES + ": "
+                    + roundTripBudgetMode);
+        }
+        this.parallelMode = getProperty("parallel.mode", "none").trim().toLowerCase(Locale.ROOT);
+        if (!PARALLEL_MODES.contains(parallelMode)) {
+            errors.add("property 'parallel.mode' must be one of " + PARALLEL_MODES + ": " + parallelMode);
+        }
+        this.parallelThreadCount = parseInt("parallel.thread.count", driverPoolSize, errors);
+        if (parallelThreadCount < 1) {
+            errors.add("property 'parallel.thread.count' must be positive: " + parallelThreadCount);
+        }
+        this.screenshotThreads = parseInt("screenshot.threads", 2, errors);
+        this.screenshotQueueCapacity = parseInt("screenshot.queue.capacity", 32, errors);
+        this.screenshotMaxWidth = parseInt("screenshot.max.width", 1280, errors);
+        this.screenshotQuality = parseInt("screenshot.quality", 80, errors);
+        this.screenshotDedupDistance = parseInt("screenshot.dedup.distance", 0, errors);
+        if (screenshotQuality < 1 || screenshotQuality > 100) {
+            errors.add("property 'screenshot.quality' must be between 1 and 100: " + screenshotQuality);
+        }
+
+        if (!errors.isEmpty()) {
+            errors.forEach(error -> logger.error("Invalid configuration: {}", error));
+            throw new RuntimeException("Invalid configuration: " + String.join("; ", errors));
+        }
+    }
+
+    public static ConfigManager getInstance() {
+        return Holder.CURRENT.get();
+    }
+
+    /**
+     * Yapılandırmayı dosyadan ve geçersiz kılma katmanlarından yeniden yükler ve yeni görüntüyü yayınlar.
+     * Daha önce getInstance() ile alınmış görüntüler değişmez.
+     *
+     * @return Yeni yapılandırma görüntüsü
+     */
+    public static ConfigManager reload() {
+        ConfigManager snapshot = load();
+        Holder.CURRENT.set(snapshot);
+        return snapshot;
+    }
+
+    private static ConfigManager load() {
+        Properties fileProperties = new Properties();
         try (FileInputStream fis = new FileInputStream(CONFIG_FILE)) {
-            properties.load(fis);
+            fileProperties.load(fis);
             logger.info("Configuration loaded successfully from {}", CONFIG_FILE);
         } catch (IOException e) {
             logger.error("Failed to load configuration from {}: {}", CONFIG_FILE, e.getMessage());
             throw new RuntimeException("Failed to load configuration", e);
         }
+
+        Map<String, String> merged = new HashMap<>();
+        for (String key : fileProperties.stringPropertyNames()) {
+            merged.put(key, fileProperties.getProperty(key));
+        }
+        applyOverrides(merged, System.getenv(), System.getProperties());
+        return new ConfigManager(merged);
+    }
+
+    /**
+     * Dosyadaki ve görüntünün okuduğu tüm anahtarları ERP_ önekli ortam değişkenleri ve ardından sistem
+     * özellikleriyle geçersiz kılar. Dosyada bulunmayan anahtarlar da bu katmanlardan eklenebilir; öneksiz ortam
+     * değişkenleri (ör. USERNAME) dikkate alınmaz.
+     *
+     * @param merged Birleştirilmiş özellikler
+     * @param environment Ortam değişkenleri
+     * @param systemProperties Sistem özellikleri
+     */
+    static void applyOverrides(Map<String, String> merged, Map<String, String> environment,
+                               Properties systemProperties) {
+        LinkedHashSet<String> keys = new LinkedHashSet<>(merged.keySet());
+        keys.addAll(KNOWN_KEYS);
+        for (String key : keys) {
+            String envValue = environment.get(toEnvironmentName(key));
+            if (envValue != null) {
+                merged.put(key, envValue);
+                logger.debug("Property '{}' overridden by environment variable", key);
+            }
+            String systemValue = systemProperties.getProperty(key);
+            if (systemValue != null) {
+                merged.put(key, systemValue);
+                logger.debug("Property '{}' overridden by system property", key);
+            }
+        }
+    }
+
+    private static String toEnvironmentName(String key) {
+        return ENVIRONMENT_PREFIX + key.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_');
+    }
+
+    private int parseInt(String key, Integer defaultValue, List<String> errors) {
+        String value = properties.get(key);
+        if (value == null || value.trim().isEmpty()) {
+            if (defaultValue == null) {
+                errors.add("missing required property '" + key + "'");
+                return 0;
+            }
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            errors.add("property '" + key + "' is not an integer: " + value);
+            return 0;
+        }
     }
 
-    public static synchronized ConfigManager getInstance() {
-        if (instance == null) {
-            instance = new ConfigManager();
+    private String parseUrl(String key, List<String> errors) {
+        String value = properties.get(key);
+        if (value == null || value.trim().isEmpty()) {
+            errors.add("missing required property '" + key + "'");
+            return null;
         }
-        return instance;
+        try {
+            URI uri = new URI(value.trim());
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                errors.add("property '" + key + "' is not an absolute URL: " + value);
+            }
+        } catch (URISyntaxException e) {
+            errors.add("property '" + key + "' is not a valid URL: " + value);
+        }
+        return value.trim();
     }
 
     public String getProperty(String key) {
-        String value = properties.getProperty(key);
+        String value = properties.get(key);
         if (value == null) {
             logger.warn("Property '{}' not found in configuration", key);
         }
@@ -44,7 +239,7 @@ public class ConfigManager {
     }
 
     public String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return properties.getOrDefault(key, defaultValue);
     }
 
     public int getIntProperty(String key) {
@@ -57,6 +252,19 @@ public class ConfigManager {
         }
     }
 
+    public int getIntProperty(String key, int defaultValue) {
+        String value = properties.get(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.error("Failed to parse property '{}' as integer: {}", key, e.getMessage());
+            throw new RuntimeException("Failed to parse property as integer", e);
+        }
+    }
+
     public boolean getBooleanProperty(String key) {
         String value = getProperty(key);
         return Boolean.parseBoolean(value);
@@ -64,27 +272,71 @@ public class ConfigManager {
 
     // Convenience methods for common properties
     public String getBrowser() {
-        return getProperty("browser", "chrome");
+        return browser;
     }
 
     public boolean isHeadless() {
-        return getBooleanProperty("headless");
+        return headless;
     }
 
     public String getBaseUrl() {
-        return getProperty("base.url");
+        return baseUrl;
+    }
+
+    public String getApiBaseUrl() {
+        return apiBaseUrl;
+    }
+
+    public String getApiInvoicePath() {
+        return getProperty("api.invoice.path", "/api/finance/invoices");
+    }
+
+    public Duration getApiTimeout() {
+        return apiTimeout;
+    }
+
+    public int getApiSeedParallelism() {
+        return apiSeedParallelism;
     }
 
     public int getImplicitWait() {
-        return getIntProperty("implicit.wait");
+        return (int) implicitWait.getSeconds();
+    }
+
+    public Duration getImplicitWaitDuration() {
+        return implicitWait;
     }
 
     public int getExplicitWait() {
-        return getIntProperty("explicit.wait");
+        return (int) explicitWait.getSeconds();
+    }
+
+    public Duration getExplicitWaitDuration() {
+        return explicitWait;
     }
 
     public int getPageLoadTimeout() {
-        return getIntProperty("page.load.timeout");
+        return (int) pageLoadTimeout.getSeconds();
+    }
+
+    public Duration getPageLoadTimeoutDuration() {
+        return pageLoadTimeout;
+    }
+
+    public Duration getWaitPollInitial() {
+        return waitPollInitial;
+    }
+
+    public Duration getWaitPollMax() {
+        return waitPollMax;
+    }
+
+    public Duration getDomQuietPeriod() {
+        return domQuietPeriod;
+    }
+
+    public Duration getNetworkQuietPeriod() {
+        return networkQuietPeriod;
     }
 
     public String getUsername() {
@@ -99,6 +351,18 @@ public class ConfigManager {
         return getProperty("company");
     }
 
+    public boolean isSessionCacheEnabled() {
+        return sessionCacheEnabled;
+    }
+
+    public boolean isDriverMetricsEnabled() {
+        return driverMetricsEnabled;
+    }
+
+    public String getRoundTripBudgetMode() {
+        return roundTripBudgetMode;
+    }
+
     public String getEnvironment() {
         return getProperty("environment", "test");
     }
@@ -114,4 +378,63 @@ public class ConfigManager {
     public String getScreenshotPath() {
         return getProperty("screenshot.path");
     }
+
+    public String getTestDurationHistoryPath() {
+        return getProperty("test.duration.history", "test-durations.json");
+    }
+
+    public boolean isDriverPoolEnabled() {
+        return driverPoolEnabled;
+    }
+
+    public int getDriverPoolSize() {
+        return driverPoolSize;
+    }
+
+    public int getDriverPoolWarmUp() {
+        return driverPoolWarmUp;
+    }
+
+    public int getDriverPoolMaxReuse() {
+        return driverPoolMaxReuse;
+    }
+
+    public String getParallelMode() {
+        return parallelMode;
+    }
+
+    public boolean isParallelEnabled() {
+        return !"none".equals(parallelMode);
+    }
+
+    public int getParallelThreadCount() {
+        return parallelThreadCount;
+    }
+
+    public int getScreenshotThreads() {
+        return screenshotThreads;
+    }
+
+    public int getScreenshotQueueCapacity() {
+        return screenshotQueueCapacity;
+    }
+
+    public int getScreenshotMaxWidth() {
+        return screenshotMaxWidth;
+    }
+
+    public int getScreenshotQuality() {
+        return screenshotQuality;
+    }
+
+    public int getScreenshotDedupDistance() {
+        return screenshotDedupDistance;
+    }
+
+    /**
+     * Güncel yapılandırma görüntüsünü tutar. İlk erişimde sınıf yükleme sırasında bir kez yüklenir.
+     */
+    private static final class Holder {
+        private static final AtomicReference<ConfigManager> CURRENT = new AtomicReference<>(load());
+    }
 }
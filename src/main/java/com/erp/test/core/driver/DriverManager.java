@@ -1,6 +1,7 @@
 package com.erp.test.core.driver;
 
 import com.erp.test.core.config.ConfigManager;
+import com.erp.test.core.metrics.DriverMetrics;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
@@ -14,6 +15,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * WebDriver'ı yöneten sınıf.
@@ -22,6 +25,9 @@ import java.time.Duration;
 public class DriverManager {
     private static final Logger logger = LoggerFactory.getLogger(DriverManager.class);
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
+    // Paralel çalışmada suite sonunda serbest bırakılmamış sürücüleri bulabilmek için tüm thread'lerin sürücüleri
+    private static final Map<Thread, WebDriver> activeDrivers = new ConcurrentHashMap<>();
+    private static volatile DriverPool driverPool;
 
     private DriverManager() {
         // Utility class, no instances
@@ -41,9 +47,41 @@ public class DriverManager {
     }
 
     /**
-     * Yeni bir WebDriver oluşturur ve yapılandırır.
+     * Mevcut thread için bir WebDriver atar.
+     * Sürücü havuzu etkinse havuzdan bir oturum alınır, değilse yeni bir tarayıcı başlatılır.
      */
     public static void initDriver() {
+        WebDriver driver = ConfigManager.getInstance().isDriverPoolEnabled()
+                ? getPool().checkout()
+                : createDriver();
+        driverThreadLocal.set(driver);
+        activeDrivers.put(Thread.currentThread(), driver);
+        logger.info("WebDriver initialized successfully");
+    }
+
+    /**
+     * Mevcut thread'e dışarıda oluşturulmuş bir WebDriver atar. Sayfa nesnelerini tarayıcı başlatmadan, örneğin
+     * bellekteki bir DOM üzerinde çalışan bir sürücüyle test etmek için kullanılır.
+     * Atanan sürücü {@link #quitDriver()} ya da {@link #releaseDriver()} ile kapatılır.
+     *
+     * @param driver Mevcut thread'in kullanacağı WebDriver
+     * @throws IllegalStateException Thread'in zaten bir sürücüsü varsa
+     */
+    public static void setDriver(WebDriver driver) {
+        if (driverThreadLocal.get() != null) {
+            throw new IllegalStateException("Current thread already has a WebDriver, quit it first");
+        }
+        driverThreadLocal.set(driver);
+        activeDrivers.put(Thread.currentThread(), driver);
+        logger.info("WebDriver set for current thread: {}", driver.getClass().getSimpleName());
+    }
+
+    /**
+     * Yeni bir WebDriver oluşturur ve yapılandırır.
+     *
+     * @return Yapılandırılmış WebDriver instance
+     */
+    static WebDriver createDriver() {
         WebDriver driver;
         String browser = ConfigManager.getInstance().getBrowser().toLowerCase();
         boolean headless = ConfigManager.getInstance().isHeadless();
@@ -90,19 +128,100 @@ public class DriverManager {
         }
         
         // Configure timeouts
-        int implicitWait = ConfigManager.getInstance().getImplicitWait();
-        int pageLoadTimeout = ConfigManager.getInstance().getPageLoadTimeout();
+        ConfigManager config = ConfigManager.getInstance();
         
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicitWait));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(pageLoadTimeout));
+        driver.manage().timeouts().implicitlyWait(config.getImplicitWaitDuration());
+        driver.manage().timeouts().pageLoadTimeout(config.getPageLoadTimeoutDuration());
         driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(30));
         
         if (!headless) {
             driver.manage().window().maximize();
         }
         
-        driverThreadLocal.set(driver);
-        logger.info("WebDriver initialized successfully");
+        // Komut gecikmelerini ölçmek için sürücü sarılır
+        return DriverMetrics.getInstance().instrument(driver);
+    }
+
+    /**
+     * Sürücü havuzunu döndürür, henüz oluşturulmamışsa oluşturur.
+     *
+     * @return DriverPool instance
+     */
+    private static DriverPool getPool() {
+        if (driverPool == null) {
+            synchronized (DriverManager.class) {
+                if (driverPool == null) {
+                    driverPool = DriverPool.fromConfig(DriverManager::createDriver);
+                }
+            }
+        }
+        return driverPool;
+    }
+
+    /**
+     * Sürücü havuzu etkinse yapılandırılan sayıda tarayıcıyı arka planda başlatır.
+     * Suite başlangıcında çağrılması amaçlanmıştır.
+     */
+    public static void warmUpPool() {
+        ConfigManager config = ConfigManager.getInstance();
+        if (config.isDriverPoolEnabled()) {
+            getPool().warmUp(config.getDriverPoolWarmUp());
+        }
+    }
+
+    /**
+     * Mevcut thread'in WebDriver'ını serbest bırakır.
+     * Sürücü havuzu etkinse oturum temizlenerek havuza geri verilir, değilse kapatılır.
+     */
+    public static void releaseDriver() {
+        WebDriver driver = driverThreadLocal.get();
+        if (driver == null) {
+            return;
+        }
+        if (driverPool != null && ConfigManager.getInstance().isDriverPoolEnabled()) {
+            logger.info("Returning WebDriver to pool");
+            driverThreadLocal.remove();
+            activeDrivers.remove(Thread.currentThread());
+            driverPool.release(driver);
+        } else {
+            quitDriver();
+        }
+    }
+
+    /**
+     * Diğer thread'lerde açık kalmış tüm sürücüleri serbest bırakır.
+     * Paralel çalışmada işçi thread'lerin sürücülerinin sızmaması için suite sonunda çağrılması amaçlanmıştır.
+     */
+    public static void releaseAllDrivers() {
+        for (Map.Entry<Thread, WebDriver> entry : activeDrivers.entrySet()) {
+            if (!activeDrivers.remove(entry.getKey(), entry.getValue())) {
+                continue;
+            }
+            logger.info("Releasing WebDriver left open by thread {}", entry.getKey().getName());
+            try {
+                if (driverPool != null && ConfigManager.getInstance().isDriverPoolEnabled()) {
+                    driverPool.release(entry.getValue());
+                } else {
+                    entry.getValue().quit();
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to release WebDriver of thread {}: {}", entry.getKey().getName(), e.getMessage());
+            }
+        }
+        driverThreadLocal.remove();
+    }
+
+    /**
+     * Sürücü havuzunu kapatır ve boşta olan tüm tarayıcıları sonlandırır.
+     * Suite sonunda çağrılması amaçlanmıştır.
+     */
+    public static void shutdownPool() {
+        synchronized (DriverManager.class) {
+            if (driverPool != null) {
+                driverPool.shutdown();
+                driverPool = null;
+            }
+        }
     }
 
     /**
@@ -112,8 +231,13 @@ public class DriverManager {
         WebDriver driver = driverThreadLocal.get();
         if (driver != null) {
             logger.info("Quitting WebDriver");
-            driver.quit();
             driverThreadLocal.remove();
+            activeDrivers.remove(Thread.currentThread());
+            if (driverPool != null) {
+                driverPool.invalidate(driver);
+            } else {
+                driver.quit();
+            }
         }
     }
 }
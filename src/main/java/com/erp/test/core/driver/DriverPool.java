@@ -0,0 +1,271 @@
+package com.erp.test.core.driver;
+
+import com.erp.test.core.config.ConfigManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Önceden başlatılmış WebDriver oturumlarını yöneten sınırlı havuz.
+ * Tarayıcılar her test sınıfında kapatılıp açılmak yerine havuzdan alınır ve havuza geri verilir.
+ */
+public class DriverPool {
+    private static final Logger logger = LoggerFactory.getLogger(DriverPool.class);
+    private static final long CHECKOUT_TIMEOUT_MINUTES = 5;
+    private static final long WAIT_SLICE_MILLIS = 200;
+
+    private final Supplier<WebDriver> driverFactory;
+    private final int maxSize;
+    private final int maxReuse;
+    private final Semaphore capacity;
+    private final LinkedBlockingDeque<WebDriver> idleDrivers = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, Integer> usageCounts = new ConcurrentHashMap<>();
+    private final ExecutorService warmUpExecutor;
+    private volatile boolean shutdown;
+
+    /**
+     * Sürücü havuzu constructor'ı.
+     *
+     * @param driverFactory Yeni WebDriver oluşturan fabrika
+     * @param maxSize Havuzdaki en fazla oturum sayısı
+     * @param maxReuse Bir oturumun yeniden oluşturulmadan önce kaç kez kullanılabileceği
+     */
+    public DriverPool(Supplier<WebDriver> driverFactory, int maxSize, int maxReuse) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Driver pool size must be at least 1: " + maxSize);
+        }
+        this.driverFactory = driverFactory;
+        this.maxSize = maxSize;
+        this.maxReuse = Math.max(1, maxReuse);
+        this.capacity = new Semaphore(maxSize, true);
+        this.warmUpExecutor = Executors.newFixedThreadPool(maxSize, runnable -> {
+            Thread thread = new Thread(runnable, "driver-pool-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Yapılandırma dosyasındaki ayarlarla bir havuz oluşturur.
+     *
+     * @param driverFactory Yeni WebDriver oluşturan fabrika
+     * @return DriverPool instance
+     */
+    public static DriverPool fromConfig(Supplier<WebDriver> driverFactory) {
+        ConfigManager config = ConfigManager.getInstance();
+        return new DriverPool(driverFactory, config.getDriverPoolSize(), config.getDriverPoolMaxReuse());
+    }
+
+    /**
+     * Belirtilen sayıda tarayıcıyı arka planda başlatır.
+     *
+     * @param count Önceden başlatılacak oturum sayısı
+     */
+    public void warmUp(int count) {
+        int target = Math.min(count, maxSize);
+        logger.info("Warming up {} WebDriver session(s) in background", target);
+
+        for (int i = 0; i < target; i++) {
+            warmUpExecutor.submit(() -> {
+                if (shutdown || !capacity.tryAcquire()) {
+                    return;
+                }
+                try {
+                    WebDriver driver = driverFactory.get();
+                    usageCounts.put(driver, 0);
+                    idleDrivers.offerLast(driver);
+                    logger.debug("Pre-warmed WebDriver session added to pool");
+                } catch (RuntimeException e) {
+                    capacity.release();
+                    logger.error("Failed to pre-warm WebDriver session", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Havuzdan bir WebDriver alır.
+     * Boşta oturum yoksa ve kapasite varsa yeni bir oturum oluşturur, aksi halde bir oturumun geri verilmesini bekler.
+     * Bekleme kısa aralıklarla yapılır; böylece başka bir iş parçacığı oturumu kapatıp kapasite açtığında da
+     * yeni oturum oluşturulabilir.
+     *
+     * @return WebDriver instance
+     */
+    public WebDriver checkout() {
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(CHECKOUT_TIMEOUT_MINUTES);
+        while (true) {
+            if (shutdown) {
+                throw new IllegalStateException("Driver pool is shut down");
+            }
+            WebDriver driver = idleDrivers.pollFirst();
+            if (driver != null) {
+                if (isHealthy(driver)) {
+                    logger.debug("Checked out pooled WebDriver session");
+                    return driver;
+                }
+                logger.warn("Pooled WebDriver session failed health check, recycling");
+                discard(driver);
+                continue;
+            }
+
+            if (capacity.tryAcquire()) {
+                try {
+                    WebDriver created = driverFactory.get();
+                    usageCounts.put(created, 0);
+                    logger.debug("Created new WebDriver session for pool");
+                    return created;
+                } catch (RuntimeException e) {
+                    capacity.release();
+                    throw e;
+                }
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                logger.error("No WebDriver session became available within {} minutes", CHECKOUT_TIMEOUT_MINUTES);
+                throw new IllegalStateException("Timed out waiting for a pooled WebDriver");
+            }
+            try {
+                // Geri verilen oturumu bekler; süre dolunca döngü başa döner ve serbest kalan kapasiteyi de dener
+                driver = idleDrivers.pollFirst(
+                        Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(WAIT_SLICE_MILLIS)), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a pooled WebDriver", e);
+            }
+            if (driver != null) {
+                idleDrivers.offerFirst(driver);
+            }
+        }
+    }
+
+    /**
+     * WebDriver'ı havuza geri verir.
+     * Oturumun durumu temizlenir; kullanım sınırı aşılmışsa veya temizlik başarısız olursa oturum kapatılır.
+     *
+     * @param driver Geri verilecek WebDriver
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+
+        int uses = usageCounts.merge(driver, 1, Integer::sum);
+        if (shutdown || uses >= maxReuse) {
+            logger.info("Recycling WebDriver session after {} use(s)", uses);
+            discard(driver);
+            return;
+        }
+
+        if (!resetState(driver)) {
+            logger.warn("Failed to reset WebDriver session state, recycling");
+            discard(driver);
+            return;
+        }
+
+        idleDrivers.offerLast(driver);
+        logger.debug("Returned WebDriver session to pool ({} use(s))", uses);
+    }
+
+    /**
+     * Havuzu kapatır ve boşta olan tüm oturumları sonlandırır.
+     */
+    public void shutdown() {
+        shutdown = true;
+        warmUpExecutor.shutdownNow();
+        logger.info("Shutting down driver pool");
+
+        WebDriver driver;
+        while ((driver = idleDrivers.pollFirst()) != null) {
+            discard(driver);
+        }
+    }
+
+    /**
+     * Havuza ait bir oturumu geri vermek yerine kapatır ve kapasitesini serbest bırakır.
+     *
+     * @param driver Kapatılacak WebDriver
+     */
+    public void invalidate(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        if (usageCounts.containsKey(driver)) {
+            discard(driver);
+        } else {
+            driver.quit();
+        }
+    }
+
+    /**
+     * Oturumu kapatır ve kapasitesini serbest bırakır.
+     *
+     * @param driver Kapatılacak WebDriver
+     */
+    private void discard(WebDriver driver) {
+        usageCounts.remove(driver);
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            logger.debug("Error while quitting WebDriver session: {}", e.getMessage());
+        } finally {
+            capacity.release();
+        }
+    }
+
+    /**
+     * Oturumun hala yanıt verip vermediğini kontrol eder.
+     *
+     * @param driver Kontrol edilecek WebDriver
+     * @return Oturum kullanılabilir ise true
+     */
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Çerezleri, web depolamasını ve fazladan açılmış sekmeleri temizler.
+     *
+     * @param driver Temizlenecek WebDriver
+     * @return Temizlik başarılı ise true
+     */
+    private boolean resetState(WebDriver driver) {
+        try {
+            String mainHandle = null;
+            for (String handle : driver.getWindowHandles()) {
+                if (mainHandle == null) {
+                    mainHandle = handle;
+                } else {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            if (mainHandle != null) {
+                driver.switchTo().window(mainHandle);
+            }
+
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.get("about:blank");
+            return true;
+        } catch (RuntimeException e) {
+            logger.debug("WebDriver state reset failed: {}", e.getMessage());
+            return false;
+        }
+    }
+}
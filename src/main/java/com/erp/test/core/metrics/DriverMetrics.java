@@ -0,0 +1,254 @@
+package com.erp.test.core.metrics;
+
+import com.erp.test.core.config.ConfigManager;
+import com.erp.test.core.page.BasePage;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * WebDriver komutlarının gecikmelerini toplayan sınıf.
+ * Sürücüler bir olay dinleyicisiyle sarılır; her komutun süresi komut adına göre, komutu çağıran sayfa nesnesine
+ * göre ve o sırada çalışan teste göre ayrı histogramlara yazılır. Suite sonunda özet JSON ve CSV olarak dışa aktarılır.
+ */
+public final class DriverMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(DriverMetrics.class);
+    private static final DriverMetrics INSTANCE = new DriverMetrics();
+    private static final String NO_PAGE = "-";
+    private static final String NO_TEST = "-";
+    private static final String SEPARATOR = "\u0000";
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private final ConcurrentMap<String, LatencyHistogram> byCommand = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> byPage = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> byTest = new ConcurrentHashMap<>();
+    private final ThreadLocal<String> currentTest = new ThreadLocal<>();
+    // Thread başına [gönderilen komut sayısı, sayımın askıya alındığı iç içe blok sayısı]
+    private final ThreadLocal<long[]> roundTrips = ThreadLocal.withInitial(() -> new long[2]);
+
+    private DriverMetrics() {
+    }
+
+    public static DriverMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Sürücüyü komut sürelerini ölçen bir dinleyiciyle sarar. Ölçüm kapalıysa sürücü olduğu gibi döndürülür.
+     *
+     * @param driver Sarılacak WebDriver
+     * @return Ölçüm yapan WebDriver
+     */
+    public WebDriver instrument(WebDriver driver) {
+        if (!ConfigManager.getInstance().isDriverMetricsEnabled()) {
+            return driver;
+        }
+        return new EventFiringDecorator<>(new LatencyListener(this)).decorate(driver);
+    }
+
+    /**
+     * Mevcut thread'de çalışan testi belirler. Bu thread'deki sonraki komutlar bu teste yazılır.
+     *
+     * @param testName Test adı
+     */
+    public void startTest(String testName) {
+        currentTest.set(testName);
+    }
+
+    /**
+     * Mevcut thread'deki test bilgisini temizler.
+     */
+    public void endTest() {
+        currentTest.remove();
+    }
+
+    /**
+     * Mevcut thread'in şimdiye kadar tarayıcıya gönderdiği komut sayısını döndürür.
+     * İki okuma arasındaki fark, aradaki işlemin kaç gidiş-dönüş yaptığını verir.
+     *
+     * @return Komut sayısı
+     */
+    public long getRoundTrips() {
+        return roundTrips.get()[0];
+    }
+
+    /**
+     * İşlemi, gönderdiği komutlar gidiş-dönüş sayısına eklenmeden çalıştırır. Süreleri yine kaydedilir.
+     * Sayısı zamanlamaya bağlı olan bekleme yoklamalarının bütçeleri kararsızlaştırmaması için kullanılır.
+     *
+     * @param action Çalıştırılacak işlem
+     * @param <T> Dönüş tipi
+     * @return İşlemin sonucu
+     */
+    public <T> T withoutRoundTripCounting(Supplier<T> action) {
+        long[] counter = roundTrips.get();
+        counter[1]++;
+        try {
+            return action.get();
+        } finally {
+            counter[1]--;
+        }
+    }
+
+    /**
+     * Bir komutun süresini kaydeder.
+     *
+     * @param command Komut adı
+     * @param nanos Süre (nanosaniye)
+     */
+    void record(String command, long nanos) {
+        long[] counter = roundTrips.get();
+        if (counter[1] == 0) {
+            counter[0]++;
+        }
+        String test = currentTest.get();
+        byCommand.computeIfAbsent(command, key -> new LatencyHistogram()).record(nanos);
+        byPage.computeIfAbsent(callingPage() + SEPARATOR + command, key -> new LatencyHistogram()).record(nanos);
+        byTest.computeIfAbsent((test == null ? NO_TEST : test) + SEPARATOR + command, key -> new LatencyHistogram())
+                .record(nanos);
+    }
+
+    /**
+     * Özeti yapılandırılan rapor dizinine driver-latency.json ve driver-latency.csv olarak yazar.
+     *
+     * @return JSON özet dosyasının yolu, hiç ölçüm yoksa null
+     */
+    public Path export() {
+        if (byCommand.isEmpty()) {
+            logger.info("No WebDriver commands recorded, skipping latency export");
+            return null;
+        }
+        Path directory = Paths.get(ConfigManager.getInstance().getReportPath());
+        Path json = directory.resolve("driver-latency.json");
+        try {
+            Files.createDirectories(directory);
+            Files.write(json, toJson().toString(2).getBytes(StandardCharsets.UTF_8));
+            Files.write(directory.resolve("driver-latency.csv"), toCsv().getBytes(StandardCharsets.UTF_8));
+            logger.info("WebDriver latency summary written to {}", json);
+            return json;
+        } catch (IOException e) {
+            logger.error("Failed to write WebDriver latency summary to {}", directory, e);
+            return null;
+        }
+    }
+
+    /**
+     * Özeti JSON olarak döndürür.
+     *
+     * @return Komut, sayfa ve test bazında özet
+     */
+    public JSONObject toJson() {
+        JSONObject summary = new JSONObject();
+        summary.put("commands", toJson(byCommand, null));
+        summary.put("pages", toJson(byPage, "page"));
+        summary.put("tests", toJson(byTest, "test"));
+        return summary;
+    }
+
+    /**
+     * Özeti CSV olarak döndürür. Her satır bir kapsamın (command, page, test) bir komutunu özetler.
+     *
+     * @return CSV metni
+     */
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder("scope,name,command,count,total_ms,mean_ms,p50_ms,p90_ms,p99_ms,max_ms\n");
+        appendCsv(csv, "command", byCommand, false);
+        appendCsv(csv, "page", byPage, true);
+        appendCsv(csv, "test", byTest, true);
+        return csv.toString();
+    }
+
+    /**
+     * Tüm ölçümleri temizler.
+     */
+    public void reset() {
+        byCommand.clear();
+        byPage.clear();
+        byTest.clear();
+    }
+
+    private static JSONArray toJson(Map<String, LatencyHistogram> histograms, String scope) {
+        JSONArray rows = new JSONArray();
+        new TreeMap<>(histograms).forEach((key, histogram) -> {
+            JSONObject row = new JSONObject();
+            if (scope == null) {
+                row.put("command", key);
+            } else {
+                String[] parts = key.split(SEPARATOR, 2);
+                row.put(scope, parts[0]);
+                row.put("command", parts[1]);
+            }
+            row.put("count", histogram.getCount());
+            row.put("totalMs", round(histogram.getTotalMillis()));
+            row.put("meanMs", round(histogram.getMeanMillis()));
+            for (double percentile : PERCENTILES) {
+                row.put("p" + (int) percentile + "Ms", round(histogram.getPercentileMillis(percentile)));
+            }
+            row.put("maxMs", round(histogram.getMaxMillis()));
+            rows.put(row);
+        });
+        return rows;
+    }
+
+    private static void appendCsv(StringBuilder csv, String scope, Map<String, LatencyHistogram> histograms,
+                                  boolean scoped) {
+        new TreeMap<>(histograms).forEach((key, histogram) -> {
+            String[] parts = scoped ? key.split(SEPARATOR, 2) : new String[]{"", key};
+            csv.append(scope).append(',').append(csvValue(parts[0])).append(',').append(csvValue(parts[1]))
+                    .append(',').append(histogram.getCount())
+                    .append(',').append(format(histogram.getTotalMillis()))
+                    .append(',').append(format(histogram.getMeanMillis()));
+            for (double percentile : PERCENTILES) {
+                csv.append(',').append(format(histogram.getPercentileMillis(percentile)));
+            }
+            csv.append(',').append(format(histogram.getMaxMillis())).append('\n');
+        });
+    }
+
+    /**
+     * Komutu çağıran sayfa nesnesinin adını çağrı yığınından bulur.
+     * BasePage'in kendi metotları atlanır, böylece ortak yardımcılar üzerinden gelen komutlar da doğru sayfaya yazılır.
+     *
+     * @return Sayfa sınıfının adı, komut bir sayfa nesnesinden gelmiyorsa "-"
+     */
+    private static String callingPage() {
+        Optional<Class<?>> page = STACK_WALKER.walk(frames -> frames
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .filter(type -> type != BasePage.class && BasePage.class.isAssignableFrom(type))
+                .findFirst());
+        return page.map(Class::getSimpleName).orElse(NO_PAGE);
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 1000) / 1000.0;
+    }
+
+    private static String format(double millis) {
+        return String.format(Locale.ROOT, "%.3f", millis);
+    }
+
+    private static String csvValue(String value) {
+        if (value.contains(",") || value.contains("\"")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,118 @@
+package com.erp.test.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gecikmeleri logaritmik-doğrusal kovalarda tutan, kilitsiz histogram.
+ * Her ikinin kuvveti aralığı 16 eşit kovaya bölünür; böylece yüzdelik değerler en fazla %6,25 hatayla,
+ * değerin büyüklüğünden bağımsız olarak sabit bellekle hesaplanır. Kayıt bir dizi indeksi hesaplamak ve
+ * atomik artırmadan ibarettir.
+ * Değerler mikrosaniye çözünürlüğünde tutulur; 2^36 mikrosaniyeden (yaklaşık 19 saat) uzun süreler son kovaya yazılır.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 36;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Bir ölçümü kaydeder.
+     *
+     * @param nanos Süre (nanosaniye)
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        counts.incrementAndGet(bucketIndex(micros));
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Ölçümlerin toplam süresini döndürür.
+     *
+     * @return Toplam süre (milisaniye)
+     */
+    public double getTotalMillis() {
+        return totalMicros.sum() / 1000.0;
+    }
+
+    /**
+     * Ortalama süreyi döndürür.
+     *
+     * @return Ortalama süre (milisaniye), ölçüm yoksa 0
+     */
+    public double getMeanMillis() {
+        long n = count.sum();
+        return n == 0 ? 0 : totalMicros.sum() / 1000.0 / n;
+    }
+
+    /**
+     * Ölçülen en uzun süreyi döndürür.
+     *
+     * @return En uzun süre (milisaniye)
+     */
+    public double getMaxMillis() {
+        return maxMicros.get() / 1000.0;
+    }
+
+    /**
+     * Yüzdelik değeri döndürür. Değer, ölçümün düştüğü kovanın üst sınırıdır ve en uzun süreyi aşmaz.
+     *
+     * @param percentile 0-100 arası yüzdelik
+     * @return Süre (milisaniye), ölçüm yoksa 0
+     */
+    public double getPercentileMillis(double percentile) {
+        long n = count.sum();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), maxMicros.get()) / 1000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros);
+        if (magnitude > MAX_MAGNITUDE) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (micros >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        if (index == BUCKET_COUNT - 1) {
+            // Son kova taşan tüm değerleri içerir; üst sınırı yoktur
+            return Long.MAX_VALUE;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,56 @@
+package com.erp.test.core.metrics;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * WebDriver ve WebElement çağrılarının süresini ölçen dinleyici.
+ * Tarayıcıya istek göndermeyen yardımcı çağrılar (manage, navigate, switchTo gibi) ölçülmez.
+ */
+class LatencyListener implements WebDriverListener {
+    private static final Set<String> IGNORED_METHODS = new HashSet<>(Arrays.asList(
+            "manage", "navigate", "switchTo", "timeouts", "window", "logs",
+            "getWrappedDriver", "getWrappedElement", "toString", "hashCode", "equals"));
+
+    private final DriverMetrics metrics;
+    // İç içe çağrılar için başlangıç zamanları yığını
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    LatencyListener(DriverMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!IGNORED_METHODS.contains(method.getName())) {
+            startTimes.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+    }
+
+    private void finish(Method method) {
+        if (IGNORED_METHODS.contains(method.getName())) {
+            return;
+        }
+        Long start = startTimes.get().poll();
+        if (start != null) {
+            metrics.record(method.getName(), System.nanoTime() - start);
+        }
+    }
+}
@@ -2,8 +2,8 @@ package com.erp.test.core.page;
 
 import com.erp.test.core.config.ConfigManager;
 import com.erp.test.core.driver.DriverManager;
-import com.erp.test.core.reporting.ExtentReportManager;
-import org.apache.commons.io.FileUtils;
+import com.erp.test.core.reporting.ScreenshotPipeline;
+import com.erp.test.core.wait.SmartWait;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -12,12 +12,9 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
-import java.io.IOException;
-import java.text.SimpleDateFormat;
 import java.time.Duration;
-import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Tüm sayfa sınıfları için temel sınıf.
@@ -26,6 +23,7 @@ import java.util.List;
 public abstract class BasePage {
     protected WebDriver driver;
     protected WebDriverWait wait;
+    protected SmartWait smartWait;
     protected JavascriptExecutor js;
     protected Actions actions;
     protected final Logger logger = LoggerFactory.getLogger(this.getClass());
@@ -38,7 +36,8 @@ public abstract class BasePage {
      */
     public BasePage(String pageName) {
         this.driver = DriverManager.getDriver();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigManager.getInstance().getExplicitWait()));
+        this.wait = new WebDriverWait(driver, ConfigManager.getInstance().getExplicitWaitDuration());
+        this.smartWait = new SmartWait(driver, ConfigManager.getInstance().getExplicitWaitDuration());
         this.js = (JavascriptExecutor) driver;
         this.actions = new Actions(driver);
         this.pageName = pageName;
@@ -54,7 +53,7 @@ public abstract class BasePage {
     protected WebElement waitForElementVisible(By locator) {
         logger.debug("Waiting for element to be visible: {}", locator);
         try {
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            return smartWait.until(ExpectedConditions.visibilityOfElementLocated(locator));
         } catch (TimeoutException e) {
             logger.error("Element not visible within timeout: {}", locator);
             takeScreenshot("ElementNotVisible_" + System.currentTimeMillis());
@@ -71,7 +70,7 @@ public abstract class BasePage {
     protected WebElement waitForElementClickable(By locator) {
         logger.debug("Waiting for element to be clickable: {}", locator);
         try {
-            return wait.until(ExpectedConditions.elementToBeClickable(locator));
+            return smartWait.until(ExpectedConditions.elementToBeClickable(locator));
         } catch (TimeoutException e) {
             logger.error("Element not clickable within timeout: {}", locator);
             takeScreenshot("ElementNotClickable_" + System.currentTimeMillis());
@@ -144,19 +143,18 @@ public abstract class BasePage {
     }
 
     /**
-     * Elementin görünür olup olmadığını kontrol eder.
+     * Elementin görünür olup olmadığını beklemeden kontrol eder.
      *
      * @param locator Element locator'ı
      * @return Element görünür ise true, değilse false
      */
     protected boolean isElementDisplayed(By locator) {
         logger.debug("Checking if element is displayed: {}", locator);
-        try {
-            return driver.findElement(locator).isDisplayed();
-        } catch (NoSuchElementException | TimeoutException e) {
+        boolean displayed = smartWait.isDisplayed(locator);
+        if (!displayed) {
             logger.debug("Element is not displayed: {}", locator);
-            return false;
         }
+        return displayed;
     }
 
     /**
@@ -193,74 +191,73 @@ public abstract class BasePage {
      */
     protected void waitForPageLoad() {
         logger.debug("Waiting for page to load");
-        wait.until(driver -> js.executeScript("return document.readyState").equals("complete"));
+        smartWait.until(driver -> "complete".equals(js.executeScript("return document.readyState")));
     }
 
     /**
-     * Ekran görüntüsü alır.
+     * Sayfada DOM değişiklikleri duruncaya kadar bekler.
+     * Yüklendikten sonra içeriği betiklerle çizilen sayfalarda readyState yeterli olmadığında kullanılır.
+     */
+    protected void waitForDomQuiet() {
+        logger.debug("Waiting for DOM to become quiet");
+        smartWait.untilDomQuiet(ConfigManager.getInstance().getDomQuietPeriod());
+    }
+
+    /**
+     * Sayfada devam eden fetch/XHR isteği ve animasyon kalmayana kadar bekler.
+     * Arama, filtreleme ve sıralama gibi tabloyu arka planda yeniden yükleyen işlemlerden sonra kullanılır.
+     */
+    protected void waitForNetworkIdle() {
+        waitForNetworkIdle(ConfigManager.getInstance().getNetworkQuietPeriod());
+    }
+
+    /**
+     * Sayfada devam eden fetch/XHR isteği ve animasyon kalmayana ve belirtilen süre boyunca yeni ağ etkinliği
+     * olmayana kadar bekler.
      *
-     * @param name Ekran görüntüsü adı
-     * @return Ekran görüntüsü dosyasının yolu
+     * @param quietPeriod Sessiz kalması gereken süre
      */
-    protected String takeScreenshot(String name) {
-        logger.debug("Taking screenshot: {}", name);
-        String screenshotPath = ConfigManager.getInstance().getScreenshotPath();
-        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        String fileName = name + "_" + timestamp + ".png";
-        String filePath = screenshotPath + "/" + fileName;
-        
-        // Ensure directory exists
-        File screenshotDir = new File(screenshotPath);
-        if (!screenshotDir.exists()) {
-            screenshotDir.mkdirs();
-        }
-        
-        try {
-            File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-            FileUtils.copyFile(screenshot, new File(filePath));
-            logger.info("Screenshot saved to: {}", filePath);
-            
-            // Add screenshot to extent report if available
-            if (ExtentReportManager.getTest() != null) {
-                ExtentReportManager.getTest().addScreenCaptureFromPath(filePath);
-            }
-            
-            return filePath;
-        } catch (IOException e) {
-            logger.error("Failed to save screenshot", e);
-            return null;
-        }
+    protected void waitForNetworkIdle(Duration quietPeriod) {
+        logger.debug("Waiting for network to become idle for {}", quietPeriod);
+        smartWait.untilNetworkIdle(quietPeriod);
     }
 
     /**
-     * Belirli bir süre bekler.
+     * Elementin DOM'dan kalkmasını bekler.
      *
-     * @param seconds Beklenecek süre (saniye)
+     * @param locator Element locator'ı
      */
-    protected void sleep(int seconds) {
-        logger.debug("Sleeping for {} seconds", seconds);
+    protected void waitForElementAbsent(By locator) {
+        logger.debug("Waiting for element to be absent: {}", locator);
+        smartWait.untilAbsent(locator);
+    }
+
+    /**
+     * Ekran görüntüsü alır.
+     *
+     * @param name Ekran görüntüsü adı
+     * @return Dosya yazıldığında ekran görüntüsü dosyasının yoluyla tamamlanan CompletableFuture
+     */
+    protected CompletableFuture<String> takeScreenshot(String name) {
+        logger.debug("Taking screenshot: {}", name);
         try {
-            Thread.sleep(seconds * 1000L);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.error("Sleep interrupted", e);
+            // Özet hesabı, kodlama, diske yazma ve rapora ekleme arka planda yapılır
+            return ScreenshotPipeline.getInstance().captureToFile(driver, name);
+        } catch (WebDriverException e) {
+            logger.error("Failed to take screenshot", e);
+            return CompletableFuture.failedFuture(e);
         }
     }
 
     /**
-     * Elementin var olup olmadığını kontrol eder.
+     * Elementin var olup olmadığını beklemeden kontrol eder.
      *
      * @param locator Element locator'ı
      * @return Element var ise true, değilse false
      */
     protected boolean isElementPresent(By locator) {
         logger.debug("Checking if element is present: {}", locator);
-        try {
-            driver.findElement(locator);
-            return true;
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        return smartWait.isPresent(locator);
     }
 
     /**
@@ -0,0 +1,33 @@
+package com.erp.test.core.page;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sayfa nesnesi metodunun tarayıcıya en fazla kaç komut gönderebileceğini belirtir.
+ * Metot bütçeyi aştığında roundtrip.budget.mode ayarına göre uyarı loglanır ya da test başarısız olur.
+ * Bekleme yoklamalarında yalnızca ilk deneme sayılır ve örtük bekleme ayarlama komutları sayılmaz, böylece bütçe
+ * sayfanın hızından ve implicit.wait ayarından bağımsızdır. Bütçeler FakeWebDriver üzerinde ölçülen komut
+ * sayısına göre belirlenir (InvoicePageTest).
+ * Sayım için komut ölçümünün (metrics.driver.enabled) açık olması gerekir.
+ *
+ * <pre>
+ * &#64;RoundTripBudget(10)
+ * public InvoicePage searchInvoice(String searchTerm) { ... }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RoundTripBudget {
+
+    /**
+     * İzin verilen en fazla komut sayısı.
+     *
+     * @return Komut sayısı
+     */
+    int value();
+}
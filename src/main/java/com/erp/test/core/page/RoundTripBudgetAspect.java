@@ -0,0 +1,48 @@
+package com.erp.test.core.page;
+
+import com.erp.test.core.config.ConfigManager;
+import com.erp.test.core.metrics.DriverMetrics;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link RoundTripBudget} ile işaretlenmiş metotların gönderdiği komutları sayan aspect.
+ * Allure adımlarını da işleyen aspectjweaver ajanıyla yükleme sırasında dokunur (META-INF/aop.xml).
+ * İç içe bütçeli metotların her biri kendi çağrısı boyunca gönderilen komutları sayar.
+ */
+@Aspect
+public class RoundTripBudgetAspect {
+    private static final Logger logger = LoggerFactory.getLogger(RoundTripBudgetAspect.class);
+
+    @Around(value = "execution(* *(..)) && @annotation(budget)", argNames = "joinPoint,budget")
+    public Object enforce(ProceedingJoinPoint joinPoint, RoundTripBudget budget) throws Throwable {
+        ConfigManager config = ConfigManager.getInstance();
+        String mode = config.getRoundTripBudgetMode();
+        if ("off".equals(mode) || !config.isDriverMetricsEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        DriverMetrics metrics = DriverMetrics.getInstance();
+        long before = metrics.getRoundTrips();
+        // Metot hata verirse bütçe kontrol edilmez; asıl hata olduğu gibi iletilir
+        Object result = joinPoint.proceed();
+        long used = metrics.getRoundTrips() - before;
+
+        if (used > budget.value()) {
+            String message = "Round trip budget exceeded by " + joinPoint.getSignature().toShortString()
+                    + ": " + used + " command(s), budget " + budget.value();
+            if ("fail".equals(mode)) {
+                logger.error(message);
+                throw new AssertionError(message);
+            }
+            logger.warn(message);
+        } else {
+            logger.debug("{} used {}/{} round trip(s)", joinPoint.getSignature().toShortString(), used,
+                    budget.value());
+        }
+        return result;
+    }
+}
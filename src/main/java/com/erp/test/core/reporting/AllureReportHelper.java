@@ -1,6 +1,7 @@
 package com.erp.test.core.reporting;
 
 import com.erp.test.core.driver.DriverManager;
+import com.erp.test.core.metrics.DriverMetrics;
 import io.qameta.allure.Allure;
 import io.qameta.allure.Attachment;
 import io.qameta.allure.Step;
@@ -10,7 +11,6 @@ import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -40,6 +40,7 @@ public class AllureReportHelper {
 
     /**
      * Allure raporuna ekran görüntüsü ekler.
+     * Görüntü test thread'inde alınır, sıkıştırılıp rapora arka planda yazılır.
      *
      * @param name Ekran görüntüsü adı
      */
@@ -48,7 +49,7 @@ public class AllureReportHelper {
         if (driver != null) {
             logger.info("Taking screenshot: {}", name);
             try {
-                Allure.addAttachment(name, new ByteArrayInputStream(((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES)));
+                ScreenshotPipeline.getInstance().captureToAllure(driver, name);
             } catch (Exception e) {
                 logger.error("Failed to take screenshot: {}", name, e);
             }
@@ -148,7 +149,7 @@ public class AllureReportHelper {
             logger.info("Attaching page source");
             try {
                 String pageSource = driver.getPageSource();
-                Allure.addAttachment("Page Source", "text/html", pageSource);
+                ScreenshotPipeline.getInstance().attachText("Page Source", "text/html", ".html", pageSource);
             } catch (Exception e) {
                 logger.error("Failed to attach page source", e);
             }
@@ -157,6 +158,20 @@ public class AllureReportHelper {
         }
     }
 
+    /**
+     * WebDriver komut gecikmelerinin özetini dosyaya yazar ve Allure raporuna JSON ve CSV olarak ekler.
+     * Suite sonunda çağrılması amaçlanmıştır.
+     */
+    public static void attachDriverLatency() {
+        DriverMetrics metrics = DriverMetrics.getInstance();
+        if (metrics.export() == null) {
+            return;
+        }
+        logger.info("Attaching WebDriver latency summary");
+        Allure.addAttachment("WebDriver Latency", "application/json", metrics.toJson().toString(2), ".json");
+        Allure.addAttachment("WebDriver Latency (CSV)", "text/csv", metrics.toCsv(), ".csv");
+    }
+
     /**
      * Allure raporuna çevre bilgilerini ekler.
      */
@@ -14,10 +14,12 @@ import java.util.Date;
 /**
  * ExtentReports için yönetici sınıf.
  * Singleton tasarım deseni kullanılarak oluşturulmuştur.
+ * Rapor bir kez oluşturulduktan sonra okuma işlemleri kilit almaz. Extent, raporu yazarken test listesini kilitsiz
+ * okuduğundan test oluşturma, ek ekleme ve rapor yazma aynı kilidi paylaşır.
  */
 public class ExtentReportManager {
     private static final Logger logger = LoggerFactory.getLogger(ExtentReportManager.class);
-    private static ExtentReports extentReports;
+    private static volatile ExtentReports extentReports;
     private static final ThreadLocal<ExtentTest> extentTestThreadLocal = new ThreadLocal<>();
 
     private ExtentReportManager() {
@@ -30,17 +32,26 @@ public class ExtentReportManager {
      *
      * @return ExtentReports instance
      */
-    public static synchronized ExtentReports getExtentReports() {
-        if (extentReports == null) {
-            initExtentReports();
+    public static ExtentReports getExtentReports() {
+        ExtentReports reports = extentReports;
+        if (reports == null) {
+            synchronized (ExtentReportManager.class) {
+                reports = extentReports;
+                if (reports == null) {
+                    reports = initExtentReports();
+                    extentReports = reports;
+                }
+            }
         }
-        return extentReports;
+        return reports;
     }
 
     /**
      * ExtentReports'u başlatır ve yapılandırır.
+     *
+     * @return Yapılandırılmış ExtentReports instance
      */
-    private static void initExtentReports() {
+    private static ExtentReports initExtentReports() {
         String reportPath = ConfigManager.getInstance().getReportPath();
         String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
         String reportFilePath = reportPath + "/ERP_Test_Report_" + timestamp + ".html";
@@ -57,17 +68,18 @@ public class ExtentReportManager {
         sparkReporter.config().setDocumentTitle("ERP Test Automation Report");
         sparkReporter.config().setReportName("ERP Test Results");
         
-        extentReports = new ExtentReports();
-        extentReports.attachReporter(sparkReporter);
+        ExtentReports reports = new ExtentReports();
+        reports.attachReporter(sparkReporter);
         
         // Set system info
-        extentReports.setSystemInfo("OS", System.getProperty("os.name"));
-        extentReports.setSystemInfo("Java Version", System.getProperty("java.version"));
-        extentReports.setSystemInfo("Browser", ConfigManager.getInstance().getBrowser());
-        extentReports.setSystemInfo("Environment", ConfigManager.getInstance().getEnvironment());
-        extentReports.setSystemInfo("Base URL", ConfigManager.getInstance().getBaseUrl());
+        reports.setSystemInfo("OS", System.getProperty("os.name"));
+        reports.setSystemInfo("Java Version", System.getProperty("java.version"));
+        reports.setSystemInfo("Browser", ConfigManager.getInstance().getBrowser());
+        reports.setSystemInfo("Environment", ConfigManager.getInstance().getEnvironment());
+        reports.setSystemInfo("Base URL", ConfigManager.getInstance().getBaseUrl());
         
         logger.info("ExtentReports initialized successfully");
+        return reports;
     }
 
     /**
@@ -88,17 +100,30 @@ public class ExtentReportManager {
      *
      * @return ExtentTest instance
      */
-    public static synchronized ExtentTest getTest() {
+    public static ExtentTest getTest() {
         return extentTestThreadLocal.get();
     }
 
+    /**
+     * Teste ekran görüntüsü ekler. Ekler arka plan thread'lerinden de eklenebildiğinden rapor yazılırken
+     * test modelinin değişmemesi için {@link #flushReports()} ile aynı kilit kullanılır.
+     *
+     * @param test Ekran görüntüsünün ekleneceği test
+     * @param path Görüntü dosyasının yolu
+     * @param title Görüntü başlığı
+     */
+    public static synchronized void addScreenCapture(ExtentTest test, String path, String title) {
+        test.addScreenCaptureFromPath(path, title);
+    }
+
     /**
      * Tüm raporları kaydeder ve kaynakları temizler.
      */
     public static synchronized void flushReports() {
-        if (extentReports != null) {
+        ExtentReports reports = extentReports;
+        if (reports != null) {
             logger.info("Flushing ExtentReports");
-            extentReports.flush();
+            reports.flush();
         }
     }
 }
@@ -0,0 +1,247 @@
+package com.erp.test.core.reporting;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.erp.test.core.config.ConfigManager;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.util.PropertiesUtils;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ekran görüntülerini ve diğer rapor eklerini arka planda işleyen boru hattı.
+ * Test thread'i yalnızca ham PNG baytlarını tarayıcıdan alır; özet hesabı, küçültme, JPEG sıkıştırma, diske yazma
+ * ve rapora ekleme sınırlı bir thread havuzunda yapılır. Kuyruk dolduğunda iş çağıran thread'de çalışır,
+ * böylece bellek kullanımı sınırlı kalır ve hiçbir ek kaybolmaz.
+ */
+public final class ScreenshotPipeline {
+    private static final Logger logger = LoggerFactory.getLogger(ScreenshotPipeline.class);
+    private static final long FLUSH_TIMEOUT_SECONDS = 60;
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Object flushLock = new Object();
+    private final ScreenshotStore store;
+    private final Path allureResultsDirectory;
+    private final int maxWidth;
+    private final float quality;
+
+    private ScreenshotPipeline(ConfigManager config) {
+        this.store = new ScreenshotStore(Paths.get(config.getScreenshotPath()), config.getScreenshotDedupDistance());
+        this.allureResultsDirectory = Paths.get(PropertiesUtils.loadAllureProperties()
+                .getProperty("allure.results.directory", "allure-results"));
+        this.maxWidth = config.getScreenshotMaxWidth();
+        this.quality = config.getScreenshotQuality() / 100f;
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        int threads = Math.max(1, config.getScreenshotThreads());
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getScreenshotQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-pipeline-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        // Boştaki thread'ler kendiliğinden sonlanır; havuzun ayrıca kapatılması gerekmez
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public static ScreenshotPipeline getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Ekran görüntüsü alır ve Allure raporuna arka planda ekler.
+     * Aynı içerikli görüntüler için Allure eki, depodaki ortak dosyaya sabit bağlantı olarak oluşturulur.
+     *
+     * @param driver WebDriver
+     * @param name Ek adı
+     */
+    public void captureToAllure(WebDriver driver, String name) {
+        byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        // Ek, test thread'indeki güncel Allure adımına bağlanır; içerik daha sonra yazılır
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String source = lifecycle.prepareAttachment(name, "image/jpeg", ".jpg");
+        submit(name, () -> {
+            String id = store.resolve(png);
+            Path blob = store.write(id, () -> encode(png));
+            try {
+                Files.createDirectories(allureResultsDirectory);
+                Files.createLink(allureResultsDirectory.resolve(source), blob);
+            } catch (IOException | UnsupportedOperationException e) {
+                // Sabit bağlantı desteklenmiyorsa (ör. farklı dosya sistemi) içeriği kopyala
+                try (InputStream content = Files.newInputStream(blob)) {
+                    lifecycle.writeAttachment(source, content);
+                } catch (IOException ioe) {
+                    throw new UncheckedIOException("Failed to attach screenshot: " + blob, ioe);
+                }
+            }
+        });
+    }
+
+    /**
+     * Ekran görüntüsü alır, arka planda diske yazar ve varsa Extent testine ekler.
+     * Aynı içerikli görüntüler tek bir dosyada tutulur; dosya yolu ancak görüntü depoda çözüldükten sonra
+     * belli olduğundan Extent eki de arka planda eklenir.
+     *
+     * @param driver WebDriver
+     * @param name Ekran görüntüsü adı
+     * @return Dosya yazıldığında ortak dosyanın yoluyla tamamlanan CompletableFuture
+     */
+    public CompletableFuture<String> captureToFile(WebDriver driver, String name) {
+        byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        ExtentTest extentTest = ExtentReportManager.getTest();
+        CompletableFuture<String> saved = new CompletableFuture<>();
+
+        submit(name, () -> {
+            try {
+                Path filePath = store.write(store.resolve(png), () -> encode(png));
+                if (extentTest != null) {
+                    ExtentReportManager.addScreenCapture(extentTest, filePath.toString(), name);
+                }
+                logger.info("Screenshot {} saved to: {}", name, filePath);
+                saved.complete(filePath.toString());
+            } catch (RuntimeException e) {
+                saved.completeExceptionally(e);
+                throw e;
+            }
+        });
+        return saved;
+    }
+
+    /**
+     * Metin içerikli bir eki Allure raporuna arka planda yazar.
+     *
+     * @param name Ek adı
+     * @param type MIME tipi
+     * @param extension Dosya uzantısı
+     * @param content İçerik
+     */
+    public void attachText(String name, String type, String extension, String content) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String source = lifecycle.prepareAttachment(name, type, extension);
+        submit(name, () -> lifecycle.writeAttachment(source,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * Kuyruktaki ve işlenmekte olan tüm eklerin tamamlanmasını bekler.
+     */
+    public void flush() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(FLUSH_TIMEOUT_SECONDS);
+        synchronized (flushLock) {
+            while (pending.get() > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    logger.warn("Timed out waiting for {} pending attachment(s)", pending.get());
+                    return;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(flushLock, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        logger.debug("All pending attachments written");
+    }
+
+    private void submit(String name, Runnable task) {
+        pending.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                logger.error("Failed to process attachment: {}", name, e);
+            } finally {
+                complete();
+            }
+        });
+    }
+
+    private void complete() {
+        if (pending.decrementAndGet() == 0) {
+            synchronized (flushLock) {
+                flushLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * PNG görüntüyü en fazla maxWidth genişliğe küçültür ve JPEG olarak sıkıştırır.
+     *
+     * @param png PNG baytları
+     * @return JPEG baytları
+     */
+    private byte[] encode(byte[] png) {
+        try {
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+            if (source == null) {
+                throw new IOException("Unsupported image format");
+            }
+
+            int width = source.getWidth();
+            int height = source.getHeight();
+            if (maxWidth > 0 && width > maxWidth) {
+                height = Math.max(1, height * maxWidth / width);
+                width = maxWidth;
+            }
+
+            BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = target.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(source, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(png.length / 4);
+            try (MemoryCacheImageOutputStream imageOutput = new MemoryCacheImageOutputStream(output)) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(quality);
+                writer.setOutput(imageOutput);
+                writer.write(null, new IIOImage(target, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to encode screenshot", e);
+        }
+    }
+
+    private static final class Holder {
+        private static final ScreenshotPipeline INSTANCE = new ScreenshotPipeline(ConfigManager.getInstance());
+    }
+}
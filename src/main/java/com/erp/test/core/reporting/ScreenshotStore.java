@@ -0,0 +1,236 @@
+package com.erp.test.core.reporting;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Ekran görüntülerini içeriklerinin özetine göre saklayan depo.
+ * Aynı görüntü diskte yalnızca bir kez tutulur, rapor ekleri ortak dosyaya bağlanır.
+ * İsteğe bağlı olarak algısal özet (dHash) ile neredeyse aynı görüntüler de tek dosyada birleştirilir.
+ * Algısal özetler bantlara bölünerek indekslenir: uzaklık sınırı d iken özet d + 1 banda ayrılır ve yakın iki özetin
+ * en az bir bandı birebir aynı olur. Böylece yeni bir görüntü tüm özetlerle değil, yalnızca bant eşleşen adaylarla
+ * karşılaştırılır.
+ */
+final class ScreenshotStore {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int ID_LENGTH = 32;
+
+    // Algısal özet için görüntünün küçültüleceği boyut (9x8 -> 64 bit)
+    private static final int HASH_WIDTH = 9;
+    private static final int HASH_HEIGHT = 8;
+    private static final int HASH_SUBSAMPLING = 8;
+
+    private final Path directory;
+    private final int nearDuplicateDistance;
+    private final Map<String, String> canonicalIds = new ConcurrentHashMap<>();
+    private final Map<String, Path> blobs = new ConcurrentHashMap<>();
+    private final List<Map<Long, List<PerceptualEntry>>> perceptualBands = new ArrayList<>();
+    private int perceptualCount;
+
+    /**
+     * Depo constructor'ı.
+     *
+     * @param directory Dosyaların yazılacağı klasör
+     * @param nearDuplicateDistance Neredeyse aynı sayılacak en büyük Hamming uzaklığı; 0 ise yalnızca birebir aynı
+     *                              görüntüler birleştirilir
+     */
+    ScreenshotStore(Path directory, int nearDuplicateDistance) {
+        this.directory = directory;
+        this.nearDuplicateDistance = nearDuplicateDistance;
+        int bandCount = Math.min(Long.SIZE, Math.max(1, nearDuplicateDistance + 1));
+        for (int i = 0; i < bandCount; i++) {
+            perceptualBands.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Görüntünün depodaki kimliğini belirler.
+     * Birebir aynı veya (etkinse) neredeyse aynı bir görüntü daha önce görüldüyse onun kimliği döner.
+     * Özet ve algısal özet hesabı maliyetli olduğundan test thread'inde değil, boru hattında çağrılır.
+     *
+     * @param png Ham PNG baytları
+     * @return Ortak dosya kimliği
+     */
+    String resolve(byte[] png) {
+        String digest = sha256(png);
+        String existing = canonicalIds.get(digest);
+        if (existing != null) {
+            return existing;
+        }
+        if (nearDuplicateDistance <= 0) {
+            String previous = canonicalIds.putIfAbsent(digest, digest);
+            return previous != null ? previous : digest;
+        }
+
+        long hash = perceptualHash(png);
+        synchronized (perceptualBands) {
+            String canonical = findNearDuplicate(hash);
+            if (canonical == null) {
+                canonical = digest;
+                PerceptualEntry entry = new PerceptualEntry(hash, digest, perceptualCount++);
+                for (int band = 0; band < perceptualBands.size(); band++) {
+                    perceptualBands.get(band).computeIfAbsent(bandValue(hash, band), k -> new ArrayList<>()).add(entry);
+                }
+            }
+            canonicalIds.put(digest, canonical);
+            return canonical;
+        }
+    }
+
+    /**
+     * Uzaklık sınırı içindeki en eski algısal özetin kimliğini bulur. Yalnızca en az bir bandı aynı olan adaylar
+     * karşılaştırılır.
+     *
+     * @param hash Algısal özet
+     * @return Eşleşen kimlik, yoksa null
+     */
+    private String findNearDuplicate(long hash) {
+        PerceptualEntry best = null;
+        for (int band = 0; band < perceptualBands.size(); band++) {
+            List<PerceptualEntry> candidates = perceptualBands.get(band).get(bandValue(hash, band));
+            if (candidates == null) {
+                continue;
+            }
+            for (PerceptualEntry candidate : candidates) {
+                if ((best == null || candidate.order < best.order)
+                        && Long.bitCount(candidate.hash ^ hash) <= nearDuplicateDistance) {
+                    best = candidate;
+                }
+            }
+        }
+        return best == null ? null : best.id;
+    }
+
+    private long bandValue(long hash, int band) {
+        int bandCount = perceptualBands.size();
+        int start = band * Long.SIZE / bandCount;
+        int width = (band + 1) * Long.SIZE / bandCount - start;
+        long mask = width == Long.SIZE ? -1L : (1L << width) - 1;
+        return (hash >>> start) & mask;
+    }
+
+    /**
+     * Kimliğe ait dosyanın yolunu döndürür.
+     *
+     * @param id Dosya kimliği
+     * @return Dosya yolu
+     */
+    Path pathOf(String id) {
+        return directory.resolve(id + ".jpg");
+    }
+
+    /**
+     * Kimliğe ait dosya henüz yazılmadıysa içeriği üretip yazar. Her kimlik için içerik en fazla bir kez üretilir.
+     *
+     * @param id Dosya kimliği
+     * @param content Kodlanmış görüntüyü üreten fonksiyon
+     * @return Dosya yolu
+     */
+    Path write(String id, Supplier<byte[]> content) {
+        return blobs.computeIfAbsent(id, key -> {
+            Path path = pathOf(key);
+            try {
+                if (!Files.exists(path)) {
+                    Files.createDirectories(directory);
+                    Files.write(path, content.get());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write screenshot: " + path, e);
+            }
+            return path;
+        });
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            char[] hex = new char[ID_LENGTH];
+            for (int i = 0; i < ID_LENGTH / 2; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Görüntünün fark özetini (dHash) hesaplar. Görüntü alt örneklenerek okunur, tam çözünürlükte açılmaz.
+     *
+     * @param png Ham PNG baytları
+     * @return 64 bitlik algısal özet
+     */
+    private static long perceptualHash(byte[] png) {
+        BufferedImage image = readSubsampled(png);
+        BufferedImage scaled = new BufferedImage(HASH_WIDTH, HASH_HEIGHT, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, HASH_WIDTH, HASH_HEIGHT, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        long hash = 0;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH - 1; x++) {
+                int left = scaled.getRaster().getSample(x, y, 0);
+                int right = scaled.getRaster().getSample(x + 1, y, 0);
+                hash = (hash << 1) | (left > right ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    private static BufferedImage readSubsampled(byte[] png) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(png))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(HASH_SUBSAMPLING, HASH_SUBSAMPLING, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read screenshot", e);
+        }
+    }
+
+    private static final class PerceptualEntry {
+        private final long hash;
+        private final String id;
+        private final int order;
+
+        private PerceptualEntry(long hash, String id, int order) {
+            this.hash = hash;
+            this.id = id;
+            this.order = order;
+        }
+    }
+}
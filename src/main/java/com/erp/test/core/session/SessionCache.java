@@ -0,0 +1,79 @@
+package com.erp.test.core.session;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kullanıcı ve şirket bazında oturum görüntülerini saklayan önbellek.
+ * Her (kullanıcı, şirket) için arayüzden bir kez giriş yapılır; sonraki testler görüntüyü tarayıcıya yükler.
+ */
+public final class SessionCache {
+    private static final Logger logger = LoggerFactory.getLogger(SessionCache.class);
+    private static final SessionCache INSTANCE = new SessionCache();
+
+    private final Map<String, SessionSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    private SessionCache() {
+    }
+
+    public static SessionCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Kullanıcı ve şirket için geçerli oturum görüntüsünü döndürür.
+     * Çerezlerinin süresi dolmuş görüntüler önbellekten çıkarılır.
+     *
+     * @param username Kullanıcı adı
+     * @param company Şirket adı
+     * @return Oturum görüntüsü, yoksa null
+     */
+    public SessionSnapshot get(String username, String company) {
+        String key = key(username, company);
+        SessionSnapshot snapshot = snapshots.get(key);
+        if (snapshot != null && snapshot.isExpired()) {
+            logger.info("Cached session expired for user: {}, company: {}", username, company);
+            snapshots.remove(key, snapshot);
+            return null;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Kullanıcı ve şirket için oturum görüntüsünü saklar.
+     *
+     * @param username Kullanıcı adı
+     * @param company Şirket adı
+     * @param snapshot Oturum görüntüsü
+     */
+    public void put(String username, String company, SessionSnapshot snapshot) {
+        snapshots.put(key(username, company), snapshot);
+        logger.info("Session cached for user: {}, company: {}", username, company);
+    }
+
+    /**
+     * Sunucunun reddettiği oturum görüntüsünü önbellekten çıkarır.
+     * Başka bir thread bu arada yeni bir görüntü kaydettiyse o görüntü korunur.
+     *
+     * @param username Kullanıcı adı
+     * @param company Şirket adı
+     * @param snapshot Reddedilen oturum görüntüsü
+     */
+    public void invalidate(String username, String company, SessionSnapshot snapshot) {
+        snapshots.remove(key(username, company), snapshot);
+    }
+
+    /**
+     * Tüm oturum görüntülerini temizler.
+     */
+    public void clear() {
+        snapshots.clear();
+    }
+
+    private static String key(String username, String company) {
+        return username + "\u0000" + company;
+    }
+}
@@ -0,0 +1,161 @@
+package com.erp.test.core.session;
+
+import org.json.JSONObject;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Oturum açmış bir tarayıcının çerez, localStorage ve sessionStorage görüntüsü.
+ * Görüntü başka bir tarayıcıya yüklendiğinde kullanıcı arayüzden tekrar giriş yapmadan oturum açık olarak devam eder.
+ */
+public final class SessionSnapshot {
+    private static final Logger logger = LoggerFactory.getLogger(SessionSnapshot.class);
+
+    private static final String CAPTURE_SCRIPT =
+            "var dump = function(storage) {" +
+            "  var data = {};" +
+            "  for (var i = 0; i < storage.length; i++) { var key = storage.key(i); data[key] = storage.getItem(key); }" +
+            "  return data;" +
+            "};" +
+            "return {local: dump(window.localStorage), session: dump(window.sessionStorage)};";
+
+    private static final String RESTORE_STORAGE_SCRIPT =
+            "var fill = function(storage, data) { for (var key in data) { storage.setItem(key, data[key]); } };" +
+            "fill(window.localStorage, arguments[0]);" +
+            "fill(window.sessionStorage, arguments[1]);";
+
+    private final String url;
+    private final String origin;
+    private final Set<Cookie> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+
+    private SessionSnapshot(String url, Set<Cookie> cookies, Map<String, String> localStorage,
+                            Map<String, String> sessionStorage) {
+        this.url = url;
+        this.origin = originOf(url);
+        this.cookies = Collections.unmodifiableSet(new HashSet<>(cookies));
+        this.localStorage = Collections.unmodifiableMap(new HashMap<>(localStorage));
+        this.sessionStorage = Collections.unmodifiableMap(new HashMap<>(sessionStorage));
+    }
+
+    /**
+     * Tarayıcının mevcut oturumunun görüntüsünü alır. Tarayıcı oturum açılmış bir sayfada olmalıdır.
+     *
+     * @param driver WebDriver
+     * @return SessionSnapshot instance
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionSnapshot capture(WebDriver driver) {
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+        SessionSnapshot snapshot = new SessionSnapshot(driver.getCurrentUrl(), driver.manage().getCookies(),
+                toStringMap((Map<String, Object>) storage.get("local")),
+                toStringMap((Map<String, Object>) storage.get("session")));
+        logger.debug("Captured session: {} cookie(s), {} localStorage and {} sessionStorage item(s)",
+                snapshot.cookies.size(), snapshot.localStorage.size(), snapshot.sessionStorage.size());
+        return snapshot;
+    }
+
+    /**
+     * Görüntüyü tarayıcıya yükler ve oturumun açıldığı sayfaya gider.
+     * Chromium tabanlı tarayıcılarda çerezler ve depolama DevTools ile sayfa açılmadan yüklenir, böylece tek bir
+     * gezinme yeterli olur. Diğer tarayıcılarda önce aynı kökene gidilir, ardından hedef sayfa yeniden yüklenir.
+     *
+     * @param driver WebDriver
+     */
+    public void restore(WebDriver driver) {
+        if (driver instanceof HasCdp) {
+            restoreWithDevTools((HasCdp) driver);
+        } else {
+            driver.get(url);
+            driver.manage().deleteAllCookies();
+            for (Cookie cookie : cookies) {
+                driver.manage().addCookie(cookie);
+            }
+            ((JavascriptExecutor) driver).executeScript(RESTORE_STORAGE_SCRIPT, localStorage, sessionStorage);
+            driver.get(url);
+        }
+        logger.debug("Session restored at {}", url);
+    }
+
+    /**
+     * Görüntüdeki çerezlerden herhangi birinin süresinin dolup dolmadığını kontrol eder.
+     *
+     * @return Süresi dolmuş bir çerez varsa true
+     */
+    public boolean isExpired() {
+        Date now = new Date();
+        for (Cookie cookie : cookies) {
+            if (cookie.getExpiry() != null && cookie.getExpiry().before(now)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    private void restoreWithDevTools(HasCdp cdp) {
+        List<Map<String, Object>> cdpCookies = new ArrayList<>();
+        for (Cookie cookie : cookies) {
+            Map<String, Object> cdpCookie = new HashMap<>();
+            cdpCookie.put("name", cookie.getName());
+            cdpCookie.put("value", cookie.getValue());
+            cdpCookie.put("domain", cookie.getDomain());
+            cdpCookie.put("path", cookie.getPath());
+            cdpCookie.put("secure", cookie.isSecure());
+            cdpCookie.put("httpOnly", cookie.isHttpOnly());
+            if (cookie.getSameSite() != null) {
+                cdpCookie.put("sameSite", cookie.getSameSite());
+            }
+            if (cookie.getExpiry() != null) {
+                cdpCookie.put("expires", cookie.getExpiry().getTime() / 1000.0);
+            }
+            cdpCookies.add(cdpCookie);
+        }
+        cdp.executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+        cdp.executeCdpCommand("Network.setCookies", Collections.singletonMap("cookies", cdpCookies));
+
+        // Depolama, sayfanın kendi betiklerinden önce çalışan bir betikle doldurulur
+        String seedScript = "if (location.origin === " + JSONObject.quote(origin) + ") {" +
+                "(function(l, s) {" + RESTORE_STORAGE_SCRIPT.replace("arguments[0]", "l").replace("arguments[1]", "s") +
+                "})(" + new JSONObject(localStorage) + ", " + new JSONObject(sessionStorage) + "); }";
+        Map<String, Object> registration = cdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                Collections.singletonMap("source", seedScript));
+        try {
+            ((WebDriver) cdp).get(url);
+        } finally {
+            cdp.executeCdpCommand("Page.removeScriptToEvaluateOnNewDocument",
+                    Collections.singletonMap("identifier", registration.get("identifier")));
+        }
+    }
+
+    private static String originOf(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+    }
+
+    private static Map<String, String> toStringMap(Map<String, Object> values) {
+        Map<String, String> result = new HashMap<>();
+        if (values != null) {
+            values.forEach((key, value) -> result.put(key, value == null ? null : value.toString()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,119 @@
+package com.erp.test.core.wait;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Sayfadaki fetch/XMLHttpRequest isteklerini ve süren animasyonları izleyen betiğin yöneticisi.
+ * Betik fetch ve XMLHttpRequest.send'i sararak devam eden istek sayısını ve son ağ etkinliğinin zamanını tutar.
+ * Chromium tabanlı tarayıcılarda betik DevTools ile her yeni belgeye sayfanın kendi betiklerinden önce yüklenir;
+ * diğer tarayıcılarda ilk kontrolde yüklenir ve o andan önce başlamış istekler görülmez.
+ */
+final class NetworkActivity {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkActivity.class);
+
+    private static final String INSTALL_SCRIPT =
+            "(function(w) {" +
+            "  if (w.__erpActivity) { return; }" +
+            "  var a = w.__erpActivity = {pending: 0, last: performance.now()};" +
+            "  var begin = function() { a.pending++; a.last = performance.now(); };" +
+            "  var end = function() { a.pending = Math.max(0, a.pending - 1); a.last = performance.now(); };" +
+            "  if (w.fetch) {" +
+            "    var fetch = w.fetch;" +
+            "    w.fetch = function() {" +
+            "      begin();" +
+            "      try { return fetch.apply(this, arguments).finally(end); } catch (e) { end(); throw e; }" +
+            "    };" +
+            "  }" +
+            "  var send = w.XMLHttpRequest.prototype.send;" +
+            "  w.XMLHttpRequest.prototype.send = function() {" +
+            "    begin();" +
+            "    this.addEventListener('loadend', end);" +
+            "    try { return send.apply(this, arguments); } catch (e) { end(); throw e; }" +
+            "  };" +
+            "})(window);";
+
+    // Sessiz sürenin çağrı anından itibaren sayılması için son etkinlik zamanı şimdiye çekilir
+    private static final String MARK_SCRIPT = INSTALL_SCRIPT + "window.__erpActivity.last = performance.now();";
+
+    // Sonsuz tekrar eden animasyonlar (ör. dekoratif göstergeler) sayfanın hazır olmasını engellemez
+    private static final String IDLE_SCRIPT = INSTALL_SCRIPT +
+            "var a = window.__erpActivity;" +
+            "if (a.pending > 0 || document.readyState !== 'complete') { return false; }" +
+            "var animations = document.getAnimations ? document.getAnimations() : [];" +
+            "for (var i = 0; i < animations.length; i++) {" +
+            "  var animation = animations[i];" +
+            "  if ((animation.pending || animation.playState === 'running') && animation.effect" +
+            "      && animation.effect.getComputedTiming().iterations !== Infinity) {" +
+            "    a.last = performance.now();" +
+            "    return false;" +
+            "  }" +
+            "}" +
+            "return performance.now() - a.last >= arguments[0];";
+
+    private static final Set<WebDriver> instrumentedDrivers = Collections.newSetFromMap(
+            Collections.synchronizedMap(new WeakHashMap<>()));
+
+    private NetworkActivity() {
+    }
+
+    /**
+     * Betiği tarayıcının açacağı her yeni belgeye yükletir. Sürücü başına bir kez yapılır.
+     *
+     * @param driver WebDriver
+     */
+    static void instrument(WebDriver driver) {
+        if (!(driver instanceof HasCdp) || !instrumentedDrivers.add(driver)) {
+            return;
+        }
+        try {
+            ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                    Collections.singletonMap("source", INSTALL_SCRIPT));
+        } catch (WebDriverException e) {
+            logger.warn("Could not register network instrumentation, requests before the first check are not tracked", e);
+        }
+    }
+
+    /**
+     * Sessiz süreyi şu andan itibaren başlatır. Böylece bir tıklamanın hemen ardından başlayan istekler
+     * kaçırılmaz.
+     *
+     * @param driver WebDriver
+     */
+    static void mark(WebDriver driver) {
+        ((JavascriptExecutor) driver).executeScript(MARK_SCRIPT);
+    }
+
+    /**
+     * Devam eden istek ya da animasyon olmadığını ve son etkinlikten bu yana en az sessiz süre geçtiğini kontrol eder.
+     *
+     * @param driver WebDriver
+     * @param quietPeriod Sessiz kalması gereken süre
+     * @return Sayfa boştaysa true
+     */
+    static boolean isIdle(WebDriver driver, Duration quietPeriod) {
+        return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(IDLE_SCRIPT, quietPeriod.toMillis()));
+    }
+
+    /**
+     * Betiğin sayfa bağlamındaki durumunu günlüklemek için döndürür.
+     *
+     * @param driver WebDriver
+     * @return Devam eden istek sayısı ve son etkinlik zamanı
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> describe(WebDriver driver) {
+        return (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(INSTALL_SCRIPT +
+                "var a = window.__erpActivity; return {pending: a.pending, idleMs: performance.now() - a.last};");
+    }
+}
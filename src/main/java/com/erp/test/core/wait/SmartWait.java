@@ -0,0 +1,238 @@
+package com.erp.test.core.wait;
+
+import com.erp.test.core.config.ConfigManager;
+import com.erp.test.core.metrics.DriverMetrics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Uyarlanabilir aralıklarla yoklama yapan bekleme motoru.
+ * Koşul önce kısa aralıklarla, ardından üstel olarak artan aralıklarla kontrol edilir; hızlı sağlanan koşullar
+ * neredeyse beklemeden, yavaş olanlar tarayıcıyı gereksiz isteklerle meşgul etmeden beklenir.
+ * Koşullar örtük bekleme kapalıyken değerlendirilir, böylece yokluk kontrolleri milisaniyeler içinde sonuçlanır.
+ */
+public class SmartWait {
+    private static final Logger logger = LoggerFactory.getLogger(SmartWait.class);
+    private static final double BACKOFF_FACTOR = 1.5;
+
+    // Sayfada son DOM değişikliğinden bu yana geçen süreyi ölçen betik
+    private static final String DOM_QUIET_SCRIPT =
+            "var w = window;" +
+            "if (!w.__erpDomObserver) {" +
+            "  w.__erpLastMutation = performance.now();" +
+            "  w.__erpDomObserver = new MutationObserver(function() { w.__erpLastMutation = performance.now(); });" +
+            "  w.__erpDomObserver.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});" +
+            "}" +
+            "return performance.now() - w.__erpLastMutation >= arguments[0];";
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final Duration initialInterval;
+    private final Duration maxInterval;
+    private final Duration implicitWait;
+
+    /**
+     * Yapılandırmadaki yoklama aralıklarıyla bekleme motoru oluşturur.
+     *
+     * @param driver WebDriver
+     * @param timeout Varsayılan zaman aşımı
+     */
+    public SmartWait(WebDriver driver, Duration timeout) {
+        this(driver, timeout, ConfigManager.getInstance().getWaitPollInitial(),
+                ConfigManager.getInstance().getWaitPollMax());
+    }
+
+    /**
+     * Bekleme motoru constructor'ı.
+     *
+     * @param driver WebDriver
+     * @param timeout Varsayılan zaman aşımı
+     * @param initialInterval İlk yoklama aralığı
+     * @param maxInterval En uzun yoklama aralığı
+     */
+    public SmartWait(WebDriver driver, Duration timeout, Duration initialInterval, Duration maxInterval) {
+        this.driver = driver;
+        this.timeout = timeout;
+        this.initialInterval = initialInterval;
+        this.maxInterval = maxInterval;
+        this.implicitWait = ConfigManager.getInstance().getImplicitWaitDuration();
+        NetworkActivity.instrument(driver);
+    }
+
+    /**
+     * Koşul sağlanana kadar varsayılan zaman aşımı süresince bekler.
+     *
+     * @param condition Koşul; null veya false dışında bir değer döndürdüğünde sağlanmış sayılır
+     * @param <T> Dönüş tipi
+     * @return Koşulun döndürdüğü değer
+     */
+    public <T> T until(Function<? super WebDriver, T> condition) {
+        return until(condition, timeout);
+    }
+
+    /**
+     * Koşul sağlanana kadar bekler.
+     * Yoklama sırasında oluşan element bulunamadı, bayat element ve JavaScript hataları yutulur, koşul yeniden
+     * denenir; süre dolarsa son hata TimeoutException'ın nedeni olarak iletilir.
+     *
+     * @param condition Koşul; null veya false dışında bir değer döndürdüğünde sağlanmış sayılır
+     * @param timeout Zaman aşımı
+     * @param <T> Dönüş tipi
+     * @return Koşulun döndürdüğü değer
+     * @throws TimeoutException Koşul süre içinde sağlanmazsa
+     */
+    public <T> T until(Function<? super WebDriver, T> condition, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long interval = initialInterval.toMillis();
+        RuntimeException lastException = null;
+        int attempts = 0;
+
+        while (true) {
+            attempts++;
+            try {
+                // Yalnızca ilk deneme gidiş-dönüş bütçelerine sayılır; tekrar sayısı sayfanın hızına bağlıdır
+                T value = attempts == 1
+                        ? withoutImplicitWait(() -> condition.apply(driver))
+                        : DriverMetrics.getInstance().withoutRoundTripCounting(
+                                () -> withoutImplicitWait(() -> condition.apply(driver)));
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    logger.trace("Condition met after {} attempt(s): {}", attempts, condition);
+                    return value;
+                }
+                lastException = null;
+            } catch (NoSuchElementException | StaleElementReferenceException | JavascriptException e) {
+                // Arama/sıralama sayfayı yeniden yüklerse betikler "execution context destroyed" hatası verir
+                lastException = e;
+            }
+
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                throw new TimeoutException("Condition not met within " + timeout + " after " + attempts
+                        + " attempt(s): " + condition, lastException);
+            }
+            sleep(Math.min(interval, remainingMillis));
+            interval = Math.min((long) (interval * BACKOFF_FACTOR), maxInterval.toMillis());
+        }
+    }
+
+    /**
+     * Elementin DOM'da olup olmadığını beklemeden kontrol eder.
+     *
+     * @param locator Element locator'ı
+     * @return Element var ise true
+     */
+    public boolean isPresent(By locator) {
+        return withoutImplicitWait(() -> !driver.findElements(locator).isEmpty());
+    }
+
+    /**
+     * Elementin görünür olup olmadığını beklemeden kontrol eder.
+     *
+     * @param locator Element locator'ı
+     * @return Eşleşen elementlerden biri görünür ise true
+     */
+    public boolean isDisplayed(By locator) {
+        return withoutImplicitWait(() -> {
+            List<WebElement> elements = driver.findElements(locator);
+            for (WebElement element : elements) {
+                try {
+                    if (element.isDisplayed()) {
+                        return true;
+                    }
+                } catch (StaleElementReferenceException e) {
+                    // Kontrol sırasında kaldırılan element görünür sayılmaz
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Element DOM'dan kalkana kadar bekler.
+     *
+     * @param locator Element locator'ı
+     */
+    public void untilAbsent(By locator) {
+        until(d -> d.findElements(locator).isEmpty());
+    }
+
+    /**
+     * Sayfada belirtilen süre boyunca hiçbir DOM değişikliği olmayana kadar bekler.
+     * Değişiklikler bir MutationObserver ile izlenir; gözlemci ilk çağrıda sayfaya yerleştirilir.
+     *
+     * @param quietPeriod Sessiz kalması gereken süre
+     */
+    public void untilDomQuiet(Duration quietPeriod) {
+        until(d -> (Boolean) ((JavascriptExecutor) d).executeScript(DOM_QUIET_SCRIPT, quietPeriod.toMillis()));
+    }
+
+    /**
+     * Sayfada devam eden fetch/XHR isteği ya da animasyon kalmayana ve belirtilen süre boyunca yeni ağ etkinliği
+     * olmayana kadar bekler. Sessiz süre çağrı anından itibaren sayılır; bu yüzden bir tıklamanın hemen ardından
+     * çağrıldığında tıklamanın başlattığı istekler de beklenir. Tıklama sayfayı yeniden yüklüyorsa başlangıç
+     * işareti de yeni belge hazır olana kadar yeniden denenir.
+     *
+     * @param quietPeriod Sessiz kalması gereken süre
+     * @throws TimeoutException Sayfa süre içinde boşa çıkmazsa
+     */
+    public void untilNetworkIdle(Duration quietPeriod) {
+        boolean[] marked = {false};
+        try {
+            until(d -> {
+                // İşaret yalnızca bir kez konur; her denemede konsaydı sessiz süre hiç dolmazdı
+                if (!marked[0]) {
+                    NetworkActivity.mark(d);
+                    marked[0] = true;
+                }
+                return NetworkActivity.isIdle(d, quietPeriod);
+            });
+        } catch (TimeoutException e) {
+            logger.warn("Page did not become idle, activity: {}", NetworkActivity.describe(driver));
+            throw e;
+        }
+    }
+
+    /**
+     * İşlemi örtük bekleme kapalıyken çalıştırır. Örtük bekleme zaten kapalıysa tarayıcıya ek istek gönderilmez.
+     * Örtük beklemeyi kapatıp açan komutlar gidiş-dönüş bütçelerine sayılmaz; bütçeler implicit.wait ayarından
+     * bağımsızdır.
+     *
+     * @param action Çalıştırılacak işlem
+     * @param <T> Dönüş tipi
+     * @return İşlemin sonucu
+     */
+    public <T> T withoutImplicitWait(Supplier<T> action) {
+        if (implicitWait.isZero()) {
+            return action.get();
+        }
+        DriverMetrics metrics = DriverMetrics.getInstance();
+        metrics.withoutRoundTripCounting(() -> driver.manage().timeouts().implicitlyWait(Duration.ZERO));
+        try {
+            return action.get();
+        } finally {
+            metrics.withoutRoundTripCounting(() -> driver.manage().timeouts().implicitlyWait(implicitWait));
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Wait interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.erp.test.data.api;
+
+import com.erp.test.core.config.ConfigManager;
+import com.erp.test.data.models.InvoiceData;
+import com.erp.test.data.models.InvoiceItemData;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Test verilerini (faturaları) arayüz yerine doğrudan backend HTTP API'si üzerinden oluşturan ve silen istemci.
+ * İstekler tarayıcının oturum çerezleriyle gönderilir; bu yüzden ayrıca giriş yapılmaz. Toplu işlemler, en fazla
+ * api.seed.parallelism kadar eş zamanlı istekle yapılır.
+ *
+ * <p>İstemcinin oluşturduğu faturalar kaydedilir ve {@link #deleteCreatedInvoices()} ile test sonunda silinir.</p>
+ */
+public class InvoiceApiClient {
+    private static final Logger logger = LoggerFactory.getLogger(InvoiceApiClient.class);
+
+    // Yaygın CSRF çerezleri; bulunursa değeri başlık olarak da gönderilir
+    private static final List<String> CSRF_COOKIES = Arrays.asList("XSRF-TOKEN", "CSRF-TOKEN", "csrftoken");
+    private static final String CSRF_HEADER = "X-XSRF-TOKEN";
+
+    // Bağlantılar tüm istemciler ve thread'ler arasında yeniden kullanılır
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(ConfigManager.getInstance().getApiTimeout())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+    private final URI invoicesUri;
+    private final String cookieHeader;
+    private final String csrfToken;
+    private final Duration timeout;
+    private final int parallelism;
+    private final Set<String> createdIds = ConcurrentHashMap.newKeySet();
+
+    private InvoiceApiClient(URI invoicesUri, Set<Cookie> cookies, Duration timeout, int parallelism) {
+        this.invoicesUri = invoicesUri;
+        this.cookieHeader = cookies.stream()
+                .map(cookie -> cookie.getName() + "=" + cookie.getValue())
+                .collect(Collectors.joining("; "));
+        this.csrfToken = cookies.stream()
+                .filter(cookie -> CSRF_COOKIES.contains(cookie.getName()))
+                .map(Cookie::getValue)
+                .findFirst()
+                .orElse(null);
+        this.timeout = timeout;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Tarayıcının mevcut oturum çerezlerini kullanan istemci oluşturur. Tarayıcı oturum açılmış bir sayfada olmalıdır.
+     *
+     * @param driver WebDriver
+     * @return InvoiceApiClient instance
+     */
+    public static InvoiceApiClient fromBrowserSession(WebDriver driver) {
+        ConfigManager config = ConfigManager.getInstance();
+        URI uri = URI.create(config.getApiBaseUrl().replaceAll("/+$", "") + config.getApiInvoicePath());
+        Set<Cookie> cookies = driver.manage().getCookies();
+        logger.debug("Invoice API client created for {} with {} session cookie(s)", uri, cookies.size());
+        return new InvoiceApiClient(uri, cookies, config.getApiTimeout(), config.getApiSeedParallelism());
+    }
+
+    /**
+     * Faturayı oluşturur.
+     *
+     * @param invoice Fatura verileri
+     * @return Oluşturulan faturanın kimliği
+     */
+    public String createInvoice(InvoiceData invoice) {
+        return createInvoices(Collections.singletonList(invoice)).get(0);
+    }
+
+    /**
+     * Faturaları eş zamanlı isteklerle oluşturur.
+     *
+     * @param invoices Fatura verileri
+     * @return Oluşturulan faturaların kimlikleri, verilen sırayla
+     */
+    public List<String> createInvoices(List<InvoiceData> invoices) {
+        long start = System.nanoTime();
+        List<HttpRequest> requests = new ArrayList<>(invoices.size());
+        for (InvoiceData invoice : invoices) {
+            requests.add(request(invoicesUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(toJson(invoice).toString()))
+                    .build());
+        }
+        List<String> ids = sendAll(requests, response -> {
+            expectStatus(response, 200, 201);
+            String id = idOf(response);
+            createdIds.add(id);
+            return id;
+        });
+        logger.info("Created {} invoice(s) via API in {} ms", ids.size(), (System.nanoTime() - start) / 1_000_000);
+        return ids;
+    }
+
+    /**
+     * Faturayı siler. Fatura zaten silinmişse hata vermez.
+     *
+     * @param id Fatura kimliği
+     */
+    public void deleteInvoice(String id) {
+        deleteInvoices(Collections.singletonList(id));
+    }
+
+    /**
+     * Faturaları eş zamanlı isteklerle siler. Zaten silinmiş faturalar için hata vermez.
+     *
+     * @param ids Fatura kimlikleri
+     */
+    public void deleteInvoices(Collection<String> ids) {
+        List<String> pending = new ArrayList<>(ids);
+        List<HttpRequest> requests = new ArrayList<>(pending.size());
+        for (String id : pending) {
+            requests.add(request(invoiceUri(id)).DELETE().build());
+        }
+        sendAll(requests, response -> {
+            expectStatus(response, 200, 202, 204, 404);
+            return null;
+        });
+        createdIds.removeAll(pending);
+        logger.info("Deleted {} invoice(s) via API", pending.size());
+    }
+
+    /**
+     * Fatura numarasına sahip faturaların kimliklerini döndürür.
+     *
+     * @param invoiceNumber Fatura numarası
+     * @return Fatura kimlikleri
+     * @throws RuntimeException Liste yanıtında fatura numarası eksik ya da farklı bir kayıt varsa
+     */
+    public List<String> findInvoiceIds(String invoiceNumber) {
+        URI uri = URI.create(invoicesUri + "?invoiceNumber=" + URLEncoder.encode(invoiceNumber, StandardCharsets.UTF_8));
+        HttpResponse<String> response = send(request(uri).header("Accept", "application/json").GET().build());
+        expectStatus(response, 200);
+        return matchingIds(response.body(), invoiceNumber);
+    }
+
+    /**
+     * Liste yanıtındaki faturaların kimliklerini döndürür. Yanıttaki her kaydın fatura numarası aranan numarayla aynı
+     * olmalıdır; sunucu filtreyi yok sayar ya da numarayı döndürmezse silme işlemleri başka faturaları da
+     * kapsayacağından hata verilir.
+     *
+     * @param body Liste yanıtı
+     * @param invoiceNumber Fatura numarası
+     * @return Fatura kimlikleri
+     * @throws RuntimeException Bir kaydın fatura numarası eksik ya da farklıysa
+     */
+    static List<String> matchingIds(String body, String invoiceNumber) {
+        List<String> ids = new ArrayList<>();
+        for (Object item : items(body)) {
+            JSONObject invoice = (JSONObject) item;
+            Object id = invoice.opt("id");
+            if (!invoice.has("invoiceNumber")) {
+                throw new RuntimeException("Invoice API list response has no invoiceNumber for invoice " + id
+                        + ", cannot verify that it matches " + invoiceNumber);
+            }
+            String actual = String.valueOf(invoice.get("invoiceNumber"));
+            if (!invoiceNumber.equals(actual)) {
+                throw new RuntimeException("Invoice API ignored the invoiceNumber filter: expected " + invoiceNumber
+                        + " but invoice " + id + " has " + actual);
+            }
+            ids.add(String.valueOf(invoice.get("id")));
+        }
+        return ids;
+    }
+
+    /**
+     * Fatura numarasına sahip tüm faturaları siler. Arayüzden oluşturulan faturaları temizlemek için kullanılır.
+     *
+     * @param invoiceNumber Fatura numarası
+     */
+    public void deleteInvoicesByNumber(String invoiceNumber) {
+        List<String> ids = findInvoiceIds(invoiceNumber);
+        if (ids.isEmpty()) {
+            logger.debug("No invoice found to delete: {}", invoiceNumber);
+            return;
+        }
+        deleteInvoices(ids);
+    }
+
+    /**
+     * Bu istemcinin oluşturduğu ve henüz silinmemiş tüm faturaları siler.
+     */
+    public void deleteCreatedInvoices() {
+        if (!createdIds.isEmpty()) {
+            deleteInvoices(new ArrayList<>(createdIds));
+        }
+    }
+
+    /**
+     * Faturayı API'nin beklediği JSON gövdesine dönüştürür.
+     *
+     * @param invoice Fatura verileri
+     * @return JSON nesnesi
+     */
+    static JSONObject toJson(InvoiceData invoice) {
+        JSONArray items = new JSONArray();
+        for (InvoiceItemData item : invoice.getItems()) {
+            items.put(new JSONObject()
+                    .put("productName", item.getProductName())
+                    .put("quantity", item.getQuantity())
+                    .put("unitPrice", item.getUnitPrice())
+                    .putOpt("taxRate", item.getTaxRate()));
+        }
+        return new JSONObject()
+                .put("invoiceNumber", invoice.getInvoiceNumber())
+                .put("customerName", invoice.getCustomerName())
+                .put("invoiceDate", invoice.getInvoiceDate())
+                .put("items", items)
+                .put("totalAmount", invoice.getTotalAmount())
+                .putOpt("status", invoice.getStatus())
+                .putOpt("notes", invoice.getNotes());
+    }
+
+    private HttpRequest.Builder request(URI uri) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(timeout);
+        if (!cookieHeader.isEmpty()) {
+            builder.header("Cookie", cookieHeader);
+        }
+        if (csrfToken != null) {
+            builder.header(CSRF_HEADER, csrfToken);
+        }
+        return builder;
+    }
+
+    private URI invoiceUri(String id) {
+        return URI.create(invoicesUri + "/" + URLEncoder.encode(id, StandardCharsets.UTF_8));
+    }
+
+    private static HttpResponse<String> send(HttpRequest request) {
+        try {
+            return HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new RuntimeException("Invoice API request failed: " + request.method() + " " + request.uri(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted during invoice API request: " + request.uri(), e);
+        }
+    }
+
+    /**
+     * İstekleri en fazla {@code parallelism} kadarı aynı anda sürecek şekilde gönderir ve yanıtları sırayla işler.
+     */
+    private <T> List<T> sendAll(List<HttpRequest> requests, Function<HttpResponse<String>, T> handler) {
+        Semaphore permits = new Semaphore(parallelism);
+        List<CompletableFuture<T>> futures = new ArrayList<>(requests.size());
+        try {
+            for (HttpRequest request : requests) {
+                permits.acquire();
+                futures.add(HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                        .whenComplete((response, error) -> permits.release())
+                        .thenApply(handler));
+            }
+            List<T> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted during invoice API requests", e);
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("Invoice API request failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    private static void expectStatus(HttpResponse<String> response, int... expected) {
+        for (int status : expected) {
+            if (response.statusCode() == status) {
+                return;
+            }
+        }
+        logger.error("Invoice API returned {} for {} {}: {}", response.statusCode(), response.request().method(),
+                response.request().uri(), response.body());
+        throw new RuntimeException("Invoice API returned " + response.statusCode() + " for "
+                + response.request().method() + " " + response.request().uri());
+    }
+
+    /**
+     * Yanıttan oluşturulan kaydın kimliğini okur: gövdedeki id alanı, yoksa Location başlığının son parçası.
+     */
+    private static String idOf(HttpResponse<String> response) {
+        String body = response.body();
+        if (body != null && body.trim().startsWith("{")) {
+            JSONObject json = new JSONObject(body);
+            if (json.has("id")) {
+                return String.valueOf(json.get("id"));
+            }
+        }
+        return response.headers().firstValue("Location")
+                .map(location -> location.substring(location.lastIndexOf('/') + 1))
+                .orElseThrow(() -> new RuntimeException("Invoice API response has no id: " + body));
+    }
+
+    /**
+     * Liste yanıtındaki kayıtları döndürür. Yanıt bir dizi ya da items, content veya data alanında dizi taşıyan
+     * bir nesne olabilir.
+     */
+    private static JSONArray items(String body) {
+        try {
+            String trimmed = body.trim();
+            if (trimmed.startsWith("[")) {
+                return new JSONArray(trimmed);
+            }
+            JSONObject json = new JSONObject(trimmed);
+            for (String key : Arrays.asList("items", "content", "data")) {
+                if (json.optJSONArray(key) != null) {
+                    return json.getJSONArray(key);
+                }
+            }
+        } catch (JSONException e) {
+            throw new RuntimeException("Invoice API list response could not be parsed: " + e.getMessage(), e);
+        }
+        throw new RuntimeException("Invoice API list response has no items: " + body);
+    }
+}
@@ -2,8 +2,8 @@ package com.erp.test.pages.finance;
 
 import com.erp.test.components.ERPDataTable;
 import com.erp.test.core.page.BasePage;
+import com.erp.test.core.page.RoundTripBudget;
 import org.openqa.selenium.By;
-import org.openqa.selenium.WebElement;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +25,7 @@ public class InvoicePage extends BasePage {
     private final By statusFilter = By.id("statusFilter");
     private final By dateRangeFilter = By.id("dateRangeFilter");
     private final By customerFilter = By.id("customerFilter");
+    private final By nextPageButton = By.id("nextPageBtn");
     
     // Table column headers
     private final By invoiceNumberColumn = By.xpath("//th[contains(text(),'Fatura No')]");
@@ -68,6 +69,21 @@ public class InvoicePage extends BasePage {
         return this;
     }
     
+    /**
+     * Sayfayı yeniden yükler. Arayüz dışında (ör. API ile) oluşturulan ya da silinen faturaların listede
+     * görünmesi için kullanılır.
+     *
+     * @return InvoicePage instance
+     */
+    public InvoicePage refresh() {
+        logger.info("Refreshing invoice page");
+        driver.navigate().refresh();
+        waitForPageLoad();
+        waitForElementVisible(invoiceTable);
+        invoiceDataTable.invalidateSnapshot();
+        return this;
+    }
+
     /**
      * Yeni fatura butonuna tıklar.
      *
@@ -85,11 +101,13 @@ public class InvoicePage extends BasePage {
      * @param searchTerm Arama terimi
      * @return InvoicePage instance
      */
+    @RoundTripBudget(12)
     public InvoicePage searchInvoice(String searchTerm) {
         logger.info("Searching for invoice: {}", searchTerm);
         sendKeys(searchInput, searchTerm);
         click(searchButton);
-        waitForPageLoad();
+        waitForNetworkIdle();
+        invoiceDataTable.invalidateSnapshot();
         return this;
     }
     
@@ -98,10 +116,12 @@ public class InvoicePage extends BasePage {
      *
      * @return InvoicePage instance
      */
+    @RoundTripBudget(8)
     public InvoicePage clearFilters() {
         logger.info("Clearing filters");
         click(clearFilterButton);
-        waitForPageLoad();
+        waitForNetworkIdle();
+        invoiceDataTable.invalidateSnapshot();
         return this;
     }
     
@@ -114,7 +134,8 @@ public class InvoicePage extends BasePage {
     public InvoicePage filterByStatus(String status) {
         logger.info("Filtering by status: {}", status);
         selectByVisibleText(statusFilter, status);
-        waitForPageLoad();
+        waitForNetworkIdle();
+        invoiceDataTable.invalidateSnapshot();
         return this;
     }
     
@@ -127,20 +148,35 @@ public class InvoicePage extends BasePage {
     public InvoicePage filterByCustomer(String customer) {
         logger.info("Filtering by customer: {}", customer);
         selectByVisibleText(customerFilter, customer);
-        waitForPageLoad();
+        waitForNetworkIdle();
+        invoiceDataTable.invalidateSnapshot();
         return this;
     }
     
     /**
-     * Belirtilen faturanın görüntülenip görüntülenmediğini kontrol eder.
+     * Belirtilen faturanın o anki sayfada görüntülenip görüntülenmediğini kontrol eder. Tablonun sayfası değişmez.
      *
      * @param invoiceNumber Fatura numarası
      * @return Fatura görüntüleniyorsa true, değilse false
      */
     public boolean isInvoiceDisplayed(String invoiceNumber) {
         logger.info("Checking if invoice is displayed: {}", invoiceNumber);
-        WebElement invoiceRow = invoiceDataTable.findCellInColumn("Fatura No", invoiceNumber);
-        return invoiceRow != null;
+        return invoiceDataTable.findRowIndexByColumnValue("Fatura No", invoiceNumber) != -1;
+    }
+    
+    /**
+     * Fatura bulunana kadar tablonun sayfalarını ilerletir. Tarama o anki sayfadan başlar ve fatura bulunduğunda
+     * durur; tablo faturanın bulunduğu sayfada, fatura yoksa son sayfada kalır. İlk sayfaya dönmek için
+     * {@link #refresh()} ya da {@link #clearFilters()} kullanılabilir.
+     *
+     * @param invoiceNumber Fatura numarası
+     * @return Fatura herhangi bir sayfada bulunduysa true, değilse false
+     * @throws org.openqa.selenium.TimeoutException Sonraki sayfa süre içinde yüklenmezse
+     */
+    public boolean pageToInvoice(String invoiceNumber) {
+        logger.info("Paging through invoice table for invoice: {}", invoiceNumber);
+        return invoiceDataTable.streamAllPages(nextPageButton)
+                .anyMatch(row -> invoiceNumber.equals(row.get("Fatura No")));
     }
     
     /**
@@ -201,7 +237,8 @@ public class InvoicePage extends BasePage {
         // Handle confirmation dialog
         By confirmButton = By.xpath("//button[text()='Evet, Sil']");
         click(confirmButton);
-        waitForPageLoad();
+        waitForNetworkIdle();
+        invoiceDataTable.invalidateSnapshot();
         
         return this;
     }
@@ -213,15 +250,7 @@ public class InvoicePage extends BasePage {
      */
     public List<String> getAllInvoiceNumbers() {
         logger.info("Getting all invoice numbers");
-        List<String> invoiceNumbers = new ArrayList<>();
-        int rowCount = invoiceDataTable.getRowCount();
-        
-        for (int i = 0; i < rowCount; i++) {
-            String invoiceNumber = invoiceDataTable.getCellText(i, "Fatura No");
-            invoiceNumbers.add(invoiceNumber);
-        }
-        
-        return invoiceNumbers;
+        return new ArrayList<>(invoiceDataTable.getColumnValues("Fatura No"));
     }
     
     /**
@@ -229,10 +258,12 @@ public class InvoicePage extends BasePage {
      *
      * @return InvoicePage instance
      */
+    @RoundTripBudget(8)
     public InvoicePage sortByInvoiceNumber() {
         logger.info("Sorting by invoice number");
         click(invoiceNumberColumn);
-        waitForPageLoad();
+        waitForNetworkIdle();
+        invoiceDataTable.invalidateSnapshot();
         return this;
     }
     
@@ -241,10 +272,12 @@ public class InvoicePage extends BasePage {
      *
      * @return InvoicePage instance
      */
+    @RoundTripBudget(8)
     public InvoicePage sortByCustomer() {
         logger.info("Sorting by customer");
         click(customerColumn);
-        waitForPageLoad();
+        waitForNetworkIdle();
+        invoiceDataTable.invalidateSnapshot();
         return this;
     }
     
@@ -253,10 +286,12 @@ public class InvoicePage extends BasePage {
      *
      * @return InvoicePage instance
      */
+    @RoundTripBudget(8)
     public InvoicePage sortByDate() {
         logger.info("Sorting by date");
         click(dateColumn);
-        waitForPageLoad();
+        waitForNetworkIdle();
+        invoiceDataTable.invalidateSnapshot();
         return this;
     }
     
@@ -265,10 +300,12 @@ public class InvoicePage extends BasePage {
      *
      * @return InvoicePage instance
      */
+    @RoundTripBudget(8)
     public InvoicePage sortByAmount() {
         logger.info("Sorting by amount");
         click(amountColumn);
-        waitForPageLoad();
+        waitForNetworkIdle();
+        invoiceDataTable.invalidateSnapshot();
         return this;
     }
     
@@ -277,10 +314,12 @@ public class InvoicePage extends BasePage {
      *
      * @return InvoicePage instance
      */
+    @RoundTripBudget(8)
     public InvoicePage sortByStatus() {
         logger.info("Sorting by status");
         click(statusColumn);
-        waitForPageLoad();
+        waitForNetworkIdle();
+        invoiceDataTable.invalidateSnapshot();
         return this;
     }
     
@@ -289,11 +328,12 @@ public class InvoicePage extends BasePage {
      *
      * @return InvoicePage instance
      */
+    @RoundTripBudget(8)
     public InvoicePage exportInvoices() {
         logger.info("Exporting invoices");
         click(exportButton);
-        // Wait for export to complete
-        sleep(2);
+        // Wait for the export request to complete
+        waitForNetworkIdle();
         return this;
     }
     
@@ -302,11 +342,12 @@ public class InvoicePage extends BasePage {
      *
      * @return InvoicePage instance
      */
+    @RoundTripBudget(8)
     public InvoicePage printInvoices() {
         logger.info("Printing invoices");
         click(printButton);
-        // Wait for print dialog
-        sleep(2);
+        // Wait for the print preview to load
+        waitForNetworkIdle();
         return this;
     }
 }
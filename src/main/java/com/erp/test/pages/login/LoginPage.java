@@ -2,6 +2,8 @@ package com.erp.test.pages.login;
 
 import com.erp.test.core.config.ConfigManager;
 import com.erp.test.core.page.BasePage;
+import com.erp.test.core.session.SessionCache;
+import com.erp.test.core.session.SessionSnapshot;
 import com.erp.test.pages.common.DashboardPage;
 import org.openqa.selenium.By;
 
@@ -174,17 +176,60 @@ public class LoginPage extends BasePage {
                 .clickLoginButton();
     }
     
+    /**
+     * Önbellekteki oturumu kullanarak giriş yapar.
+     * Kullanıcı ve şirket için daha önce alınmış bir oturum görüntüsü varsa tarayıcıya yüklenir; yoksa veya sunucu
+     * oturumu reddederse arayüzden giriş yapılır ve yeni görüntü önbelleğe alınır.
+     *
+     * @param username Kullanıcı adı
+     * @param password Şifre
+     * @param company Şirket adı
+     * @return DashboardPage instance
+     */
+    public DashboardPage loginWithCachedSession(String username, String password, String company) {
+        SessionCache cache = SessionCache.getInstance();
+        SessionSnapshot snapshot = cache.get(username, company);
+        if (snapshot != null) {
+            logger.info("Restoring cached session. Username: {}, Company: {}", username, company);
+            snapshot.restore(driver);
+            waitForPageLoad();
+            if (!isLoginFormShown()) {
+                return new DashboardPage();
+            }
+            logger.warn("Cached session rejected by server, logging in again. Username: {}", username);
+            cache.invalidate(username, company, snapshot);
+        }
+        
+        DashboardPage dashboardPage = login(username, password, company);
+        cache.put(username, company, SessionSnapshot.capture(driver));
+        return dashboardPage;
+    }
+    
     /**
      * Yapılandırma dosyasındaki bilgilerle kullanıcı girişi yapar.
+     * session.cache.enabled açıksa önbellekteki oturum kullanılır.
      *
      * @return DashboardPage instance
      */
     public DashboardPage loginWithConfigCredentials() {
-        String username = ConfigManager.getInstance().getUsername();
-        String password = ConfigManager.getInstance().getPassword();
-        String company = ConfigManager.getInstance().getCompany();
+        ConfigManager config = ConfigManager.getInstance();
+        String username = config.getUsername();
+        String password = config.getPassword();
+        String company = config.getCompany();
         
         logger.info("Logging in with config credentials. Username: {}, Company: {}", username, company);
+        if (config.isSessionCacheEnabled()) {
+            return loginWithCachedSession(username, password, company);
+        }
         return login(username, password, company);
     }
+    
+    /**
+     * Tarayıcının giriş sayfasına yönlendirilip yönlendirilmediğini beklemeden kontrol eder.
+     *
+     * @return Giriş formu görüntüleniyorsa true
+     */
+    private boolean isLoginFormShown() {
+        return driver.getCurrentUrl().contains("/login") || isElementPresent(passwordInput);
+    }
 }
@@ -0,0 +1,104 @@
+package com.erp.test.components;
+
+import com.erp.test.core.fake.FakeWebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tablo görüntüsü ayrıştırma ve sorgulama maliyetini ölçen JMH benchmark'ı.
+ * Tarayıcı yerine gecikmesiz bir {@link FakeWebDriver} kullanılır; önbellekli sorgular yalnızca çerçevenin Java
+ * tarafındaki işini, yeniden okuma ise buna ek olarak sahte DOM'un gezilmesini ölçer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ERPDataTableBenchmark {
+    private static final List<String> HEADERS = Arrays.asList("Fatura No", "Müşteri", "Tarih", "Tutar", "Durum", "İşlemler");
+
+    @Param({"20", "200"})
+    public int rowCount;
+
+    private Map<String, Object> scriptResult;
+    private ERPDataTable table;
+    private String lastInvoiceNumber;
+
+    @Setup
+    public void setUp() {
+        List<Object> rows = new ArrayList<>(rowCount);
+        StringBuilder html = new StringBuilder("<html><body><table id=\"invoiceTable\"><thead><tr>");
+        for (String header : HEADERS) {
+            html.append("<th>").append(header).append("</th>");
+        }
+        html.append("</tr></thead><tbody>");
+        for (int i = 0; i < rowCount; i++) {
+            List<String> row = Arrays.asList(" INV-2024-" + String.format("%06d", i) + " ", "Müşteri " + (i % 17),
+                    "2024-01-" + String.format("%02d", 1 + i % 28), String.format("%d,50", 100 + i), "Onaylandı",
+                    "Görüntüle Düzenle Sil");
+            rows.add(row);
+            html.append("<tr>");
+            for (String cell : row) {
+                html.append("<td>").append(cell).append("</td>");
+            }
+            html.append("</tr>");
+        }
+        html.append("</tbody></table></body></html>");
+        scriptResult = new HashMap<>();
+        scriptResult.put("headers", HEADERS);
+        scriptResult.put("rows", rows);
+        lastInvoiceNumber = "INV-2024-" + String.format("%06d", rowCount - 1);
+
+        FakeWebDriver driver = new FakeWebDriver().addPage("https://erp.local/invoices", html.toString());
+        driver.get("https://erp.local/invoices");
+        table = new ERPDataTable(driver, By.id("invoiceTable"));
+    }
+
+    @Benchmark
+    public TableSnapshot parseSnapshot() {
+        return TableSnapshot.fromScriptResult(scriptResult);
+    }
+
+    @Benchmark
+    public List<String> freshColumnValues() {
+        table.invalidateSnapshot();
+        return table.getColumnValues("Fatura No");
+    }
+
+    @Benchmark
+    public int cachedFindRow() {
+        return table.findRowIndexByColumnValue("Fatura No", lastInvoiceNumber);
+    }
+
+    @Benchmark
+    public Map<String, String> cachedRowData() {
+        return table.getRowData(rowCount / 2);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ERPDataTableBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,196 @@
+package com.erp.test.components;
+
+import com.erp.test.core.fake.FakeWebDriver;
+import com.erp.test.core.wait.SmartWait;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * ERPDataTable'ın tablo okuma, önbellekleme ve sayfalama davranışlarını {@link FakeWebDriver} üzerinde
+ * doğrulayan bileşen testleri.
+ */
+public class ERPDataTableTest {
+    private static final String URL = "https://erp.local/invoices";
+    private static final By TABLE = By.id("invoiceTable");
+    private static final By NEXT_PAGE = By.id("nextPage");
+
+    private FakeWebDriver driver;
+
+    @BeforeMethod
+    public void setUp() {
+        driver = new FakeWebDriver().addPage(URL, page(
+                row("INV-001", "Acme A.Ş.", "1.250,00&nbsp;&euro;", "Onaylandı"),
+                row("INV-002", "Beta Ltd.", "980,50&nbsp;&euro;", "Taslak"),
+                row("inv-003", "Çelik &amp; Oğulları", "15,00&nbsp;&euro;", "Onaylandı")));
+        driver.get(URL);
+    }
+
+    @Test(description = "Başlıklar ve hücreler görünür metinleriyle okunur")
+    public void readsHeadersAndCells() {
+        ERPDataTable table = new ERPDataTable(driver, TABLE);
+
+        Assert.assertEquals(table.snapshot().getHeaders(),
+                Arrays.asList("Fatura No", "Müşteri", "Tutar", "Durum", "İşlemler"));
+        Assert.assertEquals(table.getRowCount(), 3);
+        Assert.assertEquals(table.getCellText(0, "Tutar"), "1.250,00 €");
+        Assert.assertEquals(table.getCellText(2, 1), "Çelik & Oğulları");
+        Assert.assertEquals(table.getRowData(1), Map.of("Fatura No", "INV-002", "Müşteri", "Beta Ltd.",
+                "Tutar", "980,50 €", "Durum", "Taslak", "İşlemler", "Sil"));
+        Assert.assertEquals(table.getColumnValues("Durum"), Arrays.asList("Onaylandı", "Taslak", "Onaylandı"));
+    }
+
+    @Test(description = "Satırlar tam eşleşme, büyük/küçük harf duyarsız eşleşme ve önekle bulunur")
+    public void findsRows() {
+        ERPDataTable table = new ERPDataTable(driver, TABLE);
+
+        Assert.assertEquals(table.findRowIndexByColumnValue("Fatura No", "INV-002"), 1);
+        Assert.assertEquals(table.findRowIndexByColumnValue("Fatura No", "INV-999"), -1);
+        Assert.assertEquals(table.findRowIndexByColumnValueIgnoreCase("Fatura No", "INV-003"), 2);
+        Assert.assertEquals(table.findRowIndicesByColumnPrefix("Fatura No", "INV-"), Arrays.asList(0, 1));
+        Assert.assertEquals(table.findCellInColumn("Müşteri", "Beta Ltd.").getText(), "Beta Ltd.");
+        Assert.assertNull(table.findCellInColumn("Müşteri", "Yok"));
+    }
+
+    @Test(description = "Tablo tek betik çağrısıyla okunur ve tıklamaya kadar önbellekte tutulur")
+    public void cachesSnapshotUntilClick() {
+        ERPDataTable table = new ERPDataTable(driver, TABLE);
+        driver.resetCommandCounts();
+
+        table.getRowCount();
+        table.getColumnValues("Fatura No");
+        table.findRowIndexByColumnValue("Durum", "Taslak");
+
+        Assert.assertEquals(driver.getCommandCount("executeScript"), 0);
+
+        driver.onClick("#invoiceTable tbody td",
+                d -> d.setInnerHtml("#rows", row("INV-004", "Delta", "1,00", "İptal")));
+        table.clickCell(0, "Durum");
+
+        Assert.assertEquals(table.getColumnValues("Fatura No"), List.of("INV-004"));
+        Assert.assertEquals(driver.getCommandCount("executeScript"), 1);
+    }
+
+    @Test(description = "invalidateSnapshot sonrası tablo yeniden okunur; eskiyen tablo elementi yeniden bulunur")
+    public void rereadsAfterInvalidationAndReload() {
+        ERPDataTable table = new ERPDataTable(driver, TABLE);
+        Assert.assertEquals(table.getRowCount(), 3);
+
+        driver.loadHtml(page(row("INV-010", "Epsilon", "5,00", "Onaylandı")));
+        Assert.assertEquals(table.getRowCount(), 3);
+
+        table.invalidateSnapshot();
+        Assert.assertEquals(table.getColumnValues("Fatura No"), List.of("INV-010"));
+    }
+
+    @Test(description = "Sıralama başlığa tıklar ve tabloyu yeniden okutur")
+    public void sortsByClickingHeader() {
+        ERPDataTable table = new ERPDataTable(driver, TABLE);
+        driver.onClick("#invoiceTable th.amount", d -> d.setInnerHtml("#rows",
+                row("inv-003", "Çelik", "15,00", "Onaylandı") + row("INV-002", "Beta", "980,50", "Taslak")));
+
+        table.sortByColumn("Tutar");
+
+        Assert.assertEquals(table.getColumnValues("Fatura No"), Arrays.asList("inv-003", "INV-002"));
+    }
+
+    @Test(description = "Hücredeki düğmeye metnine göre tıklanır")
+    public void clicksButtonInCell() {
+        ERPDataTable table = new ERPDataTable(driver, TABLE);
+        String[] deleted = new String[1];
+        driver.onClick("#invoiceTable tbody tr:nth-child(2) button.delete", d -> deleted[0] = "INV-002");
+
+        table.clickButtonInCell(1, "İşlemler", "Sil");
+
+        Assert.assertEquals(deleted[0], "INV-002");
+    }
+
+    @Test(description = "Bilinmeyen sütun ve tablo dışı satır indeksi hata verir")
+    public void rejectsInvalidColumnAndRow() {
+        ERPDataTable table = new ERPDataTable(driver, TABLE);
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> table.getCellText(0, "Vergi No"));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> table.getRowData(3));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> table.getCell(5, 0));
+    }
+
+    @Test(description = "Sayfalı tablonun tüm sayfaları sırayla okunur, son sayfada durulur")
+    public void streamsAllPages() {
+        paginate();
+        ERPDataTable table = new ERPDataTable(driver, TABLE);
+
+        List<String> invoices = table.streamAllPages(NEXT_PAGE)
+                .map(row -> row.get("Fatura No"))
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(invoices,
+                Arrays.asList("INV-001", "INV-002", "inv-003", "INV-101", "INV-102", "INV-201"));
+    }
+
+    @Test(description = "Kısa devre yapan akış işlemleri gereksiz sayfaları yüklemez")
+    public void stopsPagingOnShortCircuit() {
+        int[] loadedPages = paginate();
+        ERPDataTable table = new ERPDataTable(driver, TABLE);
+
+        boolean found = table.streamAllPages(NEXT_PAGE).anyMatch(row -> "INV-101".equals(row.get("Fatura No")));
+
+        Assert.assertTrue(found);
+        Assert.assertEquals(loadedPages[0], 2);
+        Assert.assertEquals(table.getColumnValues("Fatura No"), Arrays.asList("INV-101", "INV-102"));
+    }
+
+    @Test(description = "Tıklanan sonraki sayfa süre içinde yüklenmezse kalan satırlar atlanmaz, hata verilir")
+    public void failsWhenNextPageDoesNotLoad() {
+        driver.onClick("#nextPage", d -> { });
+        ERPDataTable table = new ERPDataTable(driver, TABLE,
+                new SmartWait(driver, Duration.ofMillis(200), Duration.ofMillis(10), Duration.ofMillis(50)));
+
+        Assert.assertThrows(TimeoutException.class,
+                () -> table.streamAllPages(NEXT_PAGE).collect(Collectors.toList()));
+    }
+
+    /**
+     * Sonraki sayfa düğmesine tıklanınca tabloya sıradaki sayfayı yükler; son sayfada düğme devre dışı
+     * kalır.
+     *
+     * @return Yüklenen sayfa sayısını tutan dizi (ilk sayfa dahil)
+     */
+    private int[] paginate() {
+        List<String> pages = Arrays.asList(
+                row("INV-101", "Zeta", "1,00", "Taslak") + row("INV-102", "Eta", "2,00", "Taslak"),
+                row("INV-201", "Theta", "3,00", "Onaylandı"));
+        int[] loadedPages = {1};
+        driver.onClick("#nextPage", d -> {
+            d.setInnerHtml("#rows", pages.get(loadedPages[0] - 1));
+            loadedPages[0]++;
+            if (loadedPages[0] > pages.size()) {
+                d.setInnerHtml("#pager", "<button id=\"nextPage\" disabled>Sonraki</button>");
+            }
+        });
+        return loadedPages;
+    }
+
+    private static String page(String... rows) {
+        return "<!DOCTYPE html><html><head><title>Faturalar</title>"
+                + "<script>function sum(a, b) { return a < b && b > 0 ? a + b : 0; }</script>"
+                + "<style>td > span { color: red; }</style></head><body>"
+                + "<table id=\"invoiceTable\"><thead><tr><th>Fatura No</th><th>Müşteri</th>"
+                + "<th class=\"amount\">Tutar</th><th>Durum</th><th>İşlemler</th></tr></thead>"
+                + "<tbody id=\"rows\">" + String.join("", rows) + "</tbody></table>"
+                + "<div id=\"pager\"><button id=\"nextPage\">Sonraki &rarr;</button></div>"
+                + "<footer>&copy; 2024 ERP</footer></body></html>";
+    }
+
+    private static String row(String invoiceNumber, String customer, String amount, String status) {
+        return "<tr><td>" + invoiceNumber + "</td><td>" + customer + "</td><td>" + amount + "</td><td>" + status
+                + "</td><td><button class=\"delete\" title=\"Sil\">Sil</button></td></tr>";
+    }
+}
@@ -0,0 +1,82 @@
+package com.erp.test.components;
+
+import com.erp.test.core.fake.FakeWebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openqa.selenium.By;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Form doldurmanın sürücü komutu maliyetini ölçen JMH benchmark'ı.
+ * Alanları tek tek dolduran yol ile tek betik çağrısıyla dolduran yol, her komuta yapay gecikme eklenen
+ * {@link FakeWebDriver} üzerinde karşılaştırılır; gecikme uzak bir tarayıcıya yapılan gidiş-dönüşü temsil eder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ERPFormBenchmark {
+
+    @Param({"5", "20"})
+    public int fieldCount;
+
+    @Param({"0", "200"})
+    public int latencyMicros;
+
+    private ERPForm form;
+    private Map<String, Object> values;
+
+    @Setup
+    public void setUp() {
+        StringBuilder html = new StringBuilder("<html><body><form id=\"invoiceForm\">");
+        values = new LinkedHashMap<>();
+        for (int i = 0; i < fieldCount; i++) {
+            html.append("<div><label for=\"field").append(i).append("\">Alan ").append(i).append("</label>")
+                    .append("<input type=\"text\" id=\"field").append(i).append("\"/></div>");
+            values.put("Alan " + i, "Değer " + i);
+        }
+        html.append("</form></body></html>");
+
+        FakeWebDriver driver = new FakeWebDriver()
+                .addPage("https://erp.local/invoices/new", html.toString())
+                .withLatency(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(latencyMicros)));
+        driver.get("https://erp.local/invoices/new");
+        form = new ERPForm(driver, By.id("invoiceForm"));
+    }
+
+    @Benchmark
+    public void fillFieldByField() {
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            form.enterTextByLabel(entry.getKey(), String.valueOf(entry.getValue()));
+        }
+    }
+
+    @Benchmark
+    public void fillInSingleScript() {
+        form.fill(values);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ERPFormBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
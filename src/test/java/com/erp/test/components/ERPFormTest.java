@@ -0,0 +1,160 @@
+package com.erp.test.components;
+
+import com.erp.test.core.fake.FakeWebDriver;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ERPForm'un alan çözümleme, doldurma ve alan haritası önbelleği davranışlarını {@link FakeWebDriver}
+ * üzerinde doğrulayan bileşen testleri.
+ */
+public class ERPFormTest {
+    private static final String URL = "https://erp.local/invoices/new";
+    private static final By FORM = By.id("invoiceForm");
+
+    private FakeWebDriver driver;
+    private ERPForm form;
+
+    @BeforeMethod
+    public void setUp() {
+        driver = new FakeWebDriver().addPage(URL, "<!DOCTYPE html><html><head><title>Yeni Fatura</title>"
+                + "<script>var ready = a < b && c;</script></head><body>"
+                + "<form id=\"invoiceForm\">"
+                + "<div><label for=\"customer\">Müşteri Adı</label>"
+                + "<input type=\"text\" id=\"customer\" name=\"customer\"></div>"
+                + "<div><label>Açıklama</label><textarea name=\"description\"></textarea></div>"
+                + "<div><input type=\"text\" name=\"amount\" placeholder=\"Tutar (&euro;)\"></div>"
+                + "<div><input type=\"text\" id=\"taxNumber\" name=\"taxNumber\"></div>"
+                + "<div><label for=\"currency\">Para Birimi</label><select id=\"currency\" name=\"currency\">"
+                + "<option value=\"TRY\" selected>Türk Lirası</option>"
+                + "<option value=\"EUR\">Euro</option></select></div>"
+                + "<div><label for=\"einvoice\">E-Fatura</label>"
+                + "<input type=\"checkbox\" id=\"einvoice\" name=\"einvoice\"></div>"
+                + "<div><input type=\"radio\" name=\"paymentType\" value=\"CASH\" checked>"
+                + "<input type=\"radio\" name=\"paymentType\" value=\"CARD\"></div>"
+                + "<div id=\"extra\"></div>"
+                + "<button type=\"submit\">Kaydet</button>"
+                + "</form><div id=\"result\" style=\"display:none\">Fatura kaydedildi</div></body></html>");
+        driver.get(URL);
+        form = new ERPForm(driver, FORM);
+    }
+
+    @Test(description = "Metin alanları etiket, üst eleman etiketi, placeholder ve name ile bulunur")
+    public void entersTextByLabelPlaceholderAndName() {
+        form.enterTextByLabel("Müşteri Adı", "Acme A.Ş.");
+        form.enterTextByLabel("Açıklama", "Ocak hizmet bedeli");
+        form.enterTextByLabel("Tutar (€)", "1250");
+        form.enterTextByLabel("taxNumber", "1234567890");
+
+        Map<String, String> values = form.getAllFieldValues();
+        Assert.assertEquals(values.get("customer"), "Acme A.Ş.");
+        Assert.assertEquals(values.get("description"), "Ocak hizmet bedeli");
+        Assert.assertEquals(values.get("amount"), "1250");
+        Assert.assertEquals(values.get("taxNumber"), "1234567890");
+    }
+
+    @Test(description = "Dropdown, checkbox ve radio alanları etiket ya da grup adıyla seçilir")
+    public void selectsChoiceFields() {
+        form.selectByVisibleText("Para Birimi", "Euro");
+        form.setCheckbox("E-Fatura", true);
+        form.setCheckbox("E-Fatura", true);
+        form.selectRadioButton("paymentType", "CARD");
+
+        Map<String, String> values = form.getAllFieldValues();
+        Assert.assertEquals(values.get("currency"), "Euro");
+        Assert.assertEquals(values.get("einvoice"), "true");
+        Assert.assertTrue(driver.findElement(By.cssSelector("input[value=CARD]")).isSelected());
+        Assert.assertFalse(driver.findElement(By.cssSelector("input[value=CASH]")).isSelected());
+
+        form.selectByValue("Para Birimi", "TRY");
+        form.setCheckbox("E-Fatura", false);
+        Assert.assertEquals(form.getAllFieldValues().get("currency"), "Türk Lirası");
+        Assert.assertEquals(form.getAllFieldValues().get("einvoice"), "false");
+    }
+
+    @Test(description = "fill tüm alan türlerini tek betik çağrısıyla doldurur")
+    public void fillsAllFieldsInSingleScript() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("Müşteri Adı", "Beta Ltd.");
+        values.put("Açıklama", "Danışmanlık");
+        values.put("Tutar (€)", 980.5);
+        values.put("Para Birimi", "Euro");
+        values.put("E-Fatura", true);
+        values.put("paymentType", "CARD");
+        driver.resetCommandCounts();
+
+        form.fill(values);
+
+        Assert.assertEquals(driver.getCommandCount("executeScript"), 1);
+        Map<String, String> filled = form.getAllFieldValues();
+        Assert.assertEquals(filled.get("customer"), "Beta Ltd.");
+        Assert.assertEquals(filled.get("description"), "Danışmanlık");
+        Assert.assertEquals(filled.get("amount"), "980.5");
+        Assert.assertEquals(filled.get("currency"), "Euro");
+        Assert.assertEquals(filled.get("einvoice"), "true");
+        Assert.assertTrue(driver.findElement(By.cssSelector("input[value=CARD]")).isSelected());
+    }
+
+    @Test(description = "Tuş vuruşu gerektiren alanlar betikle değil, tek tek doldurulur")
+    public void fillsKeystrokeFieldsSeparately() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("Müşteri Adı", "Gamma A.Ş.");
+        values.put("taxNumber", "9876543210");
+        driver.resetCommandCounts();
+
+        form.fill(values, Collections.singleton("taxNumber"));
+
+        Assert.assertEquals(driver.getCommandCount("sendKeys"), 1);
+        Assert.assertEquals(form.getAllFieldValues().get("customer"), "Gamma A.Ş.");
+        Assert.assertEquals(form.getAllFieldValues().get("taxNumber"), "9876543210");
+    }
+
+    @Test(description = "Bulunamayan alanlar ve geçersiz seçenekler hata olarak bildirilir")
+    public void reportsUnresolvedFields() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("Müşteri Adı", "Delta");
+        values.put("Vergi Dairesi", "Kadıköy");
+        values.put("Para Birimi", "Dolar");
+
+        IllegalArgumentException error = Assert.expectThrows(IllegalArgumentException.class, () -> form.fill(values));
+
+        Assert.assertTrue(error.getMessage().contains("Vergi Dairesi"), error.getMessage());
+        Assert.assertTrue(error.getMessage().contains("Para Birimi"), error.getMessage());
+        Assert.assertThrows(IllegalArgumentException.class, () -> form.enterTextByLabel("Vergi Dairesi", "x"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> form.selectRadioButton("paymentType", "CHEQUE"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> form.clickButton("Sil"));
+    }
+
+    @Test(description = "Alan haritası bir kez oluşturulur, form DOM'u değişince yeni alanlar için yenilenir")
+    public void rebuildsFieldMapOnlyAfterDomChange() {
+        driver.resetCommandCounts();
+        form.enterTextByLabel("Müşteri Adı", "Epsilon");
+        form.enterTextByLabel("Açıklama", "Bakım");
+        form.setCheckbox("E-Fatura", true);
+        Assert.assertEquals(driver.getCommandCount("executeScript"), 1);
+
+        driver.setInnerHtml("#extra", "<label for=\"dueDate\">Vade Tarihi</label>"
+                + "<input type=\"text\" id=\"dueDate\" name=\"dueDate\">");
+        form.enterTextByLabel("Vade Tarihi", "2024-02-01");
+
+        Assert.assertEquals(form.getAllFieldValues().get("dueDate"), "2024-02-01");
+        Assert.assertEquals(driver.getCommandCount("executeScript"), 3);
+    }
+
+    @Test(description = "Düğmeye tıklanır ve sonrasında beklenen elementin görünmesi beklenir")
+    public void clicksButtonAndWaitsForResult() {
+        driver.onClick("#invoiceForm button", d -> d.setInnerHtml("body",
+                "<div id=\"result\">Fatura kaydedildi</div>"));
+
+        form.clickButton("Kaydet");
+        form.waitForElementAfterSubmit(By.id("result"), 1);
+
+        Assert.assertEquals(driver.findElement(By.id("result")).getText(), "Fatura kaydedildi");
+    }
+}
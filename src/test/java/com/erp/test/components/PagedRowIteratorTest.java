@@ -0,0 +1,150 @@
+package com.erp.test.components;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * PagedRowIterator'ın sayfa geçişlerini ve kesişen pencerelerdeki tekrarları atlamasını doğrulayan birim testleri.
+ */
+public class PagedRowIteratorTest {
+
+    @Test(description = "Sayfalı tabloda tüm sayfaların satırları sırayla döner, boş sayfalar atlanır")
+    public void iteratesAllPages() {
+        Pages pages = new Pages(page("1", "2"), page(), page("3"));
+
+        Assert.assertEquals(ids(new PagedRowIterator(pages::load, pages::next, false)), Arrays.asList("1", "2", "3"));
+    }
+
+    @Test(description = "Sayfalı modda sayfalar arasında tekrar eden satırlar atlanmaz")
+    public void keepsRepeatedRowsWithoutOverlapMode() {
+        Pages pages = new Pages(page("1", "2"), page("2", "3"));
+
+        Assert.assertEquals(ids(new PagedRowIterator(pages::load, pages::next, false)),
+                Arrays.asList("1", "2", "2", "3"));
+    }
+
+    @Test(description = "Kesişen pencerelerde önceki pencerenin sonuyla aynı olan satırlar atlanır")
+    public void skipsOverlapBetweenWindows() {
+        Pages pages = new Pages(page("1", "2", "3", "4"), page("3", "4", "5", "6"), page("6", "7"));
+
+        Assert.assertEquals(ids(new PagedRowIterator(pages::load, pages::next, true)),
+                Arrays.asList("1", "2", "3", "4", "5", "6", "7"));
+    }
+
+    @Test(description = "Kesişme yoksa yeni pencerenin tüm satırları döner")
+    public void keepsWindowWithoutOverlap() {
+        Pages pages = new Pages(page("1", "2"), page("3", "4"));
+
+        Assert.assertEquals(ids(new PagedRowIterator(pages::load, pages::next, true)),
+                Arrays.asList("1", "2", "3", "4"));
+    }
+
+    @Test(description = "Kesişme en uzun ortak sonek/önek olarak bulunur, tüm sütunlar karşılaştırılır")
+    public void matchesOverlapOnAllColumns() {
+        TableSnapshot first = table(Arrays.asList(row("1", "a"), row("2", "b"), row("2", "b")));
+        TableSnapshot second = table(Arrays.asList(row("2", "b"), row("2", "b"), row("2", "c")));
+        Pages pages = new Pages(first, second);
+
+        List<Map<String, String>> rows = collect(new PagedRowIterator(pages::load, pages::next, true));
+
+        Assert.assertEquals(rows.size(), 4);
+        Assert.assertEquals(rows.get(3), Map.of("No", "2", "Ad", "c"));
+    }
+
+    @Test(description = "Aynı pencere tekrar okunursa yeni satır üretilmez")
+    public void addsNothingForRepeatedWindow() {
+        Pages pages = new Pages(page("1", "2"), page("1", "2"));
+
+        Assert.assertEquals(ids(new PagedRowIterator(pages::load, pages::next, true)), Arrays.asList("1", "2"));
+    }
+
+    @Test(description = "Sonraki sayfa yalnızca mevcut sayfa tükendiğinde yüklenir")
+    public void loadsPagesLazily() {
+        Pages pages = new Pages(page("1", "2"), page("3"), page("4"));
+        PagedRowIterator iterator = new PagedRowIterator(pages::load, pages::next, false);
+
+        Assert.assertEquals(iterator.next().get("No"), "1");
+        Assert.assertEquals(iterator.next().get("No"), "2");
+        Assert.assertEquals(pages.loads, 1);
+        Assert.assertEquals(iterator.next().get("No"), "3");
+        Assert.assertEquals(pages.loads, 2);
+    }
+
+    @Test(description = "Satırlar bittiğinde hasNext false döner ve next hata verir")
+    public void signalsExhaustion() {
+        Pages pages = new Pages(page("1"));
+        PagedRowIterator iterator = new PagedRowIterator(pages::load, pages::next, false);
+
+        iterator.next();
+
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertThrows(NoSuchElementException.class, iterator::next);
+        Assert.assertEquals(pages.nextCalls, 1);
+    }
+
+    private static List<String> ids(PagedRowIterator iterator) {
+        List<String> ids = new ArrayList<>();
+        for (Map<String, String> row : collect(iterator)) {
+            ids.add(row.get("No"));
+        }
+        return ids;
+    }
+
+    private static List<Map<String, String>> collect(PagedRowIterator iterator) {
+        List<Map<String, String>> rows = new ArrayList<>();
+        iterator.forEachRemaining(rows::add);
+        return rows;
+    }
+
+    private static TableSnapshot page(String... ids) {
+        List<List<String>> rows = new ArrayList<>();
+        for (String id : ids) {
+            rows.add(row(id, "satır " + id));
+        }
+        return new TableSnapshot(Arrays.asList("No", "Ad"), rows);
+    }
+
+    private static TableSnapshot table(List<List<String>> rows) {
+        return new TableSnapshot(Arrays.asList("No", "Ad"), rows);
+    }
+
+    private static List<String> row(String... cells) {
+        return Collections.unmodifiableList(Arrays.asList(cells));
+    }
+
+    /**
+     * Sayfa geçişlerini sayan sahte tablo.
+     */
+    private static final class Pages {
+        private final List<TableSnapshot> pages;
+        private int current;
+        private int loads;
+        private int nextCalls;
+
+        Pages(TableSnapshot... pages) {
+            this.pages = Arrays.asList(pages);
+        }
+
+        TableSnapshot load() {
+            loads++;
+            return pages.get(current);
+        }
+
+        boolean next() {
+            nextCalls++;
+            if (current + 1 >= pages.size()) {
+                return false;
+            }
+            current++;
+            return true;
+        }
+    }
+}
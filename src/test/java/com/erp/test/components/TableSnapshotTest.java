@@ -0,0 +1,121 @@
+package com.erp.test.components;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TableSnapshot ve ColumnIndex sorgularını doğrulayan birim testleri.
+ */
+public class TableSnapshotTest {
+
+    private final TableSnapshot snapshot = new TableSnapshot(
+            Arrays.asList("Fatura No", "Müşteri", "Tutar", "Durum"),
+            Arrays.asList(
+                    Arrays.asList("INV-001", "ACME", "1.234,56 TL", "Aktif"),
+                    Arrays.asList("INV-002", "İstanbul Ltd", "1,234.56", "Pasif"),
+                    Arrays.asList("INV-010", "acme", "99", "Evet"),
+                    Arrays.asList("INV-001", "Globex", "-5,5", "Hayır"),
+                    Collections.singletonList("EKSİK")));
+
+    @Test(description = "Tam eşleşme aramaları tüm eşleşen satırları artan sırada döndürür")
+    public void findsExactMatchesInRowOrder() {
+        Assert.assertEquals(snapshot.findRowIndex("Fatura No", "INV-001"), 0);
+        Assert.assertEquals(snapshot.findRowIndices("Fatura No", "INV-001"), Arrays.asList(0, 3));
+        Assert.assertEquals(snapshot.findRowIndex("Fatura No", "INV-999"), -1);
+        Assert.assertTrue(snapshot.findRowIndices("Müşteri", "Acme").isEmpty());
+    }
+
+    @Test(description = "Büyük/küçük harf duyarsız arama Türkçe karakterleri doğru eşler")
+    public void findsIgnoringCaseWithTurkishLocale() {
+        Assert.assertEquals(snapshot.findRowIndicesIgnoreCase("Müşteri", "ACME"), Arrays.asList(0, 2));
+        Assert.assertEquals(snapshot.findRowIndicesIgnoreCase("Müşteri", "istanbul ltd"), Collections.singletonList(1));
+        Assert.assertEquals(snapshot.findRowIndicesIgnoreCase("Müşteri", "ISTANBUL LTD"), Collections.singletonList(1));
+        Assert.assertEquals(snapshot.findRowIndicesIgnoreCase("Fatura No", "inv-010"), Collections.singletonList(2));
+    }
+
+    @Test(description = "Önek araması sıralı indeks üzerinden satır sırasıyla döner")
+    public void findsByPrefix() {
+        Assert.assertEquals(snapshot.findRowIndicesByPrefix("Fatura No", "INV-00"), Arrays.asList(0, 1, 3));
+        Assert.assertEquals(snapshot.findRowIndicesByPrefix("Fatura No", "INV-01"), Collections.singletonList(2));
+        Assert.assertEquals(snapshot.findRowIndicesByPrefix("Fatura No", ""), Arrays.asList(0, 1, 2, 3, 4));
+        Assert.assertTrue(snapshot.findRowIndicesByPrefix("Fatura No", "X").isEmpty());
+    }
+
+    @Test(description = "Eksik hücreler sütun değerlerinde boş metin olarak görünür")
+    public void treatsMissingCellsAsEmpty() {
+        Assert.assertEquals(snapshot.getColumnValues("Durum"), Arrays.asList("Aktif", "Pasif", "Evet", "Hayır", ""));
+        Assert.assertEquals(snapshot.findRowIndex("Durum", ""), 4);
+        Map<String, String> shortRow = snapshot.getRowData(4);
+        Assert.assertEquals(shortRow, Collections.singletonMap("Fatura No", "EKSİK"));
+    }
+
+    @Test(description = "Sütun adları büyük/küçük harf duyarsız çözülür, bilinmeyen sütun hata verir")
+    public void resolvesColumnNames() {
+        Assert.assertEquals(snapshot.getColumnIndex("tutar"), 2);
+        Assert.assertEquals(snapshot.getCellText(1, "MÜŞTERİ"), "İstanbul Ltd");
+        Assert.assertThrows(IllegalArgumentException.class, () -> snapshot.getColumnIndex("Tarih"));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> snapshot.getCellText(5, 0));
+    }
+
+    @Test(description = "Sayısal ve boolean hücreler yerel biçimlerden ayrıştırılır")
+    public void parsesTypedCells() {
+        Assert.assertEquals(snapshot.getDouble(0, "Tutar"), 1234.56, 1e-9);
+        Assert.assertEquals(snapshot.getDouble(1, "Tutar"), 1234.56, 1e-9);
+        Assert.assertEquals(snapshot.getDouble(3, "Tutar"), -5.5, 1e-9);
+        Assert.assertEquals(snapshot.getInt(2, "Tutar"), 99);
+        Assert.assertTrue(snapshot.getBoolean(0, "Durum"));
+        Assert.assertTrue(snapshot.getBoolean(2, "Durum"));
+        Assert.assertFalse(snapshot.getBoolean(1, "Durum"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> snapshot.getDouble(0, "Müşteri"));
+    }
+
+    @Test(description = "Ondalığı olmayan tutarlarda binlik ayraçları ondalık ayracından ayırt edilir")
+    public void parsesThousandsSeparatorsWithoutDecimals() {
+        TableSnapshot amounts = new TableSnapshot(Collections.singletonList("Tutar"), Arrays.asList(
+                Collections.singletonList("1.234 TL"),
+                Collections.singletonList("1.234.567"),
+                Collections.singletonList("1,234,567"),
+                Collections.singletonList("-12.500 €"),
+                Collections.singletonList("12.5"),
+                Collections.singletonList("0.125"),
+                Collections.singletonList("1,234")));
+
+        Assert.assertEquals(amounts.getDouble(0, "Tutar"), 1234.0, 1e-9);
+        Assert.assertEquals(amounts.getDouble(1, "Tutar"), 1234567.0, 1e-9);
+        Assert.assertEquals(amounts.getDouble(2, "Tutar"), 1234567.0, 1e-9);
+        Assert.assertEquals(amounts.getDouble(3, "Tutar"), -12500.0, 1e-9);
+        Assert.assertEquals(amounts.getDouble(4, "Tutar"), 12.5, 1e-9);
+        Assert.assertEquals(amounts.getDouble(5, "Tutar"), 0.125, 1e-9);
+        Assert.assertEquals(amounts.getDouble(6, "Tutar"), 1.234, 1e-9);
+        Assert.assertEquals(amounts.getInt(1, "Tutar"), 1234567);
+    }
+
+    @Test(description = "Script sonucu kırpılarak ve null hücreler boş metne çevrilerek okunur")
+    public void buildsFromScriptResult() {
+        Map<String, Object> result = Map.of(
+                "headers", Arrays.asList(" Fatura No ", null),
+                "rows", Collections.singletonList(Arrays.asList(" INV-001 ", null)));
+
+        TableSnapshot parsed = TableSnapshot.fromScriptResult(result);
+
+        Assert.assertEquals(parsed, new TableSnapshot(Arrays.asList("Fatura No", ""),
+                Collections.singletonList(Arrays.asList("INV-001", ""))));
+        Assert.assertThrows(IllegalArgumentException.class, () -> TableSnapshot.fromScriptResult("not a table"));
+    }
+
+    @Test(description = "Sütun indeksi doğrudan kullanıldığında değiştirilemez listeler döndürür")
+    public void columnIndexReturnsUnmodifiableResults() {
+        ColumnIndex index = new ColumnIndex(Arrays.asList("b", "a", "b", "ab"));
+
+        List<Integer> matches = index.find("b");
+
+        Assert.assertEquals(matches, Arrays.asList(0, 2));
+        Assert.assertEquals(index.findByPrefix("a"), Arrays.asList(1, 3));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> matches.add(4));
+    }
+}
@@ -0,0 +1,63 @@
+package com.erp.test.core.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Yapılandırma erişim maliyetini ölçen JMH benchmark'ı.
+ * Sayfa nesneleri ve bekleme motoru her işlemde yapılandırmayı okuduğundan bu yolların ucuz kalması gerekir.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigManagerBenchmark {
+
+    @Setup
+    public void setUp() {
+        // Dosyanın okunması ölçüme dahil edilmez
+        ConfigManager.getInstance();
+    }
+
+    @Benchmark
+    public Duration typedGetter() {
+        return ConfigManager.getInstance().getExplicitWaitDuration();
+    }
+
+    @Benchmark
+    public String stringGetter() {
+        return ConfigManager.getInstance().getBaseUrl();
+    }
+
+    @Benchmark
+    public String rawProperty() {
+        return ConfigManager.getInstance().getProperty("screenshot.path");
+    }
+
+    @Benchmark
+    public String missingPropertyWithDefault() {
+        return ConfigManager.getInstance().getProperty("benchmark.missing", "default");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConfigManagerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
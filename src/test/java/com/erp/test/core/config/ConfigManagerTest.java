@@ -0,0 +1,86 @@
+package com.erp.test.core.config;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * ConfigManager geçersiz kılma katmanlarının öncelik sırasını doğrulayan birim testleri.
+ */
+public class ConfigManagerTest {
+
+    @Test(description = "Sistem özelliği ortam değişkenini, ortam değişkeni dosya değerini geçersiz kılar")
+    public void systemPropertyOverridesEnvironmentAndFile() {
+        Map<String, String> merged = fileProperties("browser", "chrome", "headless", "false", "environment", "test");
+        Map<String, String> environment = Map.of("ERP_BROWSER", "firefox", "ERP_HEADLESS", "true");
+        Properties systemProperties = new Properties();
+        systemProperties.setProperty("browser", "edge");
+
+        ConfigManager.applyOverrides(merged, environment, systemProperties);
+
+        Assert.assertEquals(merged.get("browser"), "edge");
+        Assert.assertEquals(merged.get("headless"), "true");
+        Assert.assertEquals(merged.get("environment"), "test");
+    }
+
+    @Test(description = "Dosyada bulunmayan bilinen anahtarlar da geçersiz kılınabilir")
+    public void overridesKnownKeysMissingFromFile() {
+        Map<String, String> merged = fileProperties("browser", "chrome");
+        Map<String, String> environment = Map.of("ERP_ROUNDTRIP_BUDGET_MODE", "warn", "ERP_API_INVOICE_PATH",
+                "/v2/invoices");
+        Properties systemProperties = new Properties();
+        systemProperties.setProperty("test.duration.history", "target/durations.json");
+
+        ConfigManager.applyOverrides(merged, environment, systemProperties);
+
+        Assert.assertEquals(merged.get("roundtrip.budget.mode"), "warn");
+        Assert.assertEquals(merged.get("api.invoice.path"), "/v2/invoices");
+        Assert.assertEquals(merged.get("test.duration.history"), "target/durations.json");
+    }
+
+    @Test(description = "Dosyadaki bilinmeyen anahtarlar da geçersiz kılınır, ilgisiz sistem özellikleri eklenmez")
+    public void overridesFileKeysAndIgnoresUnrelatedProperties() {
+        Map<String, String> merged = fileProperties("custom.flag", "off");
+        Map<String, String> environment = Map.of("ERP_CUSTOM_FLAG", "on");
+        Properties systemProperties = new Properties();
+        systemProperties.setProperty("unrelated.key", "value");
+
+        ConfigManager.applyOverrides(merged, environment, systemProperties);
+
+        Assert.assertEquals(merged.get("custom.flag"), "on");
+        Assert.assertFalse(merged.containsKey("unrelated.key"));
+    }
+
+    @Test(description = "İşletim sisteminin öneksiz değişkenleri (USERNAME, BROWSER) test değerlerini ezmez")
+    public void ignoresUnprefixedEnvironmentVariables() {
+        Map<String, String> merged = fileProperties("username", "testuser", "browser", "chrome");
+        Map<String, String> environment = Map.of("USERNAME", "jdoe", "BROWSER", "/usr/bin/wslview",
+                "PASSWORD", "secret", "ERP_PASSWORD", "erp-secret");
+
+        ConfigManager.applyOverrides(merged, environment, new Properties());
+
+        Assert.assertEquals(merged.get("username"), "testuser");
+        Assert.assertEquals(merged.get("browser"), "chrome");
+        Assert.assertEquals(merged.get("password"), "erp-secret");
+    }
+
+    @Test(description = "Geçersiz kılma yoksa dosya değerleri korunur")
+    public void keepsFileValuesWithoutOverrides() {
+        Map<String, String> merged = fileProperties("explicit.wait", "20", "base.url", "https://erp.example.com");
+
+        ConfigManager.applyOverrides(merged, Map.of(), new Properties());
+
+        Assert.assertEquals(merged, fileProperties("explicit.wait", "20", "base.url", "https://erp.example.com"));
+    }
+
+    private static Map<String, String> fileProperties(String... keyValues) {
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.put(keyValues[i], keyValues[i + 1]);
+        }
+        return properties;
+    }
+}
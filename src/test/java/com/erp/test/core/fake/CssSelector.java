@@ -0,0 +1,403 @@
+package com.erp.test.core.fake;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * Ayrıştırılmış bir CSS seçicisi. Elementler, tarayıcılardaki gibi sağdan sola eşleştirilir; XPath'e çevirmek yerine
+ * DOM üzerinde doğrudan çalışıldığından her sorgu belge boyutuyla doğrusal maliyetlidir.
+ * Desteklenenler: etiket, *, #id, .class, [attr], [attr=|~=|^=|$=|*=|=değer], :first-child, :last-child,
+ * :only-child, :nth-child(n), :not(basit seçici), boşluk, &gt;, + ve ~ birleştiricileri ve virgülle ayrılmış
+ * seçici listeleri.
+ */
+final class CssSelector implements Predicate<Element> {
+    private final List<List<Step>> groups;
+
+    private CssSelector(List<List<Step>> groups) {
+        this.groups = groups;
+    }
+
+    /**
+     * CSS seçicisini ayrıştırır.
+     *
+     * @param css CSS seçicisi
+     * @return Seçici
+     * @throws IllegalArgumentException Seçici desteklenmiyorsa
+     */
+    static CssSelector parse(String css) {
+        List<List<Step>> groups = new ArrayList<>();
+        for (String group : splitTopLevel(css)) {
+            groups.add(new Parser(group.trim(), css).parseSelector());
+        }
+        return new CssSelector(groups);
+    }
+
+    /**
+     * Elementin seçiciye uyup uymadığını döndürür. Üst ve kardeş elementler sorgu bağlamıyla sınırlı değildir.
+     *
+     * @param element Element
+     * @return Uyuyorsa true
+     */
+    @Override
+    public boolean test(Element element) {
+        for (List<Step> steps : groups) {
+            if (matches(steps, steps.size() - 1, element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(List<Step> steps, int index, Element element) {
+        Step step = steps.get(index);
+        if (!step.compound.test(element)) {
+            return false;
+        }
+        if (index == 0) {
+            return true;
+        }
+        switch (step.combinator) {
+            case '>': {
+                Element parent = parent(element);
+                return parent != null && matches(steps, index - 1, parent);
+            }
+            case '+': {
+                Element sibling = previousSibling(element);
+                return sibling != null && matches(steps, index - 1, sibling);
+            }
+            case '~':
+                for (Element sibling = previousSibling(element); sibling != null; sibling = previousSibling(sibling)) {
+                    if (matches(steps, index - 1, sibling)) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                for (Element ancestor = parent(element); ancestor != null; ancestor = parent(ancestor)) {
+                    if (matches(steps, index - 1, ancestor)) {
+                        return true;
+                    }
+                }
+                return false;
+        }
+    }
+
+    private static Element parent(Element element) {
+        Node parent = element.getParentNode();
+        return parent instanceof Element ? (Element) parent : null;
+    }
+
+    private static Element previousSibling(Element element) {
+        for (Node node = element.getPreviousSibling(); node != null; node = node.getPreviousSibling()) {
+            if (node instanceof Element) {
+                return (Element) node;
+            }
+        }
+        return null;
+    }
+
+    private static Element nextSibling(Element element) {
+        for (Node node = element.getNextSibling(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element) {
+                return (Element) node;
+            }
+        }
+        return null;
+    }
+
+    private static List<String> splitTopLevel(String css) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < css.length(); i++) {
+            char c = css.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                parts.add(css.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(css.substring(start));
+        return parts;
+    }
+
+    /**
+     * Birleştirici ve basit seçiciden oluşan adım. Birleştirici, önceki adımla bu adım arasındaki ilişkidir.
+     */
+    private static final class Step {
+        private final char combinator;
+        private final Predicate<Element> compound;
+
+        Step(char combinator, Predicate<Element> compound) {
+            this.combinator = combinator;
+            this.compound = compound;
+        }
+    }
+
+    private static final class Parser {
+        private final String css;
+        private final String original;
+        private int pos;
+
+        Parser(String css, String original) {
+            this.css = css;
+            this.original = original;
+        }
+
+        List<Step> parseSelector() {
+            if (css.isEmpty()) {
+                throw unsupported();
+            }
+            List<Step> steps = new ArrayList<>();
+            steps.add(new Step(' ', parseCompound()));
+            while (true) {
+                boolean whitespace = skipWhitespace();
+                if (pos >= css.length()) {
+                    return steps;
+                }
+                char c = css.charAt(pos);
+                if (c == '>' || c == '+' || c == '~') {
+                    pos++;
+                    skipWhitespace();
+                    steps.add(new Step(c, parseCompound()));
+                } else if (whitespace) {
+                    steps.add(new Step(' ', parseCompound()));
+                } else {
+                    throw unsupported();
+                }
+            }
+        }
+
+        /**
+         * Etiket ve ardından gelen koşullardan oluşan basit seçiciyi tek bir koşula dönüştürür.
+         */
+        private Predicate<Element> parseCompound() {
+            List<Predicate<Element>> conditions = new ArrayList<>();
+            if (pos < css.length() && css.charAt(pos) == '*') {
+                pos++;
+                conditions.add(element -> true);
+            } else if (pos < css.length() && isIdentifierChar(css.charAt(pos))) {
+                String tag = parseIdentifier();
+                conditions.add(element -> element.getTagName().equalsIgnoreCase(tag));
+            }
+            while (pos < css.length()) {
+                char c = css.charAt(pos);
+                if (c == '#') {
+                    pos++;
+                    String id = parseIdentifier();
+                    conditions.add(element -> id.equals(element.getAttribute("id")));
+                } else if (c == '.') {
+                    pos++;
+                    String className = parseIdentifier();
+                    conditions.add(element -> hasWord(element.getAttribute("class"), className));
+                } else if (c == '[') {
+                    conditions.add(parseAttribute());
+                } else if (c == ':') {
+                    conditions.add(parsePseudo());
+                } else {
+                    break;
+                }
+            }
+            if (conditions.isEmpty()) {
+                throw unsupported();
+            }
+            return conditions.size() == 1 ? conditions.get(0) : element -> {
+                for (Predicate<Element> condition : conditions) {
+                    if (!condition.test(element)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+
+        private Predicate<Element> parseAttribute() {
+            pos++;
+            skipWhitespace();
+            String name = parseIdentifier().toLowerCase(Locale.ROOT);
+            skipWhitespace();
+            if (pos >= css.length()) {
+                throw unsupported();
+            }
+            if (css.charAt(pos) == ']') {
+                pos++;
+                return element -> element.hasAttribute(name);
+            }
+            String operator;
+            if (css.charAt(pos) == '=') {
+                operator = "=";
+                pos++;
+            } else if (pos + 1 < css.length() && css.charAt(pos + 1) == '=') {
+                operator = css.substring(pos, pos + 2);
+                pos += 2;
+            } else {
+                throw unsupported();
+            }
+            skipWhitespace();
+            String value = parseValue();
+            skipWhitespace();
+            expect(']');
+            Predicate<String> test;
+            switch (operator) {
+                case "=":
+                    test = value::equals;
+                    break;
+                case "~=":
+                    test = actual -> hasWord(actual, value);
+                    break;
+                case "|=":
+                    test = actual -> actual.equals(value) || actual.startsWith(value + "-");
+                    break;
+                case "^=":
+                    test = actual -> !value.isEmpty() && actual.startsWith(value);
+                    break;
+                case "$=":
+                    test = actual -> !value.isEmpty() && actual.endsWith(value);
+                    break;
+                case "*=":
+                    test = actual -> !value.isEmpty() && actual.contains(value);
+                    break;
+                default:
+                    throw unsupported();
+            }
+            return element -> element.hasAttribute(name) && test.test(element.getAttribute(name));
+        }
+
+        private Predicate<Element> parsePseudo() {
+            pos++;
+            String name = parseIdentifier().toLowerCase(Locale.ROOT);
+            switch (name) {
+                case "first-child":
+                    return element -> previousSibling(element) == null;
+                case "last-child":
+                    return element -> nextSibling(element) == null;
+                case "only-child":
+                    return element -> previousSibling(element) == null && nextSibling(element) == null;
+                case "nth-child": {
+                    expect('(');
+                    int start = pos;
+                    while (pos < css.length() && css.charAt(pos) != ')') {
+                        pos++;
+                    }
+                    String argument = css.substring(start, pos).trim();
+                    expect(')');
+                    int position;
+                    try {
+                        position = Integer.parseInt(argument);
+                    } catch (NumberFormatException e) {
+                        throw unsupported();
+                    }
+                    return element -> {
+                        int index = 1;
+                        for (Element sibling = previousSibling(element); sibling != null; sibling = previousSibling(sibling)) {
+                            index++;
+                        }
+                        return index == position;
+                    };
+                }
+                case "not": {
+                    expect('(');
+                    skipWhitespace();
+                    Predicate<Element> compound = parseCompound();
+                    skipWhitespace();
+                    expect(')');
+                    return compound.negate();
+                }
+                default:
+                    throw unsupported();
+            }
+        }
+
+        private String parseValue() {
+            if (pos >= css.length()) {
+                throw unsupported();
+            }
+            char c = css.charAt(pos);
+            if (c == '"' || c == '\'') {
+                StringBuilder value = new StringBuilder();
+                pos++;
+                while (pos < css.length() && css.charAt(pos) != c) {
+                    if (css.charAt(pos) == '\\' && pos + 1 < css.length()) {
+                        pos++;
+                    }
+                    value.append(css.charAt(pos++));
+                }
+                expect(c);
+                return value.toString();
+            }
+            return parseIdentifier();
+        }
+
+        private String parseIdentifier() {
+            StringBuilder identifier = new StringBuilder();
+            while (pos < css.length()) {
+                char c = css.charAt(pos);
+                if (c == '\\' && pos + 1 < css.length()) {
+                    identifier.append(css.charAt(pos + 1));
+                    pos += 2;
+                } else if (isIdentifierChar(c)) {
+                    identifier.append(c);
+                    pos++;
+                } else {
+                    break;
+                }
+            }
+            if (identifier.length() == 0) {
+                throw unsupported();
+            }
+            return identifier.toString();
+        }
+
+        private boolean skipWhitespace() {
+            int start = pos;
+            while (pos < css.length() && Character.isWhitespace(css.charAt(pos))) {
+                pos++;
+            }
+            return pos > start;
+        }
+
+        private void expect(char c) {
+            if (pos >= css.length() || css.charAt(pos) != c) {
+                throw unsupported();
+            }
+            pos++;
+        }
+
+        private IllegalArgumentException unsupported() {
+            return new IllegalArgumentException("Unsupported CSS selector: " + original);
+        }
+
+        private static boolean isIdentifierChar(char c) {
+            return Character.isLetterOrDigit(c) || c == '-' || c == '_' || c > 0x7F;
+        }
+    }
+
+    /**
+     * Boşlukla ayrılmış değer listesinin verilen kelimeyi içerip içermediğini döndürür (class niteliği gibi).
+     *
+     * @param list Boşlukla ayrılmış liste
+     * @param word Kelime
+     * @return İçeriyorsa true
+     */
+    static boolean hasWord(String list, String word) {
+        return !word.isEmpty() && Arrays.asList(list.trim().split("\\s+")).contains(word);
+    }
+}
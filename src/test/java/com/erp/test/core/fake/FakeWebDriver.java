@@ -0,0 +1,674 @@
+package com.erp.test.core.fake;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Tarayıcı olmadan, bellekteki bir HTML DOM'u üzerinde çalışan WebDriver.
+ * Bileşenleri ve sayfa nesnelerini tarayıcısız çalıştırmak, gönderdikleri komutları saymak ve komutlara yapay
+ * gecikme ekleyerek maliyetlerini ölçmek için kullanılır.
+ *
+ * <p>Elementler XPath ve CSS seçicileriyle bulunur (id, name, className, tagName, linkText dahil). JavaScript
+ * çalıştırılamaz; çerçevenin kendi betikleri (tablo görüntüsü, form doldurma, sayfa hazır kontrolleri vb.) DOM
+ * üzerinde taklit edilir, diğer betikler için {@link #onScript(String, ScriptHandler)} ile işleyici tanımlanır.
+ * Sayfalar {@link #addPage(String, String)} ile kaydedilir; tıklamaların sayfayı değiştirmesi
+ * {@link #onClick(String, Consumer)} ile tanımlanır. Sayfa nesneleri sürücüyü DriverManager'dan aldığından
+ * sürücü önce {@link com.erp.test.core.driver.DriverManager#setDriver(WebDriver)} ile thread'e atanır.</p>
+ *
+ * <pre>
+ * FakeWebDriver driver = new FakeWebDriver()
+ *         .addPage("https://erp/invoices", html)
+ *         .withLatency(Duration.ofMillis(5));
+ * driver.get("https://erp/invoices");
+ * ERPDataTable table = new ERPDataTable(driver, By.id("invoiceTable"));
+ *
+ * DriverManager.setDriver(driver);
+ * InvoicePage page = new InvoicePage();
+ * </pre>
+ */
+public class FakeWebDriver implements WebDriver, JavascriptExecutor, TakesScreenshot {
+    private static final String WINDOW_HANDLE = "fake-window";
+    private static final String BLANK_PAGE = "<html><head><title></title></head><body></body></html>";
+    // 1x1 boyutunda şeffaf PNG
+    private static final byte[] SCREENSHOT = Base64.getDecoder().decode(
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR42mNkYAAAAAYAAjCB0C8AAAAASUVORK5CYII=");
+
+    /**
+     * Taklit edilen bir betiğin işleyicisi.
+     */
+    @FunctionalInterface
+    public interface ScriptHandler {
+
+        /**
+         * Betiği çalıştırır.
+         *
+         * @param driver Sürücü
+         * @param args Betiğe verilen argümanlar; elementler {@link FakeWebElement} olarak gelir
+         * @return Betiğin dönüş değeri
+         */
+        Object execute(FakeWebDriver driver, Object[] args);
+    }
+
+    private final Map<String, String> pages = new HashMap<>();
+    private final List<Map.Entry<String, ScriptHandler>> scriptHandlers = new ArrayList<>();
+    private final Map<String, Consumer<FakeWebDriver>> clickHandlers = new LinkedHashMap<>();
+    private final Map<String, Duration> commandLatencies = new HashMap<>();
+    private final Map<String, LongAdder> commandCounts = new ConcurrentHashMap<>();
+    private final Map<String, XPathExpression> compiledXPaths = new HashMap<>();
+    private final Map<String, Predicate<Element>> matchers = new HashMap<>();
+    private final Map<String, Cookie> cookies = new LinkedHashMap<>();
+    private final List<String> history = new ArrayList<>();
+    private final XPathFactory xpathFactory = XPathFactory.newInstance();
+    private Duration defaultLatency = Duration.ZERO;
+    private Document document;
+    private String currentUrl = "about:blank";
+    private int historyIndex = -1;
+    private long domVersion;
+    private boolean quit;
+
+    /**
+     * Boş bir sayfayla başlayan sürücü oluşturur.
+     */
+    public FakeWebDriver() {
+        this.document = HtmlParser.parse(BLANK_PAGE);
+        FrameworkScripts.register(this);
+    }
+
+    /**
+     * Bir adrese karşılık gelen sayfayı kaydeder.
+     *
+     * @param url Sayfa adresi
+     * @param html Sayfanın HTML'i
+     * @return FakeWebDriver instance
+     */
+    public FakeWebDriver addPage(String url, String html) {
+        pages.put(url, html);
+        return this;
+    }
+
+    /**
+     * Tüm komutlara uygulanacak yapay gecikmeyi belirler.
+     *
+     * @param latency Gecikme
+     * @return FakeWebDriver instance
+     */
+    public FakeWebDriver withLatency(Duration latency) {
+        this.defaultLatency = latency;
+        return this;
+    }
+
+    /**
+     * Bir komuta uygulanacak yapay gecikmeyi belirler. Komut adları WebDriver ve WebElement metot adlarıdır
+     * (findElement, click, getText, executeScript, getScreenshotAs...).
+     *
+     * @param command Komut adı
+     * @param latency Gecikme
+     * @return FakeWebDriver instance
+     */
+    public FakeWebDriver withLatency(String command, Duration latency) {
+        commandLatencies.put(command, latency);
+        return this;
+    }
+
+    /**
+     * İçinde verilen parçayı barındıran betikler için işleyici tanımlar. Sonradan tanımlanan işleyiciler öncelik alır.
+     *
+     * @param scriptFragment Betikte aranacak metin
+     * @param handler İşleyici
+     * @return FakeWebDriver instance
+     */
+    public FakeWebDriver onScript(String scriptFragment, ScriptHandler handler) {
+        scriptHandlers.add(0, new AbstractMap.SimpleImmutableEntry<>(scriptFragment, handler));
+        return this;
+    }
+
+    /**
+     * Seçiciye uyan bir elemente (ya da içindeki bir elemente) tıklandığında çalışacak işlemi tanımlar.
+     * Örneğin bir arama düğmesine tıklanınca tablonun içeriği {@link #setInnerHtml(String, String)} ile değiştirilebilir.
+     *
+     * @param cssSelector Elementin CSS seçicisi
+     * @param action İşlem
+     * @return FakeWebDriver instance
+     */
+    public FakeWebDriver onClick(String cssSelector, Consumer<FakeWebDriver> action) {
+        clickHandlers.put(cssSelector, action);
+        return this;
+    }
+
+    /**
+     * Mevcut sayfayı verilen HTML ile değiştirir. Önceki sayfanın elementleri eskimiş (stale) olur.
+     *
+     * @param html Sayfanın HTML'i
+     */
+    public void loadHtml(String html) {
+        document = HtmlParser.parse(html);
+        domVersion++;
+    }
+
+    /**
+     * Seçiciye uyan ilk elementin içeriğini verilen HTML ile değiştirir; eski içerikteki elementler eskimiş olur.
+     * Sayfanın arka planda yeniden yüklenen bölümlerini (AJAX ile yenilenen tablolar gibi) taklit etmek için kullanılır.
+     *
+     * @param cssSelector Elementin CSS seçicisi
+     * @param html Yeni içerik
+     */
+    public void setInnerHtml(String cssSelector, String html) {
+        List<Element> targets = select(document, By.cssSelector(cssSelector));
+        if (targets.isEmpty()) {
+            throw new NoSuchElementException("No element matches " + cssSelector);
+        }
+        Element target = targets.get(0);
+        while (target.getFirstChild() != null) {
+            target.removeChild(target.getFirstChild());
+        }
+        Element body = (Element) HtmlParser.parse(html).getElementsByTagName("body").item(0);
+        for (Node child = body.getFirstChild(); child != null; child = child.getNextSibling()) {
+            target.appendChild(document.importNode(child, true));
+        }
+        domVersion++;
+    }
+
+    /**
+     * Bir komutun kaç kez gönderildiğini döndürür.
+     *
+     * @param command Komut adı
+     * @return Komut sayısı
+     */
+    public long getCommandCount(String command) {
+        LongAdder count = commandCounts.get(command);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Gönderilen toplam komut sayısını döndürür.
+     *
+     * @return Komut sayısı
+     */
+    public long getTotalCommandCount() {
+        return commandCounts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Komut adlarına göre komut sayılarını döndürür.
+     *
+     * @return Komut adı -> Sayı haritası
+     */
+    public Map<String, Long> getCommandCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        commandCounts.forEach((command, count) -> counts.put(command, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Komut sayılarını sıfırlar.
+     */
+    public void resetCommandCounts() {
+        commandCounts.clear();
+    }
+
+    @Override
+    public void get(String url) {
+        command("get");
+        navigateTo(url);
+        history.subList(historyIndex + 1, history.size()).clear();
+        history.add(url);
+        historyIndex = history.size() - 1;
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        command("getCurrentUrl");
+        return currentUrl;
+    }
+
+    @Override
+    public String getTitle() {
+        command("getTitle");
+        NodeList titles = document.getElementsByTagName("title");
+        return titles.getLength() == 0 ? "" : titles.item(0).getTextContent().trim();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        command("findElements");
+        return wrap(select(document, by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        command("findElement");
+        List<Element> elements = select(document, by);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate element: " + by);
+        }
+        return new FakeWebElement(this, elements.get(0));
+    }
+
+    @Override
+    public String getPageSource() {
+        command("getPageSource");
+        try {
+            StringWriter writer = new StringWriter();
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+            transformer.setOutputProperty(OutputKeys.METHOD, "html");
+            transformer.transform(new DOMSource(document), new StreamResult(writer));
+            return writer.toString();
+        } catch (TransformerException e) {
+            throw new WebDriverException("Page source could not be serialized", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        command("close");
+        quit = true;
+    }
+
+    @Override
+    public void quit() {
+        command("quit");
+        quit = true;
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        command("getWindowHandles");
+        return Collections.singleton(WINDOW_HANDLE);
+    }
+
+    @Override
+    public String getWindowHandle() {
+        command("getWindowHandle");
+        return WINDOW_HANDLE;
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return proxy(TargetLocator.class, (method, args) -> {
+            switch (method) {
+                case "defaultContent":
+                case "window":
+                case "parentFrame":
+                    command(method);
+                    return this;
+                case "activeElement":
+                    command(method);
+                    return new FakeWebElement(this, (Element) document.getElementsByTagName("body").item(0));
+                case "alert":
+                    command(method);
+                    throw new NoAlertPresentException();
+                default:
+                    throw new UnsupportedOperationException("switchTo()." + method + " is not supported");
+            }
+        });
+    }
+
+    @Override
+    public Navigation navigate() {
+        return proxy(Navigation.class, (method, args) -> {
+            switch (method) {
+                case "to":
+                    get(String.valueOf(args[0]));
+                    return null;
+                case "refresh":
+                    command(method);
+                    navigateTo(currentUrl);
+                    return null;
+                case "back":
+                case "forward":
+                    command(method);
+                    int index = historyIndex + ("back".equals(method) ? -1 : 1);
+                    if (index >= 0 && index < history.size()) {
+                        historyIndex = index;
+                        navigateTo(history.get(index));
+                    }
+                    return null;
+                default:
+                    throw new UnsupportedOperationException("navigate()." + method + " is not supported");
+            }
+        });
+    }
+
+    @Override
+    public Options manage() {
+        return proxy(Options.class, (method, args) -> {
+            switch (method) {
+                case "addCookie":
+                    command(method);
+                    Cookie cookie = (Cookie) args[0];
+                    cookies.put(cookie.getName(), cookie);
+                    return null;
+                case "deleteCookieNamed":
+                    command(method);
+                    cookies.remove((String) args[0]);
+                    return null;
+                case "deleteCookie":
+                    command(method);
+                    cookies.remove(((Cookie) args[0]).getName());
+                    return null;
+                case "deleteAllCookies":
+                    command(method);
+                    cookies.clear();
+                    return null;
+                case "getCookies":
+                    command(method);
+                    return new LinkedHashSet<>(cookies.values());
+                case "getCookieNamed":
+                    command(method);
+                    return cookies.get((String) args[0]);
+                case "timeouts":
+                    return timeouts();
+                case "window":
+                    return window();
+                default:
+                    throw new UnsupportedOperationException("manage()." + method + " is not supported");
+            }
+        });
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        command("executeScript");
+        return runScript(script, args);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        command("executeAsyncScript");
+        return runScript(script, args);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        command("getScreenshotAs");
+        return target.convertFromPngBytes(SCREENSHOT);
+    }
+
+    /**
+     * Komutu sayar ve tanımlı gecikme kadar bekler.
+     *
+     * @param name Komut adı
+     */
+    void command(String name) {
+        if (quit) {
+            throw new NoSuchSessionException("Session is closed");
+        }
+        commandCounts.computeIfAbsent(name, key -> new LongAdder()).increment();
+        Duration latency = commandLatencies.getOrDefault(name, defaultLatency);
+        if (!latency.isZero()) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(latency.toNanos());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException("Interrupted while simulating latency", e);
+            }
+        }
+    }
+
+    /**
+     * Bağlam düğümünün altında, locator'a uyan elementleri belge sırasıyla döndürür. Komut sayılmaz.
+     * XPath locator'ları JDK'nın XPath motoruyla, diğerleri DOM üzerinde doğrudan değerlendirilir; XPath motoru her
+     * sorguda belgenin tamamını yeniden işlediğinden sık kullanılan CSS ve id locator'larına göre çok daha yavaştır.
+     *
+     * @param context Belge ya da element
+     * @param by Locator
+     * @return Elementler
+     */
+    List<Element> select(Node context, By by) {
+        if (!(by instanceof By.Remotable)) {
+            throw new InvalidSelectorException("Unsupported locator: " + by);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) by).getRemoteParameters();
+        String value = String.valueOf(parameters.value());
+        if ("xpath".equals(parameters.using())) {
+            return evaluateXPath(context, value);
+        }
+        return select(context, cachedMatcher(parameters.using(), value));
+    }
+
+    /**
+     * Bağlam düğümünün altındaki, koşulu sağlayan elementleri belge sırasıyla döndürür. Komut sayılmaz.
+     *
+     * @param context Belge ya da element
+     * @param matcher Koşul
+     * @return Elementler
+     */
+    List<Element> select(Node context, Predicate<Element> matcher) {
+        List<Element> elements = new ArrayList<>();
+        Node node = context.getFirstChild();
+        while (node != null) {
+            if (node instanceof Element && matcher.test((Element) node)) {
+                elements.add((Element) node);
+            }
+            if (node.getFirstChild() != null) {
+                node = node.getFirstChild();
+                continue;
+            }
+            while (node != null && node != context && node.getNextSibling() == null) {
+                node = node.getParentNode();
+            }
+            node = node == null || node == context ? null : node.getNextSibling();
+        }
+        return elements;
+    }
+
+    /**
+     * Elementin ya da üst elementlerinden birinin tıklama işleyicisi varsa çalıştırır.
+     *
+     * @param element Tıklanan element
+     */
+    void fireClickHandlers(Element element) {
+        for (Map.Entry<String, Consumer<FakeWebDriver>> handler : new ArrayList<>(clickHandlers.entrySet())) {
+            Predicate<Element> target = cachedMatcher("css selector", handler.getKey());
+            for (Node node = element; node instanceof Element; node = node.getParentNode()) {
+                if (target.test((Element) node)) {
+                    handler.getValue().accept(this);
+                    return;
+                }
+            }
+        }
+    }
+
+    Document getDocument() {
+        return document;
+    }
+
+    /**
+     * Sayfa yüklendiğinde ya da bir bölümün içeriği değiştiğinde artan sürüm numarası; form haritası gibi
+     * önbelleklerin eskiyip eskimediğini anlamak için kullanılır. Değer ve seçim değişiklikleri sürümü artırmaz.
+     *
+     * @return DOM sürümü
+     */
+    long getDomVersion() {
+        return domVersion;
+    }
+
+    List<WebElement> wrap(List<Element> elements) {
+        List<WebElement> wrapped = new ArrayList<>(elements.size());
+        for (Element element : elements) {
+            wrapped.add(new FakeWebElement(this, element));
+        }
+        return wrapped;
+    }
+
+    private void navigateTo(String url) {
+        String html = "about:blank".equals(url) ? BLANK_PAGE : pages.get(url);
+        if (html == null) {
+            throw new WebDriverException("No fake page registered for " + url);
+        }
+        currentUrl = url;
+        loadHtml(html);
+    }
+
+    private Object runScript(String script, Object[] args) {
+        // Gerçek sürücüler gibi sarılmış elementler (ör. EventFiringDecorator) asıl elemente çözülür
+        Object[] unwrapped = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            unwrapped[i] = args[i] instanceof WrapsElement ? ((WrapsElement) args[i]).getWrappedElement() : args[i];
+        }
+        for (Map.Entry<String, ScriptHandler> handler : scriptHandlers) {
+            if (script.contains(handler.getKey())) {
+                return handler.getValue().execute(this, unwrapped);
+            }
+        }
+        throw new UnsupportedOperationException("No fake handler for script: " + script);
+    }
+
+    private List<Element> evaluateXPath(Node context, String xpath) {
+        List<Element> elements = new ArrayList<>();
+        try {
+            XPathExpression expression = compiledXPaths.get(xpath);
+            if (expression == null) {
+                expression = xpathFactory.newXPath().compile(xpath);
+                compiledXPaths.put(xpath, expression);
+            }
+            NodeList nodes = (NodeList) expression.evaluate(context, XPathConstants.NODESET);
+            for (int i = 0; i < nodes.getLength(); i++) {
+                if (nodes.item(i) instanceof Element) {
+                    elements.add((Element) nodes.item(i));
+                }
+            }
+        } catch (XPathExpressionException e) {
+            throw new InvalidSelectorException("Invalid selector " + xpath + ": " + e.getMessage());
+        }
+        return elements;
+    }
+
+    private Predicate<Element> cachedMatcher(String using, String value) {
+        String key = using + ':' + value;
+        Predicate<Element> matcher = matchers.get(key);
+        if (matcher == null) {
+            matcher = matcher(using, value);
+            matchers.put(key, matcher);
+        }
+        return matcher;
+    }
+
+    private static Predicate<Element> matcher(String using, String value) {
+        switch (using) {
+            case "css selector":
+                try {
+                    return CssSelector.parse(value);
+                } catch (IllegalArgumentException e) {
+                    throw new InvalidSelectorException(e.getMessage());
+                }
+            // Selenium sürümüne göre id, name ve className ya bu adlarla ya da CSS seçicisi olarak gelir
+            case "id":
+                return element -> value.equals(element.getAttribute("id"));
+            case "name":
+                return element -> value.equals(element.getAttribute("name"));
+            case "class name":
+                return element -> CssSelector.hasWord(element.getAttribute("class"), value);
+            case "tag name":
+                return element -> element.getTagName().equalsIgnoreCase(value);
+            case "link text":
+                return element -> "a".equals(element.getTagName()) && linkText(element).equals(value.trim());
+            case "partial link text":
+                return element -> "a".equals(element.getTagName()) && linkText(element).contains(value);
+            default:
+                throw new InvalidSelectorException("Unsupported locator strategy: " + using);
+        }
+    }
+
+    private static String linkText(Element link) {
+        return link.getTextContent().replaceAll("[\\s\\u00A0]+", " ").trim();
+    }
+
+    private Timeouts timeouts() {
+        return proxy(Timeouts.class, (method, args) -> {
+            if (method.startsWith("get")) {
+                return Duration.ZERO;
+            }
+            command(method);
+            return null;
+        });
+    }
+
+    private Window window() {
+        return proxy(Window.class, (method, args) -> {
+            command(method);
+            switch (method) {
+                case "getSize":
+                    return new Dimension(1280, 800);
+                case "getPosition":
+                    return new Point(0, 0);
+                default:
+                    return null;
+            }
+        });
+    }
+
+    /**
+     * Selenium sürümleri arasında değişen yardımcı arayüzleri (Options, Timeouts, Window...) sürüme bağlı kalmadan
+     * uygulamak için dinamik proxy oluşturur. Kendi tipini döndüren metotlar (zincirleme) proxy'nin kendisini döndürür.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> type, ProxyHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "toString":
+                    return "Fake" + type.getSimpleName();
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    Object result = handler.handle(method.getName(), args == null ? new Object[0] : args);
+                    return result == null && method.getReturnType() == type ? proxy : result;
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface ProxyHandler {
+        Object handle(String method, Object[] args);
+    }
+}
@@ -0,0 +1,472 @@
+package com.erp.test.core.fake;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * {@link FakeWebDriver} belgesindeki bir DOM elementine karşılık gelen WebElement.
+ * Görünürlük, etkinlik, seçili olma ve metin, elementin ve üst elementlerinin nitelikleri ile satır içi stilinden
+ * hesaplanır. Element belgeden çıkarıldığında ya da sayfa değiştiğinde StaleElementReferenceException fırlatılır.
+ */
+public final class FakeWebElement implements WebElement {
+    private static final Set<String> BOOLEAN_ATTRIBUTES = new HashSet<>(Arrays.asList(
+            "checked", "selected", "disabled", "readonly", "multiple", "required", "hidden"));
+    private static final Set<String> HIDDEN_TAGS = new HashSet<>(Arrays.asList(
+            "head", "script", "style", "title", "meta", "template", "noscript"));
+    private static final CssSelector RADIO = CssSelector.parse("input[type=radio]");
+
+    private final FakeWebDriver driver;
+    private final Element element;
+
+    FakeWebElement(FakeWebDriver driver, Element element) {
+        this.driver = driver;
+        this.element = element;
+    }
+
+    @Override
+    public void click() {
+        command("click");
+        if (!displayed()) {
+            throw new ElementNotInteractableException("Element is not displayed: " + describe());
+        }
+        activate();
+    }
+
+    @Override
+    public void submit() {
+        command("submit");
+        driver.fireClickHandlers(element);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        command("sendKeys");
+        if (!displayed() || !enabled()) {
+            throw new ElementNotInteractableException("Element is not interactable: " + describe());
+        }
+        StringBuilder text = new StringBuilder(value());
+        for (CharSequence keys : keysToSend) {
+            // Özel tuşlar (Keys.ENTER vb.) Unicode özel kullanım alanındadır ve metne eklenmez
+            keys.chars().filter(c -> c < 0xE000 || c > 0xF8FF).forEach(c -> text.append((char) c));
+        }
+        setValue(text.toString());
+    }
+
+    @Override
+    public void clear() {
+        command("clear");
+        setValue("");
+    }
+
+    @Override
+    public String getTagName() {
+        command("getTagName");
+        return tagName();
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        command("getAttribute");
+        return property(name);
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        command("getDomAttribute");
+        return element.hasAttribute(name) ? element.getAttribute(name) : null;
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        command("getDomProperty");
+        return property(name);
+    }
+
+    @Override
+    public boolean isSelected() {
+        command("isSelected");
+        return selected();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        command("isEnabled");
+        return enabled();
+    }
+
+    @Override
+    public String getText() {
+        command("getText");
+        return visibleText();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        command("findElements");
+        return driver.wrap(driver.select(element, by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        command("findElement");
+        List<Element> elements = driver.select(element, by);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate element: " + by);
+        }
+        return new FakeWebElement(driver, elements.get(0));
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        command("isDisplayed");
+        return displayed();
+    }
+
+    @Override
+    public Point getLocation() {
+        command("getLocation");
+        return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+        command("getSize");
+        return size();
+    }
+
+    @Override
+    public Rectangle getRect() {
+        command("getRect");
+        return new Rectangle(new Point(0, 0), size());
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        command("getCssValue");
+        String value = inlineStyle(element, propertyName);
+        return value == null ? "" : value;
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return driver.getScreenshotAs(target);
+    }
+
+    /**
+     * Tıklamanın etkisini uygular: seçenekleri seçer, onay kutularını ve radyo düğmelerini işaretler, tıklama
+     * işleyicilerini çalıştırır. Komut sayılmaz; betik taklitleri tarafından da kullanılır.
+     */
+    void activate() {
+        checkStale();
+        if (!enabled()) {
+            return;
+        }
+        String tag = tagName();
+        String type = element.getAttribute("type").toLowerCase(Locale.ROOT);
+        if ("option".equals(tag)) {
+            selectOption();
+        } else if ("input".equals(tag) && "checkbox".equals(type)) {
+            setBoolean("checked", !element.hasAttribute("checked"));
+        } else if ("input".equals(tag) && "radio".equals(type)) {
+            checkRadio();
+        }
+        driver.fireClickHandlers(element);
+    }
+
+    /**
+     * Elementin görünür metnini döndürür: boşluklar tek boşluğa indirilir, gizli elementler boş metin döndürür.
+     *
+     * @return Görünür metin
+     */
+    String visibleText() {
+        checkStale();
+        if (!displayed()) {
+            return "";
+        }
+        StringBuilder text = new StringBuilder();
+        appendVisibleText(element, text);
+        return text.toString().replaceAll("[\\s\\u00A0]+", " ").trim();
+    }
+
+    boolean displayed() {
+        checkStale();
+        for (Node node = element; node instanceof Element; node = node.getParentNode()) {
+            if (isHidden((Element) node)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean enabled() {
+        checkStale();
+        for (Node node = element; node instanceof Element; node = node.getParentNode()) {
+            Element current = (Element) node;
+            if (current.hasAttribute("disabled")
+                    && Arrays.asList("input", "select", "textarea", "button", "option", "optgroup", "fieldset")
+                    .contains(current.getTagName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean selected() {
+        checkStale();
+        return "option".equals(tagName()) ? isOptionSelected(element) : element.hasAttribute("checked");
+    }
+
+    String tagName() {
+        return element.getTagName().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Elementin değerini döndürür; textarea için içerik, select için seçili seçeneğin değeri kullanılır.
+     *
+     * @return Değer
+     */
+    String value() {
+        checkStale();
+        switch (tagName()) {
+            case "textarea":
+                return element.getTextContent();
+            case "select":
+                for (FakeWebElement option : options()) {
+                    if (option.selected()) {
+                        return option.value();
+                    }
+                }
+                return "";
+            case "option":
+                return element.hasAttribute("value") ? element.getAttribute("value") : element.getTextContent().trim();
+            default:
+                return element.getAttribute("value");
+        }
+    }
+
+    void setValue(String value) {
+        checkStale();
+        if ("textarea".equals(tagName())) {
+            element.setTextContent(value);
+        } else {
+            element.setAttribute("value", value);
+        }
+    }
+
+    void setBoolean(String attribute, boolean on) {
+        if (on) {
+            element.setAttribute(attribute, attribute);
+        } else {
+            element.removeAttribute(attribute);
+        }
+    }
+
+    List<FakeWebElement> select(String cssSelector) {
+        checkStale();
+        List<FakeWebElement> matches = new ArrayList<>();
+        for (Element match : driver.select(element, By.cssSelector(cssSelector))) {
+            matches.add(new FakeWebElement(driver, match));
+        }
+        return matches;
+    }
+
+    List<FakeWebElement> options() {
+        return select("option");
+    }
+
+    Element getElement() {
+        return element;
+    }
+
+    FakeWebElement parent() {
+        Node parent = element.getParentNode();
+        return parent instanceof Element ? new FakeWebElement(driver, (Element) parent) : null;
+    }
+
+    String attribute(String name) {
+        return element.hasAttribute(name) ? element.getAttribute(name) : null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof FakeWebElement && ((FakeWebElement) o).element == element;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(element);
+    }
+
+    @Override
+    public String toString() {
+        return "FakeWebElement[" + describe() + "]";
+    }
+
+    private void command(String name) {
+        driver.command(name);
+        checkStale();
+    }
+
+    private void checkStale() {
+        Node node = element;
+        while (node.getParentNode() != null) {
+            node = node.getParentNode();
+        }
+        if (node != driver.getDocument()) {
+            throw new StaleElementReferenceException("Element is no longer attached to the DOM: " + describe());
+        }
+    }
+
+    private String property(String name) {
+        String key = name.toLowerCase(Locale.ROOT);
+        if (BOOLEAN_ATTRIBUTES.contains(key)) {
+            boolean on = "selected".equals(key) && "option".equals(tagName()) ? isOptionSelected(element)
+                    : element.hasAttribute(key);
+            return on ? "true" : null;
+        }
+        switch (key) {
+            case "value":
+                return value();
+            case "classname":
+                return element.getAttribute("class");
+            case "textcontent":
+                return element.getTextContent();
+            case "innertext":
+                return visibleText();
+            case "tagname":
+                return element.getTagName().toUpperCase(Locale.ROOT);
+            default:
+                return element.hasAttribute(key) ? element.getAttribute(key) : null;
+        }
+    }
+
+    private void selectOption() {
+        Element select = null;
+        for (Node node = element.getParentNode(); node instanceof Element; node = node.getParentNode()) {
+            if ("select".equals(((Element) node).getTagName())) {
+                select = (Element) node;
+                break;
+            }
+        }
+        if (select != null && select.hasAttribute("multiple")) {
+            setBoolean("selected", !element.hasAttribute("selected"));
+            return;
+        }
+        if (select != null) {
+            for (FakeWebElement option : new FakeWebElement(driver, select).options()) {
+                option.element.removeAttribute("selected");
+            }
+        }
+        setBoolean("selected", true);
+    }
+
+    private void checkRadio() {
+        String name = element.getAttribute("name");
+        if (!name.isEmpty()) {
+            for (Element radio : driver.select(driver.getDocument(), RADIO)) {
+                if (name.equals(radio.getAttribute("name"))) {
+                    radio.removeAttribute("checked");
+                }
+            }
+        }
+        setBoolean("checked", true);
+    }
+
+    /**
+     * Seçenek seçili mi; hiçbir seçeneği seçili olmayan tekli select'lerde ilk seçenek seçili sayılır.
+     */
+    private boolean isOptionSelected(Element option) {
+        if (option.hasAttribute("selected")) {
+            return true;
+        }
+        for (Node node = option.getParentNode(); node instanceof Element; node = node.getParentNode()) {
+            Element select = (Element) node;
+            if ("select".equals(select.getTagName())) {
+                if (select.hasAttribute("multiple")) {
+                    return false;
+                }
+                List<Element> options = driver.select(select, By.tagName("option"));
+                for (Element other : options) {
+                    if (other.hasAttribute("selected")) {
+                        return false;
+                    }
+                }
+                return !options.isEmpty() && options.get(0) == option;
+            }
+        }
+        return false;
+    }
+
+    private Dimension size() {
+        return displayed() ? new Dimension(100, 20) : new Dimension(0, 0);
+    }
+
+    private String describe() {
+        StringBuilder description = new StringBuilder("<").append(element.getTagName());
+        if (element.hasAttribute("id")) {
+            description.append(" id=\"").append(element.getAttribute("id")).append('"');
+        }
+        if (element.hasAttribute("class")) {
+            description.append(" class=\"").append(element.getAttribute("class")).append('"');
+        }
+        return description.append('>').toString();
+    }
+
+    private static void appendVisibleText(Node node, StringBuilder text) {
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.TEXT_NODE) {
+                text.append(child.getNodeValue());
+            } else if (child instanceof Element && !isHidden((Element) child)) {
+                String tag = ((Element) child).getTagName();
+                boolean separated = "br".equals(tag) || "td".equals(tag) || "th".equals(tag) || "p".equals(tag)
+                        || "div".equals(tag) || "li".equals(tag) || "tr".equals(tag);
+                if (separated) {
+                    text.append(' ');
+                }
+                appendVisibleText(child, text);
+                if (separated) {
+                    text.append(' ');
+                }
+            }
+        }
+    }
+
+    private static boolean isHidden(Element element) {
+        String tag = element.getTagName().toLowerCase(Locale.ROOT);
+        if (HIDDEN_TAGS.contains(tag) || element.hasAttribute("hidden")) {
+            return true;
+        }
+        if ("input".equals(tag) && "hidden".equalsIgnoreCase(element.getAttribute("type"))) {
+            return true;
+        }
+        String display = inlineStyle(element, "display");
+        String visibility = inlineStyle(element, "visibility");
+        return "none".equals(display) || "hidden".equals(visibility);
+    }
+
+    private static String inlineStyle(Element element, String property) {
+        for (String declaration : element.getAttribute("style").split(";")) {
+            int colon = declaration.indexOf(':');
+            if (colon > 0 && declaration.substring(0, colon).trim().equalsIgnoreCase(property)) {
+                return declaration.substring(colon + 1).trim().toLowerCase(Locale.ROOT);
+            }
+        }
+        return null;
+    }
+}
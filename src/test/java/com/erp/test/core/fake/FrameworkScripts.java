@@ -0,0 +1,248 @@
+package com.erp.test.core.fake;
+
+import org.w3c.dom.Element;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Çerçevenin tarayıcıda çalıştırdığı betiklerin (ERPDataTable, ERPForm, FormFieldMap, SmartWait, DriverPool,
+ * SessionSnapshot) {@link FakeWebDriver} DOM'u üzerindeki karşılıkları.
+ * Her işleyici, ilgili betikte yalnızca bir kez geçen bir metin parçasıyla eşleşir; betikler değiştirildiğinde
+ * buradaki parçaların da güncellenmesi gerekir.
+ */
+final class FrameworkScripts {
+    // Sayfanın ağ ve DOM açısından çoktan sakinleştiğini bildirmek için kullanılan boşta kalma süresi
+    private static final long IDLE_MILLIS = 60_000;
+    private static final CssSelector LABEL_FOR = CssSelector.parse("label[for]");
+    private static final CssSelector TEXT_FIELD = CssSelector.parse("input, textarea");
+
+    private FrameworkScripts() {
+    }
+
+    /**
+     * Çerçeve betiklerinin işleyicilerini sürücüye ekler. Sonradan eklenen işleyiciler öncelik aldığından, başka
+     * betiklerin içinde de geçen genel parçalar önce eklenir.
+     *
+     * @param driver Sürücü
+     */
+    static void register(FakeWebDriver driver) {
+        // BasePage sayfa hazır kontrolü; ağ boşta kontrolü de readyState okuduğundan en düşük önceliktedir
+        driver.onScript("document.readyState", (d, args) -> "complete");
+        driver.onScript("arguments[0].click();", (d, args) -> {
+            element(args[0]).activate();
+            return null;
+        });
+        driver.onScript("scrollIntoView", (d, args) -> null);
+
+        // ERPDataTable
+        driver.onScript("querySelectorAll('tbody > tr')", (d, args) -> tableSnapshot(element(args[0])));
+        driver.onScript("aria-disabled", (d, args) -> clickNextPage(element(args[0])));
+        driver.onScript("c.scrollTop = before + c.clientHeight", (d, args) -> false);
+
+        // SmartWait: sahte sayfada bekleyen istek ya da animasyon yoktur
+        driver.onScript("a.pending > 0", (d, args) -> true);
+        driver.onScript("__erpActivity.last = performance.now()", (d, args) -> null);
+        driver.onScript("idleMs", (d, args) -> {
+            Map<String, Object> activity = new HashMap<>();
+            activity.put("pending", 0L);
+            activity.put("idleMs", (double) IDLE_MILLIS);
+            return activity;
+        });
+        driver.onScript("__erpDomObserver", (d, args) -> true);
+
+        // FormFieldMap ve ERPForm; harita, oluşturulduğu andaki DOM sürümüyle karşılaştırılarak eskitilir
+        Map<Element, Long> fieldMapVersions = new WeakHashMap<>();
+        driver.onScript("__erpFieldObserver", (d, args) -> {
+            FakeWebElement form = element(args[0]);
+            fieldMapVersions.put(form.getElement(), d.getDomVersion());
+            return formFields(d, form);
+        });
+        driver.onScript("__erpFieldsDirty !== false", (d, args) -> {
+            Long version = fieldMapVersions.get(element(args[0]).getElement());
+            return version == null || version != d.getDomVersion();
+        });
+        driver.onScript("Object.getOwnPropertyDescriptor(proto, 'value')", (d, args) -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> values = (Map<String, Object>) args[1];
+            return fillForm(d, element(args[0]), values);
+        });
+
+        // DriverPool ve SessionSnapshot; sahte sürücünün yerel depolaması yoktur
+        driver.onScript("localStorage.clear()", (d, args) -> null);
+        driver.onScript("fill(window.localStorage", (d, args) -> null);
+        driver.onScript("dump(window.localStorage)", (d, args) -> {
+            Map<String, Object> storage = new HashMap<>();
+            storage.put("local", Collections.emptyMap());
+            storage.put("session", Collections.emptyMap());
+            return storage;
+        });
+    }
+
+    private static Map<String, Object> tableSnapshot(FakeWebElement table) {
+        List<Object> headers = new ArrayList<>();
+        for (FakeWebElement header : table.select("th")) {
+            headers.add(header.visibleText());
+        }
+        List<Object> rows = new ArrayList<>();
+        for (FakeWebElement row : table.select("tbody > tr")) {
+            List<Object> cells = new ArrayList<>();
+            for (FakeWebElement cell : row.select("td")) {
+                cells.add(cell.visibleText());
+            }
+            rows.add(cells);
+        }
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put("headers", headers);
+        snapshot.put("rows", rows);
+        return snapshot;
+    }
+
+    private static boolean clickNextPage(FakeWebElement button) {
+        boolean disabled = button.attribute("disabled") != null
+                || "true".equals(button.attribute("aria-disabled"))
+                || CssSelector.hasWord(button.getElement().getAttribute("class"), "disabled");
+        if (disabled || !button.displayed()) {
+            return false;
+        }
+        button.activate();
+        return true;
+    }
+
+    private static List<Object> formFields(FakeWebDriver driver, FakeWebElement form) {
+        List<Object> fields = new ArrayList<>();
+        for (FakeWebElement field : form.select("input, select, textarea")) {
+            List<Object> labels = new ArrayList<>();
+            String id = field.attribute("id");
+            if (id != null && !id.isEmpty()) {
+                for (Element label : driver.select(driver.getDocument(), LABEL_FOR)) {
+                    if (id.equals(label.getAttribute("for"))) {
+                        labels.add(label.getTextContent().trim());
+                    }
+                }
+            }
+            FakeWebElement parent = field.parent();
+            List<FakeWebElement> siblings = parent == null ? Collections.emptyList() : parent.select("label:not([for])");
+            if (!siblings.isEmpty()) {
+                labels.add(siblings.get(0).getElement().getTextContent().trim());
+            }
+
+            List<Object> attributes = new ArrayList<>();
+            for (String name : Arrays.asList("placeholder", "name", "id")) {
+                String value = field.attribute(name);
+                if (value != null && !value.isEmpty()) {
+                    attributes.add(value);
+                }
+            }
+
+            Map<String, Object> descriptor = new LinkedHashMap<>();
+            descriptor.put("element", field);
+            descriptor.put("type", fieldType(field));
+            descriptor.put("labels", labels);
+            descriptor.put("attributes", attributes);
+            fields.add(descriptor);
+        }
+        return fields;
+    }
+
+    private static String fieldType(FakeWebElement field) {
+        String type = field.attribute("type");
+        if ("select".equals(field.tagName())) {
+            return "SELECT";
+        }
+        if ("checkbox".equalsIgnoreCase(type)) {
+            return "CHECKBOX";
+        }
+        return "radio".equalsIgnoreCase(type) ? "RADIO" : "TEXT";
+    }
+
+    private static List<Object> fillForm(FakeWebDriver driver, FakeWebElement form, Map<String, Object> values) {
+        List<Object> failed = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            String key = entry.getKey();
+            Object value = entry.getValue();
+            String text = value == null ? "" : String.valueOf(value);
+
+            List<FakeWebElement> radios = find(driver, form,
+                    field -> "radio".equals(field.getAttribute("type")) && key.equals(field.getAttribute("name")));
+            if (!radios.isEmpty()) {
+                FakeWebElement radio = radios.stream().filter(r -> text.equals(r.value())).findFirst().orElse(null);
+                if (radio == null) {
+                    failed.add(key);
+                } else if (!radio.selected()) {
+                    radio.activate();
+                }
+                continue;
+            }
+
+            FakeWebElement field = resolve(driver, form, key);
+            if (field == null) {
+                failed.add(key);
+            } else if ("select".equals(field.tagName())) {
+                FakeWebElement option = field.options().stream()
+                        .filter(o -> text.equals(o.getElement().getTextContent().trim())).findFirst().orElse(null);
+                if (option == null) {
+                    failed.add(key);
+                } else {
+                    option.activate();
+                }
+            } else if ("checkbox".equalsIgnoreCase(field.attribute("type"))) {
+                if (field.selected() != (Boolean.TRUE.equals(value) || "true".equals(text))) {
+                    field.activate();
+                }
+            } else if ("radio".equalsIgnoreCase(field.attribute("type"))) {
+                if (!field.selected()) {
+                    field.activate();
+                }
+            } else {
+                field.setValue(text);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Anahtarı ERPForm betiğiyle aynı sırada çözer: etiket (for ya da üst eleman) -> placeholder -> name/id.
+     */
+    private static FakeWebElement resolve(FakeWebDriver driver, FakeWebElement form, String key) {
+        for (FakeWebElement label : form.select("label")) {
+            if (!label.getElement().getTextContent().contains(key)) {
+                continue;
+            }
+            String target = label.attribute("for");
+            List<FakeWebElement> fields = target != null
+                    ? find(driver, form, field -> target.equals(field.getAttribute("id")))
+                    : label.parent().select("input, textarea, select");
+            return fields.isEmpty() ? null : fields.get(0);
+        }
+        List<FakeWebElement> fields = find(driver, form, field -> TEXT_FIELD.test(field)
+                && key.equals(field.getAttribute("placeholder")));
+        if (fields.isEmpty()) {
+            fields = find(driver, form, field -> key.equals(field.getAttribute("id"))
+                    || key.equals(field.getAttribute("name")) && !"radio".equals(field.getAttribute("type")));
+        }
+        return fields.isEmpty() ? null : fields.get(0);
+    }
+
+    private static List<FakeWebElement> find(FakeWebDriver driver, FakeWebElement context, Predicate<Element> matcher) {
+        List<FakeWebElement> elements = new ArrayList<>();
+        for (Element element : driver.select(context.getElement(), matcher)) {
+            elements.add(new FakeWebElement(driver, element));
+        }
+        return elements;
+    }
+
+    private static FakeWebElement element(Object argument) {
+        if (!(argument instanceof FakeWebElement)) {
+            throw new IllegalArgumentException("Script argument is not a fake element: " + argument);
+        }
+        return (FakeWebElement) argument;
+    }
+}
@@ -0,0 +1,177 @@
+package com.erp.test.core.fake;
+
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTML metnini W3C DOM'a dönüştüren sınıf.
+ * Ayrıştırma JDK'nın XML ayrıştırıcısıyla yapılır; bu yüzden HTML'in iyi biçimli olması beklenir. Yaygın HTML
+ * kısaltmaları önceden düzeltilir: DOCTYPE kaldırılır, script ve style elementlerinin içeriği atılır, boş elementler
+ * (input, br, img...) kapatılır, değersiz boolean nitelikler (disabled, checked...) değer alır, HTML'e özgü adlı
+ * karakter referansları (&amp;nbsp;, &amp;euro;, &amp;ndash;...) sayısal referanslara çevrilir, bilinmeyen referanslar
+ * ve başıboş &amp; karakterleri kaçırılır. Etiket ve nitelik adları küçük harfe çevrilir.
+ */
+final class HtmlParser {
+    private static final Set<String> VOID_ELEMENTS = new HashSet<>(Arrays.asList(
+            "area", "base", "br", "col", "embed", "hr", "img", "input", "link", "meta", "source", "track", "wbr"));
+    private static final Pattern DOCTYPE = Pattern.compile("(?is)<!DOCTYPE[^>]*>");
+    private static final Pattern COMMENT = Pattern.compile("(?s)<!--.*?-->");
+    // Betik ve stil içerikleri işaretleme değildir; içlerindeki < ve & karakterleri XML ayrıştırıcısını bozar
+    private static final Pattern RAW_TEXT = Pattern.compile("(?is)<(script|style)(\\s[^>]*)?>.*?</\\1\\s*>");
+    private static final Pattern TAG = Pattern.compile("<([a-zA-Z][\\w-]*)((?:\\s+[^\\s=/>]+(?:\\s*=\\s*(?:\"[^\"]*\"|'[^']*'|[^\\s\"'>]+))?)*)\\s*(/?)>");
+    private static final Pattern END_TAG = Pattern.compile("</([a-zA-Z][\\w-]*)\\s*>");
+    private static final Pattern ATTRIBUTE = Pattern.compile("([^\\s=/>]+)(?:\\s*=\\s*(\"[^\"]*\"|'[^']*'|[^\\s\"'>]+))?");
+    private static final Pattern BARE_AMPERSAND = Pattern.compile("&(?!#?\\w+;)");
+    private static final Pattern NAMED_REFERENCE = Pattern.compile("&([a-zA-Z]\\w*);");
+    private static final Set<String> XML_ENTITIES = new HashSet<>(Arrays.asList("amp", "lt", "gt", "quot", "apos"));
+    private static final Map<String, Integer> HTML_ENTITIES = new HashMap<>();
+
+    static {
+        // Latin-1 karakterleri (HTML 4 'HTMLlat1' kümesi), 160'tan başlayarak sırayla
+        String[] latin1 = {
+                "nbsp", "iexcl", "cent", "pound", "curren", "yen", "brvbar", "sect", "uml", "copy", "ordf", "laquo",
+                "not", "shy", "reg", "macr", "deg", "plusmn", "sup2", "sup3", "acute", "micro", "para", "middot",
+                "cedil", "sup1", "ordm", "raquo", "frac14", "frac12", "frac34", "iquest", "Agrave", "Aacute", "Acirc",
+                "Atilde", "Auml", "Aring", "AElig", "Ccedil", "Egrave", "Eacute", "Ecirc", "Euml", "Igrave", "Iacute",
+                "Icirc", "Iuml", "ETH", "Ntilde", "Ograve", "Oacute", "Ocirc", "Otilde", "Ouml", "times", "Oslash",
+                "Ugrave", "Uacute", "Ucirc", "Uuml", "Yacute", "THORN", "szlig", "agrave", "aacute", "acirc", "atilde",
+                "auml", "aring", "aelig", "ccedil", "egrave", "eacute", "ecirc", "euml", "igrave", "iacute", "icirc",
+                "iuml", "eth", "ntilde", "ograve", "oacute", "ocirc", "otilde", "ouml", "divide", "oslash", "ugrave",
+                "uacute", "ucirc", "uuml", "yacute", "thorn", "yuml"};
+        for (int i = 0; i < latin1.length; i++) {
+            HTML_ENTITIES.put(latin1[i], 160 + i);
+        }
+        // Türkçe harfler ve sık kullanılan tipografik işaretler
+        Object[] others = {
+                "Gbreve", 0x11E, "gbreve", 0x11F, "Idot", 0x130, "imath", 0x131, "Scedil", 0x15E, "scedil", 0x15F,
+                "OElig", 0x152, "oelig", 0x153, "Scaron", 0x160, "scaron", 0x161, "Yuml", 0x178, "fnof", 0x192,
+                "circ", 0x2C6, "tilde", 0x2DC, "ensp", 0x2002, "emsp", 0x2003, "thinsp", 0x2009, "zwnj", 0x200C,
+                "zwj", 0x200D, "lrm", 0x200E, "rlm", 0x200F, "ndash", 0x2013, "mdash", 0x2014, "lsquo", 0x2018,
+                "rsquo", 0x2019, "sbquo", 0x201A, "ldquo", 0x201C, "rdquo", 0x201D, "bdquo", 0x201E, "dagger", 0x2020,
+                "Dagger", 0x2021, "bull", 0x2022, "hellip", 0x2026, "permil", 0x2030, "prime", 0x2032, "Prime", 0x2033,
+                "lsaquo", 0x2039, "rsaquo", 0x203A, "oline", 0x203E, "frasl", 0x2044, "euro", 0x20AC, "trade", 0x2122,
+                "larr", 0x2190, "uarr", 0x2191, "rarr", 0x2192, "darr", 0x2193, "harr", 0x2194, "minus", 0x2212,
+                "lowast", 0x2217, "asymp", 0x2248, "ne", 0x2260, "le", 0x2264, "ge", 0x2265, "check", 0x2713,
+                "cross", 0x2717};
+        for (int i = 0; i < others.length; i += 2) {
+            HTML_ENTITIES.put((String) others[i], (Integer) others[i + 1]);
+        }
+    }
+
+    private HtmlParser() {
+    }
+
+    /**
+     * HTML belgesini ayrıştırır. Kök html elementi yoksa içerik html/body içine alınır.
+     *
+     * @param html HTML metni
+     * @return DOM belgesi
+     * @throws IllegalArgumentException HTML ayrıştırılamazsa
+     */
+    static Document parse(String html) {
+        String xml = normalize(html).trim();
+        if (!xml.toLowerCase(Locale.ROOT).startsWith("<html")) {
+            xml = "<html><body>" + xml + "</body></html>";
+        }
+        try {
+            return newBuilder().parse(new InputSource(new StringReader(xml)));
+        } catch (SAXException | IOException e) {
+            throw new IllegalArgumentException("HTML could not be parsed, it must be well-formed: " + e.getMessage(), e);
+        }
+    }
+
+    private static String normalize(String html) {
+        String text = RAW_TEXT.matcher(DOCTYPE.matcher(html).replaceAll("")).replaceAll("<$1$2></$1>");
+        text = COMMENT.matcher(text).replaceAll("");
+        text = replaceNamedReferences(BARE_AMPERSAND.matcher(text).replaceAll("&amp;"));
+
+        Matcher tags = TAG.matcher(text);
+        StringBuilder result = new StringBuilder();
+        while (tags.find()) {
+            String name = tags.group(1).toLowerCase(Locale.ROOT);
+            StringBuilder tag = new StringBuilder("<").append(name);
+            Matcher attributes = ATTRIBUTE.matcher(tags.group(2));
+            while (attributes.find()) {
+                String attribute = attributes.group(1).toLowerCase(Locale.ROOT);
+                String value = attributes.group(2);
+                if (value == null) {
+                    value = "\"" + attribute + "\"";
+                } else if (!value.startsWith("\"") && !value.startsWith("'")) {
+                    value = "\"" + value + "\"";
+                }
+                tag.append(' ').append(attribute).append('=').append(value);
+            }
+            boolean selfClosing = !tags.group(3).isEmpty() || VOID_ELEMENTS.contains(name);
+            tag.append(selfClosing ? "/>" : ">");
+            tags.appendReplacement(result, Matcher.quoteReplacement(tag.toString()));
+        }
+        tags.appendTail(result);
+
+        Matcher endTags = END_TAG.matcher(result);
+        StringBuilder closed = new StringBuilder();
+        while (endTags.find()) {
+            String name = endTags.group(1).toLowerCase(Locale.ROOT);
+            // Boş elementlerin kapanış etiketleri zaten kapatılmış elementlere aittir
+            endTags.appendReplacement(closed, VOID_ELEMENTS.contains(name) ? "" : "</" + name + ">");
+        }
+        endTags.appendTail(closed);
+        return closed.toString();
+    }
+
+    /**
+     * XML'de tanımlı olmayan adlı karakter referanslarını sayısal referanslara çevirir; tarayıcının da tanımadığı
+     * referanslar metin olarak kalacak şekilde kaçırılır.
+     */
+    private static String replaceNamedReferences(String text) {
+        Matcher references = NAMED_REFERENCE.matcher(text);
+        StringBuilder result = new StringBuilder();
+        while (references.find()) {
+            String name = references.group(1);
+            Integer codePoint = HTML_ENTITIES.get(name);
+            String replacement;
+            if (XML_ENTITIES.contains(name)) {
+                replacement = references.group();
+            } else if (codePoint != null) {
+                replacement = "&#" + codePoint + ";";
+            } else {
+                replacement = "&amp;" + name + ";";
+            }
+            references.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        references.appendTail(result);
+        return result.toString();
+    }
+
+    private static DocumentBuilder newBuilder() {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(false);
+            factory.setValidating(false);
+            factory.setExpandEntityReferences(false);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            DocumentBuilder builder = factory.newDocumentBuilder();
+            builder.setErrorHandler(new DefaultHandler());
+            return builder;
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("XML parser could not be configured", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.erp.test.core.fake;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * HtmlParser'ın gerçek ERP sayfalarında görülen HTML kısaltmalarını ayrıştırabildiğini doğrulayan birim
+ * testleri.
+ */
+public class HtmlParserTest {
+
+    @Test(description = "HTML'e özgü adlı karakter referansları karakterlere çevrilir")
+    public void decodesNamedReferences() {
+        Document document = HtmlParser.parse("<p id=\"p\">&copy; 2024 &ndash; Tutar:&nbsp;1.250 &euro; "
+                + "&laquo;Onaylandı&raquo; &Ccedil;&scedil;&hellip;</p>");
+
+        Assert.assertEquals(text(document, "p"), "© 2024 – Tutar:\u00A01.250 € «Onaylandı» Çş…");
+    }
+
+    @Test(description = "XML referansları korunur, bilinmeyen referanslar ve başıboş & metin olarak kalır")
+    public void keepsXmlAndUnknownReferencesAsText() {
+        Document document = HtmlParser.parse("<p id=\"p\">a &lt; b &amp; c &unknown; R&D &#8364;</p>");
+
+        Assert.assertEquals(text(document, "p"), "a < b & c &unknown; R&D €");
+    }
+
+    @Test(description = "Script ve style içerikleri atılır, elementler ve nitelikleri korunur")
+    public void dropsScriptAndStyleBodies() {
+        Document document = HtmlParser.parse("<html><head>"
+                + "<style>td > span { content: \"&\"; }</style>"
+                + "<script type=\"text/javascript\">if (a < b && c) { document.write('<div>'); }</script>"
+                + "</head><body><SCRIPT src=\"app.js\"></SCRIPT><p id=\"p\">Hazır</p></body></html>");
+
+        Assert.assertEquals(text(document, "p"), "Hazır");
+        Assert.assertEquals(document.getElementsByTagName("script").getLength(), 2);
+        Assert.assertEquals(((Element) document.getElementsByTagName("script").item(0)).getAttribute("type"),
+                "text/javascript");
+        Assert.assertEquals(document.getElementsByTagName("script").item(0).getTextContent(), "");
+        Assert.assertEquals(((Element) document.getElementsByTagName("script").item(1)).getAttribute("src"), "app.js");
+        Assert.assertEquals(document.getElementsByTagName("style").item(0).getTextContent(), "");
+    }
+
+    @Test(description = "Boş elementler kapatılır, değersiz nitelikler değer alır")
+    public void closesVoidElementsAndBooleanAttributes() {
+        Document document = HtmlParser.parse("<form><input disabled><br><input type=checkbox checked></form>");
+
+        Assert.assertEquals(document.getElementsByTagName("br").getLength(), 1);
+        Element first = (Element) document.getElementsByTagName("input").item(0);
+        Assert.assertEquals(first.getAttribute("disabled"), "disabled");
+        Assert.assertEquals(((Element) document.getElementsByTagName("input").item(1)).getAttribute("checked"),
+                "checked");
+    }
+
+    private static String text(Document document, String tagName) {
+        return document.getElementsByTagName(tagName).item(0).getTextContent();
+    }
+}
@@ -1,9 +1,9 @@
 package com.erp.test.core.listeners;
 
 import com.erp.test.core.driver.DriverManager;
+import com.erp.test.core.metrics.DriverMetrics;
+import com.erp.test.core.reporting.ScreenshotPipeline;
 import io.qameta.allure.Attachment;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,16 +28,20 @@ public class AllureListener implements ITestListener {
     @Override
     public void onFinish(ITestContext context) {
         logger.info("Finishing test suite: {}", context.getName());
+        ScreenshotPipeline.getInstance().flush();
     }
 
     @Override
     public void onTestStart(ITestResult result) {
         logger.info("Starting test: {}", result.getName());
+        DriverMetrics.getInstance().startTest(result.getTestClass().getRealClass().getSimpleName() + "."
+                + result.getMethod().getMethodName());
     }
 
     @Override
     public void onTestSuccess(ITestResult result) {
         logger.info("Test passed: {}", result.getName());
+        DriverMetrics.getInstance().endTest();
     }
 
     @Override
@@ -50,11 +54,13 @@ public class AllureListener implements ITestListener {
         
         // Hata mesajını ekle
         saveTextLog(result.getThrowable().getMessage());
+        DriverMetrics.getInstance().endTest();
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
         logger.warn("Test skipped: {}", result.getName());
+        DriverMetrics.getInstance().endTest();
     }
 
     @Override
@@ -63,25 +69,21 @@ public class AllureListener implements ITestListener {
     }
 
     /**
-     * Ekran görüntüsü alır ve Allure raporuna ekler.
+     * Ekran görüntüsü alır ve Allure raporuna arka planda ekler.
      *
      * @param testName Test adı
-     * @return Ekran görüntüsü bayt dizisi
      */
-    @Attachment(value = "Screenshot", type = "image/png")
-    private byte[] captureScreenshot(String testName) {
+    private void captureScreenshot(String testName) {
         try {
             WebDriver driver = DriverManager.getDriver();
             if (driver != null) {
                 logger.info("Taking screenshot for test: {}", testName);
-                return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+                ScreenshotPipeline.getInstance().captureToAllure(driver, "Screenshot");
             } else {
                 logger.warn("Driver is null, cannot take screenshot for test: {}", testName);
-                return new byte[0];
             }
         } catch (Exception e) {
             logger.error("Failed to capture screenshot for test: {}", testName, e);
-            return new byte[0];
         }
     }
 
@@ -0,0 +1,33 @@
+package com.erp.test.core.listeners;
+
+import com.erp.test.core.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Suite'lerin paralel çalışma ayarlarını yapılandırmadan uygulayan TestNG listener sınıfı.
+ * parallel.mode "none" değilse testng.xml'deki parallel ve thread-count değerlerini geçersiz kılar.
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+    private static final Logger logger = LoggerFactory.getLogger(ParallelSuiteListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        ConfigManager config = ConfigManager.getInstance();
+        if (!config.isParallelEnabled()) {
+            return;
+        }
+
+        XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(config.getParallelMode());
+        for (XmlSuite suite : suites) {
+            suite.setParallel(mode);
+            suite.setThreadCount(config.getParallelThreadCount());
+            logger.info("Running suite '{}' in parallel: mode={}, threads={}",
+                    suite.getName(), mode, config.getParallelThreadCount());
+        }
+    }
+}
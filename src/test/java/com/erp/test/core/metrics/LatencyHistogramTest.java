@@ -0,0 +1,112 @@
+package com.erp.test.core.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LatencyHistogram'ın kova hesaplarını ve yüzdelik değerlerini doğrulayan birim testleri.
+ */
+public class LatencyHistogramTest {
+
+    @Test(description = "16 mikrosaniyenin altındaki değerler kendi kovalarında birebir tutulur")
+    public void keepsSmallValuesExact() {
+        for (long micros = 0; micros < 16; micros++) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            Assert.assertEquals(index, micros);
+            Assert.assertEquals(LatencyHistogram.bucketUpperBound(index), micros);
+        }
+    }
+
+    @Test(description = "Her değer üst sınırı kendisinden küçük olmayan ve en fazla %6,25 uzak kovaya düşer")
+    public void boundsRelativeError() {
+        int previousIndex = -1;
+        for (long micros = 1; micros < (1L << 36); micros += Math.max(1, micros / 37)) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            Assert.assertTrue(index >= previousIndex, "Kova indeksi azalmamalı: " + micros);
+            Assert.assertTrue(upper >= micros, "Üst sınır değerin altında: " + micros);
+            Assert.assertTrue(upper - micros <= micros / 16.0, "Hata %6,25'i aşıyor: " + micros);
+            previousIndex = index;
+        }
+    }
+
+    @Test(description = "Kova sınırları bitişiktir; üst sınırın bir fazlası sonraki kovaya düşer")
+    public void bucketsAreContiguous() {
+        for (int index = 0; index < 200; index++) {
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            Assert.assertEquals(LatencyHistogram.bucketIndex(upper), index);
+            Assert.assertEquals(LatencyHistogram.bucketIndex(upper + 1), index + 1);
+        }
+    }
+
+    @Test(description = "Çok uzun süreler son kovaya yazılır, yüzdelik en uzun süreyi aşmaz")
+    public void clampsOverflowToLastBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long micros = 1L << 40;
+
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(micros));
+
+        Assert.assertEquals(LatencyHistogram.bucketIndex(micros), LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        Assert.assertEquals(histogram.getPercentileMillis(99), micros / 1000.0);
+    }
+
+    @Test(description = "Yüzdelikler sıralı ölçümlerin sıra değerine kova hassasiyetinde karşılık gelir")
+    public void computesPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        Assert.assertEquals(histogram.getCount(), 100);
+        Assert.assertEquals(histogram.getMeanMillis(), 50.5, 0.001);
+        Assert.assertEquals(histogram.getTotalMillis(), 5050, 0.001);
+        Assert.assertEquals(histogram.getMaxMillis(), 100.0);
+        assertWithinBucket(histogram.getPercentileMillis(50), 50);
+        assertWithinBucket(histogram.getPercentileMillis(90), 90);
+        assertWithinBucket(histogram.getPercentileMillis(99), 99);
+        assertWithinBucket(histogram.getPercentileMillis(0), 1);
+        Assert.assertEquals(histogram.getPercentileMillis(100), 100.0);
+        Assert.assertEquals(histogram.getPercentileMillis(150), 100.0);
+    }
+
+    @Test(description = "Ölçüm yoksa tüm değerler sıfırdır; negatif süreler sıfır olarak kaydedilir")
+    public void handlesEmptyAndNegative() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(histogram.getPercentileMillis(50), 0.0);
+        Assert.assertEquals(histogram.getMeanMillis(), 0.0);
+
+        histogram.record(-5);
+
+        Assert.assertEquals(histogram.getCount(), 1);
+        Assert.assertEquals(histogram.getMaxMillis(), 0.0);
+        Assert.assertEquals(histogram.getPercentileMillis(50), 0.0);
+    }
+
+    @Test(description = "Eşzamanlı kayıtlarda ölçüm kaybolmaz")
+    public void recordsConcurrently() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(TimeUnit.MICROSECONDS.toNanos(1000));
+                }
+            });
+        }
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        Assert.assertEquals(histogram.getCount(), 40_000);
+        Assert.assertEquals(histogram.getTotalMillis(), 40_000, 0.001);
+        Assert.assertEquals(histogram.getPercentileMillis(50), 1.0);
+    }
+
+    private static void assertWithinBucket(double actualMillis, double expectedMillis) {
+        Assert.assertTrue(actualMillis >= expectedMillis && actualMillis <= expectedMillis * (1 + 1 / 16.0),
+                "Beklenen " + expectedMillis + " ms, bulunan " + actualMillis + " ms");
+    }
+}
@@ -0,0 +1,127 @@
+package com.erp.test.core.reporting;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * ScreenshotStore'un birebir ve neredeyse aynı görüntüleri ortak dosyada birleştirmesini doğrulayan birim testleri.
+ */
+public class ScreenshotStoreTest {
+    private Path directory;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("screenshot-store");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test(description = "Birebir aynı görüntüler aynı kimliği, farklı görüntüler farklı kimlikleri alır")
+    public void mergesIdenticalCapturesOnly() throws IOException {
+        ScreenshotStore store = new ScreenshotStore(directory, 0);
+        byte[] first = png(gradient(false, 0));
+
+        String id = store.resolve(first);
+
+        Assert.assertEquals(store.resolve(first.clone()), id);
+        Assert.assertNotEquals(store.resolve(png(gradient(false, 3))), id);
+    }
+
+    @Test(description = "Uzaklık sınırı içindeki görüntüler ilk görülen görüntünün kimliğini alır")
+    public void mergesNearDuplicates() throws IOException {
+        ScreenshotStore store = new ScreenshotStore(directory, 6);
+        String id = store.resolve(png(gradient(false, 0)));
+
+        Assert.assertEquals(store.resolve(png(gradient(false, 3))), id);
+        Assert.assertNotEquals(store.resolve(png(gradient(true, 0))), id);
+    }
+
+    @Test(description = "Çok sayıda farklı görüntü arasında yakın kopya yine bulunur")
+    public void findsNearDuplicateAmongManyCaptures() throws IOException {
+        ScreenshotStore store = new ScreenshotStore(directory, 6);
+        String id = store.resolve(png(gradient(false, 0)));
+        for (int seed = 1; seed <= 50; seed++) {
+            store.resolve(png(noise(seed)));
+        }
+
+        Assert.assertEquals(store.resolve(png(gradient(false, 5))), id);
+    }
+
+    @Test(description = "Aynı kimlik için içerik yalnızca bir kez üretilip yazılır")
+    public void writesEachBlobOnce() throws IOException {
+        ScreenshotStore store = new ScreenshotStore(directory, 0);
+        String id = store.resolve(png(noise(99)));
+        AtomicInteger encodings = new AtomicInteger();
+
+        Path first = store.write(id, () -> {
+            encodings.incrementAndGet();
+            return new byte[]{1, 2, 3};
+        });
+        Path second = store.write(id, () -> {
+            encodings.incrementAndGet();
+            return new byte[]{4};
+        });
+
+        Assert.assertEquals(second, first);
+        Assert.assertEquals(first, store.pathOf(id));
+        Assert.assertEquals(Files.readAllBytes(first), new byte[]{1, 2, 3});
+        Assert.assertEquals(encodings.get(), 1);
+    }
+
+    /**
+     * Soldan sağa (ya da ters yönde) açılan gri geçişli görüntü; changedPixels kadar piksel değiştirilir.
+     */
+    private static BufferedImage gradient(boolean reversed, int changedPixels) {
+        BufferedImage image = new BufferedImage(320, 200, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int level = (reversed ? image.getWidth() - 1 - x : x) * 255 / image.getWidth();
+                image.setRGB(x, y, level << 16 | level << 8 | level);
+            }
+        }
+        for (int i = 0; i < changedPixels; i++) {
+            image.setRGB(17 + i * 31, 11 + i * 13, 0xFF0000);
+        }
+        return image;
+    }
+
+    private static BufferedImage noise(long seed) {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(320, 200, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < image.getHeight(); y += 20) {
+            for (int x = 0; x < image.getWidth(); x += 20) {
+                int level = random.nextInt(256);
+                for (int dy = 0; dy < 20; dy++) {
+                    for (int dx = 0; dx < 20; dx++) {
+                        image.setRGB(x + dx, y + dy, level << 16 | level << 8 | level);
+                    }
+                }
+            }
+        }
+        return image;
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,90 @@
+package com.erp.test.core.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Test metotlarını geçmiş sürelerine göre sıralayan ve isteğe bağlı olarak tek bir parçaya (shard) süzen
+ * TestNG interceptor'ı. Yavaş sınıflar ve metotlar önce başlatılır.
+ * -Dshard=3/8 verildiğinde yalnızca 8 parçanın 3. parçasındaki sınıflar çalıştırılır; plan tüm suite üzerinden ve
+ * yalnızca başlangıçta yüklenen sürelerle yapıldığından aynı geçmiş dosyasını kullanan tüm CI ajanları, suite'teki
+ * her &lt;test&gt; için aynı planı üretir.
+ */
+public class ShardMethodInterceptor implements IMethodInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(ShardMethodInterceptor.class);
+    private static final String SHARD_PROPERTY = "shard";
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        TestDurationHistory history = TestDurationHistory.getInstance();
+        Map<String, Long> classDurations = history.getClassDurations();
+
+        List<IMethodInstance> selected = new ArrayList<>(methods);
+        String shardSpec = System.getProperty(SHARD_PROPERTY);
+        if (shardSpec != null && !shardSpec.trim().isEmpty()) {
+            Set<String> shardClasses = shardClasses(shardSpec.trim(), context, classDurations);
+            selected.removeIf(method -> !shardClasses.contains(className(method)));
+            logger.info("Shard {} runs {} of {} methods in '{}'", shardSpec, selected.size(), methods.size(),
+                    context.getName());
+        }
+
+        long fallback = ShardPlanner.averageKnown(classDurations.keySet(), classDurations);
+        selected.sort(Comparator
+                .comparingLong((IMethodInstance method) ->
+                        ShardPlanner.estimate(className(method), classDurations, fallback)).reversed()
+                .thenComparing(ShardMethodInterceptor::className)
+                .thenComparing(Comparator.comparingLong((IMethodInstance method) ->
+                        history.getMethodDuration(className(method), method.getMethod().getMethodName())).reversed()));
+        return selected;
+    }
+
+    /**
+     * Suite'teki tüm sınıfları planlar ve istenen parçanın sınıflarını döndürür.
+     *
+     * @param shardSpec "index/count" biçiminde parça tanımı (index 1'den başlar)
+     * @param context Test bağlamı
+     * @param classDurations Sınıf süreleri
+     * @return Parçadaki sınıf adları
+     */
+    private static Set<String> shardClasses(String shardSpec, ITestContext context, Map<String, Long> classDurations) {
+        String[] parts = shardSpec.split("/");
+        int index;
+        int count;
+        try {
+            if (parts.length != 2) {
+                throw new NumberFormatException();
+            }
+            index = Integer.parseInt(parts[0].trim());
+            count = Integer.parseInt(parts[1].trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid shard '" + shardSpec + "', expected <index>/<count>");
+        }
+        if (count < 1 || index < 1 || index > count) {
+            throw new IllegalArgumentException("Invalid shard '" + shardSpec + "', index must be in 1.." + count);
+        }
+
+        Set<String> suiteClasses = new LinkedHashSet<>();
+        for (ITestNGMethod method : context.getSuite().getAllMethods()) {
+            suiteClasses.add(method.getRealClass().getName());
+        }
+        ShardPlanner.Shard shard = ShardPlanner.plan(suiteClasses, classDurations, count).get(index - 1);
+        logger.info("{}", shard);
+        return new HashSet<>(shard.getClassNames());
+    }
+
+    private static String className(IMethodInstance method) {
+        return method.getMethod().getRealClass().getName();
+    }
+}
@@ -0,0 +1,119 @@
+package com.erp.test.core.scheduling;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+/**
+ * Test sınıflarını beklenen sürelerine göre dengeli parçalara (shard) bölen planlayıcı.
+ * En uzun işlem önce (LPT) yöntemi kullanılır: sınıflar süreye göre azalan sırada, o an toplam süresi en az olan
+ * parçaya atanır. Süresi bilinmeyen sınıflar için bilinen sürelerin ortalaması kullanılır.
+ */
+public final class ShardPlanner {
+    // Hiç geçmiş yokken her sınıfa verilen varsayılan süre
+    private static final long DEFAULT_DURATION_MILLIS = 1000;
+
+    private ShardPlanner() {
+        // Utility class, no instances
+    }
+
+    /**
+     * Sınıfları parçalara böler.
+     *
+     * @param classNames Planlanacak sınıflar
+     * @param durations Sınıf adı -> Beklenen süre (ms) haritası
+     * @param shardCount Parça sayısı
+     * @return Parçalar; her biri süreye göre azalan sırada sınıf adlarını içerir
+     */
+    public static List<Shard> plan(Collection<String> classNames, Map<String, Long> durations, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+
+        long fallback = averageKnown(classNames, durations);
+        List<String> ordered = new ArrayList<>(new TreeSet<>(classNames));
+        ordered.sort(Comparator.comparingLong((String name) -> estimate(name, durations, fallback)).reversed());
+
+        List<Shard> shards = new ArrayList<>(shardCount);
+        PriorityQueue<Shard> lightest = new PriorityQueue<>(
+                Comparator.comparingLong(Shard::getTotalMillis).thenComparingInt(Shard::getIndex));
+        for (int i = 1; i <= shardCount; i++) {
+            Shard shard = new Shard(i);
+            shards.add(shard);
+            lightest.add(shard);
+        }
+
+        for (String className : ordered) {
+            Shard shard = lightest.poll();
+            shard.add(className, estimate(className, durations, fallback));
+            lightest.add(shard);
+        }
+        return shards;
+    }
+
+    /**
+     * Bir sınıfın beklenen süresini döndürür.
+     *
+     * @param className Sınıf adı
+     * @param durations Sınıf adı -> Beklenen süre (ms) haritası
+     * @param fallback Süre bilinmiyorsa kullanılacak değer
+     * @return Beklenen süre (ms)
+     */
+    static long estimate(String className, Map<String, Long> durations, long fallback) {
+        Long duration = durations.get(className);
+        return duration != null && duration >= 0 ? duration : fallback;
+    }
+
+    static long averageKnown(Collection<String> classNames, Map<String, Long> durations) {
+        long total = 0;
+        int known = 0;
+        for (String className : classNames) {
+            Long duration = durations.get(className);
+            if (duration != null && duration >= 0) {
+                total += duration;
+                known++;
+            }
+        }
+        return known == 0 ? DEFAULT_DURATION_MILLIS : total / known;
+    }
+
+    /**
+     * Tek bir parça: atanan sınıflar ve toplam beklenen süre.
+     */
+    public static final class Shard {
+        private final int index;
+        private final List<String> classNames = new ArrayList<>();
+        private long totalMillis;
+
+        private Shard(int index) {
+            this.index = index;
+        }
+
+        private void add(String className, long durationMillis) {
+            classNames.add(className);
+            totalMillis += durationMillis;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public List<String> getClassNames() {
+            return Collections.unmodifiableList(classNames);
+        }
+
+        public long getTotalMillis() {
+            return totalMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "Shard " + index + " (" + totalMillis + " ms): " + classNames;
+        }
+    }
+}
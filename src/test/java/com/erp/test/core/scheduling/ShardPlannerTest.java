@@ -0,0 +1,78 @@
+package com.erp.test.core.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ShardPlanner'ın en uzun işlem önce (LPT) dağıtımını doğrulayan birim testleri.
+ */
+public class ShardPlannerTest {
+
+    @Test(description = "Sınıflar süreye göre azalan sırada en hafif parçaya atanır")
+    public void assignsLongestClassesToLightestShard() {
+        Map<String, Long> durations = Map.of("A", 10L, "B", 8L, "C", 6L, "D", 5L, "E", 4L);
+
+        List<ShardPlanner.Shard> shards = ShardPlanner.plan(durations.keySet(), durations, 2);
+
+        Assert.assertEquals(shards.get(0).getClassNames(), Arrays.asList("A", "D"));
+        Assert.assertEquals(shards.get(0).getTotalMillis(), 15);
+        Assert.assertEquals(shards.get(1).getClassNames(), Arrays.asList("B", "C", "E"));
+        Assert.assertEquals(shards.get(1).getTotalMillis(), 18);
+    }
+
+    @Test(description = "Plan, sınıfların veriliş sırasından bağımsızdır")
+    public void isIndependentOfInputOrder() {
+        Map<String, Long> durations = Map.of("A", 7L, "B", 7L, "C", 3L, "D", 3L);
+
+        List<ShardPlanner.Shard> first = ShardPlanner.plan(Arrays.asList("A", "B", "C", "D"), durations, 2);
+        List<ShardPlanner.Shard> second = ShardPlanner.plan(Arrays.asList("D", "C", "B", "A"), durations, 2);
+
+        for (int i = 0; i < first.size(); i++) {
+            Assert.assertEquals(second.get(i).getClassNames(), first.get(i).getClassNames());
+        }
+        Assert.assertEquals(first.get(0).getClassNames(), Arrays.asList("A", "C"));
+        Assert.assertEquals(first.get(1).getClassNames(), Arrays.asList("B", "D"));
+    }
+
+    @Test(description = "Süresi bilinmeyen sınıflara bilinen sürelerin ortalaması verilir")
+    public void usesAverageForUnknownClasses() {
+        Map<String, Long> durations = Map.of("Known1", 100L, "Known2", 300L);
+
+        List<ShardPlanner.Shard> shards = ShardPlanner.plan(Arrays.asList("Known1", "Known2", "New"), durations, 1);
+
+        Assert.assertEquals(shards.get(0).getTotalMillis(), 600);
+        Assert.assertEquals(shards.get(0).getClassNames(), Arrays.asList("Known2", "New", "Known1"));
+    }
+
+    @Test(description = "Hiç geçmiş yoksa sınıflar adlarına göre sırayla dağıtılır")
+    public void distributesEvenlyWithoutHistory() {
+        List<ShardPlanner.Shard> shards = ShardPlanner.plan(Arrays.asList("C", "A", "B"), Collections.emptyMap(), 2);
+
+        Assert.assertEquals(shards.get(0).getClassNames(), Arrays.asList("A", "C"));
+        Assert.assertEquals(shards.get(1).getClassNames(), Collections.singletonList("B"));
+    }
+
+    @Test(description = "Her sınıf tam olarak bir parçaya atanır, fazla parçalar boş kalır")
+    public void assignsEveryClassExactlyOnce() {
+        Map<String, Long> durations = Map.of("A", 1L, "B", 2L);
+
+        List<ShardPlanner.Shard> shards = ShardPlanner.plan(durations.keySet(), durations, 4);
+
+        Assert.assertEquals(shards.size(), 4);
+        Assert.assertEquals(shards.get(0).getClassNames(), Collections.singletonList("B"));
+        Assert.assertEquals(shards.get(1).getClassNames(), Collections.singletonList("A"));
+        Assert.assertTrue(shards.get(2).getClassNames().isEmpty());
+        Assert.assertTrue(shards.get(3).getClassNames().isEmpty());
+    }
+
+    @Test(description = "Parça sayısı pozitif olmalıdır")
+    public void rejectsNonPositiveShardCount() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> ShardPlanner.plan(Collections.singletonList("A"), Collections.emptyMap(), 0));
+    }
+}
@@ -0,0 +1,160 @@
+package com.erp.test.core.scheduling;
+
+import com.erp.test.core.config.ConfigManager;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Test metotlarının ve sınıflarının geçmiş çalışma sürelerini tutan sınıf.
+ * Süreler yerel bir JSON dosyasında saklanır; her yeni ölçüm üstel hareketli ortalama ile eski değere katılır,
+ * böylece tek bir yavaş çalışma planı bozmaz.
+ *
+ * <p>Planlama yalnızca başlangıçta yüklenen sürelerle yapılır. Bu çalışmanın ölçümleri ayrı tutulur ve geçmişe
+ * ancak {@link #save()} sırasında katılır; böylece her CI ajanı, kendi kısmi ölçümlerinden bağımsız olarak
+ * aynı planı üretir.</p>
+ */
+public final class TestDurationHistory {
+    private static final Logger logger = LoggerFactory.getLogger(TestDurationHistory.class);
+
+    // Yeni ölçümün ağırlığı
+    private static final double SMOOTHING = 0.5;
+
+    private final Path file;
+    private final Map<String, Long> methodDurations;
+    private final Map<String, Long> classDurations;
+    private final Map<String, Long> runMethodDurations = new ConcurrentHashMap<>();
+    private final Map<String, Long> runClassDurations = new ConcurrentHashMap<>();
+
+    private TestDurationHistory(Path file, Map<String, Long> methodDurations, Map<String, Long> classDurations) {
+        this.file = file;
+        this.methodDurations = Collections.unmodifiableMap(new HashMap<>(methodDurations));
+        this.classDurations = Collections.unmodifiableMap(new HashMap<>(classDurations));
+    }
+
+    public static TestDurationHistory getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Süre geçmişini dosyadan yükler. Dosya yoksa boş bir geçmiş döner.
+     *
+     * @param file Geçmiş dosyası
+     * @return TestDurationHistory instance
+     */
+    public static TestDurationHistory load(Path file) {
+        Map<String, Long> methods = new HashMap<>();
+        Map<String, Long> classes = new HashMap<>();
+        if (!Files.exists(file)) {
+            logger.info("No test duration history found at {}", file);
+        } else {
+            try {
+                JSONObject json = new JSONObject(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+                readInto(json.optJSONObject("methods"), methods);
+                readInto(json.optJSONObject("classes"), classes);
+                logger.info("Loaded test duration history for {} classes from {}", classes.size(), file);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Ignoring unreadable test duration history {}: {}", file, e.getMessage());
+                methods.clear();
+                classes.clear();
+            }
+        }
+        return new TestDurationHistory(file, methods, classes);
+    }
+
+    /**
+     * Bir test metodunun bu çalışmadaki süresini kaydeder. Aynı metot birden çok kez çalışırsa süreler toplanır.
+     *
+     * @param className Test sınıfının tam adı
+     * @param methodName Test metodu adı
+     * @param durationMillis Süre (ms)
+     */
+    public void record(String className, String methodName, long durationMillis) {
+        runMethodDurations.merge(className + "#" + methodName, durationMillis, Long::sum);
+    }
+
+    /**
+     * Bir test sınıfının bu çalışmadaki duvar saati süresini kaydeder. Süre, @BeforeClass ve @AfterClass
+     * metotlarını da kapsamalıdır. Sınıf birden çok &lt;test&gt; içinde çalışırsa süreler toplanır.
+     *
+     * @param className Test sınıfının tam adı
+     * @param durationMillis Süre (ms)
+     */
+    public void recordClass(String className, long durationMillis) {
+        runClassDurations.merge(className, durationMillis, Long::sum);
+    }
+
+    /**
+     * Bir test metodunun başlangıçta yüklenen beklenen süresini döndürür.
+     *
+     * @param className Test sınıfının tam adı
+     * @param methodName Test metodu adı
+     * @return Süre (ms), bilinmiyorsa -1
+     */
+    public long getMethodDuration(String className, String methodName) {
+        return methodDurations.getOrDefault(className + "#" + methodName, -1L);
+    }
+
+    /**
+     * Sınıfların başlangıçta yüklenen beklenen sürelerini döndürür. Bu çalışmanın ölçümleri dahil değildir.
+     *
+     * @return Değiştirilemez sınıf adı -> Süre (ms) haritası
+     */
+    public Map<String, Long> getClassDurations() {
+        return classDurations;
+    }
+
+    /**
+     * Bu çalışmadaki ölçümleri geçmişe katarak dosyaya yazar. Yüklenen süreler değişmez; tekrar çağrıldığında
+     * aynı ölçümler yeniden katılmaz.
+     */
+    public synchronized void save() {
+        JSONObject json = new JSONObject();
+        json.put("methods", new JSONObject(merge(methodDurations, runMethodDurations)));
+        json.put("classes", new JSONObject(merge(classDurations, runClassDurations)));
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(file, json.toString(2).getBytes(StandardCharsets.UTF_8));
+            logger.info("Test duration history saved to {}", file);
+        } catch (IOException e) {
+            logger.error("Failed to save test duration history to {}", file, e);
+        }
+    }
+
+    private static Map<String, Long> merge(Map<String, Long> loaded, Map<String, Long> measured) {
+        Map<String, Long> merged = new HashMap<>(loaded);
+        measured.forEach((key, duration) -> merged.merge(key, duration, TestDurationHistory::smooth));
+        return merged;
+    }
+
+    private static long smooth(long previous, long current) {
+        return Math.round(previous * (1 - SMOOTHING) + current * SMOOTHING);
+    }
+
+    private static void readInto(JSONObject json, Map<String, Long> target) {
+        if (json == null) {
+            return;
+        }
+        for (String key : json.keySet()) {
+            target.put(key, json.getLong(key));
+        }
+    }
+
+    private static final class Holder {
+        private static final TestDurationHistory INSTANCE =
+                load(Paths.get(ConfigManager.getInstance().getTestDurationHistoryPath()));
+    }
+}
@@ -0,0 +1,80 @@
+package com.erp.test.core.scheduling;
+
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * TestDurationHistory'nin planlama için değişmez görüntü sunmasını ve ölçümleri yalnızca kayıtta katmasını
+ * doğrulayan birim testleri.
+ */
+public class TestDurationHistoryTest {
+    private Path file;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        file = Files.createTempFile("test-durations", ".json");
+        Files.write(file, ("{\"methods\": {\"com.x.A#login\": 400}, "
+                + "\"classes\": {\"com.x.A\": 1000, \"com.x.B\": 2000}}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test(description = "Bu çalışmanın ölçümleri plan için kullanılan sürelere katılmaz")
+    public void planningDurationsIgnoreCurrentRun() {
+        TestDurationHistory history = TestDurationHistory.load(file);
+        Map<String, Long> before = history.getClassDurations();
+
+        history.record("com.x.A", "login", 50);
+        history.recordClass("com.x.A", 100);
+        history.recordClass("com.x.C", 700);
+
+        Assert.assertEquals(history.getClassDurations(), before);
+        Assert.assertEquals(history.getClassDurations(), Map.of("com.x.A", 1000L, "com.x.B", 2000L));
+        Assert.assertEquals(history.getMethodDuration("com.x.A", "login"), 400);
+        Assert.assertEquals(history.getMethodDuration("com.x.A", "logout"), -1);
+        Assert.assertThrows(UnsupportedOperationException.class,
+                () -> history.getClassDurations().put("com.x.D", 1L));
+    }
+
+    @Test(description = "Kayıt, ölçümleri üstel ortalamayla geçmişe katar ve tekrar çağrıldığında iki kez katmaz")
+    public void saveMergesMeasurementsOnce() throws IOException {
+        TestDurationHistory history = TestDurationHistory.load(file);
+        history.record("com.x.A", "login", 200);
+        history.recordClass("com.x.A", 600);
+        history.recordClass("com.x.A", 400);
+        history.recordClass("com.x.C", 700);
+
+        history.save();
+        history.save();
+
+        JSONObject saved = new JSONObject(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        Assert.assertEquals(saved.getJSONObject("classes").getLong("com.x.A"), 1000);
+        Assert.assertEquals(saved.getJSONObject("classes").getLong("com.x.B"), 2000);
+        Assert.assertEquals(saved.getJSONObject("classes").getLong("com.x.C"), 700);
+        Assert.assertEquals(saved.getJSONObject("methods").getLong("com.x.A#login"), 300);
+
+        TestDurationHistory reloaded = TestDurationHistory.load(file);
+        Assert.assertEquals(reloaded.getClassDurations().get("com.x.C"), Long.valueOf(700));
+    }
+
+    @Test(description = "Okunamayan geçmiş dosyası boş geçmiş olarak yüklenir")
+    public void ignoresUnreadableHistory() throws IOException {
+        Files.write(file, "{ not json".getBytes(StandardCharsets.UTF_8));
+
+        TestDurationHistory history = TestDurationHistory.load(file);
+
+        Assert.assertTrue(history.getClassDurations().isEmpty());
+    }
+}
@@ -0,0 +1,90 @@
+package com.erp.test.core.scheduling;
+
+import org.testng.IClass;
+import org.testng.IClassListener;
+import org.testng.IConfigurationListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestClass;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Test sürelerini {@link TestDurationHistory}'ye kaydeden TestNG listener sınıfı.
+ * Metot süreleri test sonuçlarından alınır. Sınıf süresi, sınıfın ilk @BeforeClass metodundan önce başlayıp son
+ * @AfterClass metodu bittiğinde biten duvar saati süresidir; kurulum ve temizlik süreleri de plana yansır.
+ * Geçmiş suite bittiğinde bir kez kaydedilir.
+ */
+public class TestDurationListener implements ITestListener, IClassListener, IConfigurationListener, ISuiteListener {
+    // Sınıf -> {başlangıç, bitiş} (epoch ms)
+    private final Map<IClass, long[]> classSpans = new ConcurrentHashMap<>();
+
+    @Override
+    public void onBeforeClass(ITestClass testClass) {
+        long now = System.currentTimeMillis();
+        classSpans.put(testClass, new long[]{now, now});
+    }
+
+    @Override
+    public void onAfterClass(ITestClass testClass) {
+        extend(testClass, System.currentTimeMillis());
+    }
+
+    @Override
+    public void onConfigurationSuccess(ITestResult result) {
+        extendAfterClass(result);
+    }
+
+    @Override
+    public void onConfigurationFailure(ITestResult result) {
+        extendAfterClass(result);
+    }
+
+    @Override
+    public void onConfigurationSkip(ITestResult result) {
+        extendAfterClass(result);
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        recordMethod(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        recordMethod(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        TestDurationHistory history = TestDurationHistory.getInstance();
+        classSpans.forEach((testClass, span) ->
+                history.recordClass(testClass.getRealClass().getName(), span[1] - span[0]));
+        classSpans.clear();
+        history.save();
+    }
+
+    /**
+     * TestNG, IClassListener.onAfterClass'ı @AfterClass metotlarından önce çağırır; sınıfın bitişi bu metotların
+     * bitiş zamanına uzatılır.
+     *
+     * @param result Yapılandırma metodu sonucu
+     */
+    private void extendAfterClass(ITestResult result) {
+        if (result.getMethod().isAfterClassConfiguration()) {
+            extend(result.getTestClass(), result.getEndMillis());
+        }
+    }
+
+    private void extend(IClass testClass, long endMillis) {
+        classSpans.computeIfPresent(testClass, (key, span) -> new long[]{span[0], Math.max(span[1], endMillis)});
+    }
+
+    private static void recordMethod(ITestResult result) {
+        TestDurationHistory.getInstance().record(result.getTestClass().getRealClass().getName(),
+                result.getMethod().getMethodName(), result.getEndMillis() - result.getStartMillis());
+    }
+}
@@ -0,0 +1,71 @@
+package com.erp.test.core.wait;
+
+import com.erp.test.core.fake.FakeWebDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+/**
+ * SmartWait'in yoklama sırasında sayfa yeniden yüklenirken oluşan hataları yutup yeniden denediğini
+ * {@link FakeWebDriver} üzerinde doğrulayan birim testleri.
+ */
+public class SmartWaitTest {
+    private static final String URL = "https://erp.local/invoices";
+    private static final String CONTEXT_DESTROYED = "Execution context was destroyed, most likely because of a navigation";
+
+    private FakeWebDriver driver;
+    private SmartWait smartWait;
+
+    @BeforeMethod
+    public void setUp() {
+        driver = new FakeWebDriver().addPage(URL, "<html><head><title>Faturalar</title></head><body>"
+                + "<div id=\"loading\">Yükleniyor</div></body></html>");
+        driver.get(URL);
+        smartWait = new SmartWait(driver, Duration.ofSeconds(2), Duration.ofMillis(10), Duration.ofMillis(50));
+    }
+
+    @Test(description = "Yeniden yükleme sırasında başlangıç işareti hata verirse yeni belgede yeniden konur")
+    public void retriesNetworkMarkDuringReload() {
+        int[] markAttempts = {0};
+        driver.onScript("__erpActivity.last = performance.now()", (d, args) -> {
+            if (++markAttempts[0] < 3) {
+                throw new JavascriptException(CONTEXT_DESTROYED);
+            }
+            return null;
+        });
+
+        smartWait.untilNetworkIdle(Duration.ofMillis(500));
+
+        Assert.assertEquals(markAttempts[0], 3);
+    }
+
+    @Test(description = "Başlangıç işareti konduktan sonra yoklamalarda yeniden konmaz")
+    public void marksNetworkActivityOnce() {
+        driver.resetCommandCounts();
+
+        smartWait.untilNetworkIdle(Duration.ofMillis(500));
+
+        Assert.assertEquals(driver.getCommandCount("executeScript"), 2);
+    }
+
+    @Test(description = "Koşuldaki JavaScript hataları yoklama boyunca yutulur, süre dolunca neden olarak iletilir")
+    public void retriesConditionOnJavascriptException() {
+        int[] attempts = {0};
+        Assert.assertTrue(smartWait.until(d -> {
+            if (++attempts[0] < 3) {
+                throw new JavascriptException(CONTEXT_DESTROYED);
+            }
+            return d.findElements(By.id("loading")).size() == 1;
+        }));
+
+        TimeoutException error = Assert.expectThrows(TimeoutException.class, () -> smartWait.until(d -> {
+            throw new JavascriptException(CONTEXT_DESTROYED);
+        }, Duration.ofMillis(100)));
+        Assert.assertTrue(error.getCause() instanceof JavascriptException, String.valueOf(error.getCause()));
+    }
+}
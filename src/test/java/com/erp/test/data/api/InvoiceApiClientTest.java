@@ -0,0 +1,41 @@
+package com.erp.test.data.api;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * InvoiceApiClient'ın liste yanıtından yalnızca aranan fatura numarasına ait kimlikleri aldığını doğrulayan
+ * birim testleri.
+ */
+public class InvoiceApiClientTest {
+
+    @Test(description = "Dizi ve sarmalanmış liste yanıtlarından eşleşen kimlikler okunur")
+    public void readsMatchingIds() {
+        Assert.assertEquals(InvoiceApiClient.matchingIds(
+                "[{\"id\": 7, \"invoiceNumber\": \"INV-1\"}, {\"id\": \"a8\", \"invoiceNumber\": \"INV-1\"}]", "INV-1"),
+                Arrays.asList("7", "a8"));
+        Assert.assertEquals(InvoiceApiClient.matchingIds(
+                "{\"content\": [{\"id\": 9, \"invoiceNumber\": \"INV-2\"}]}", "INV-2"),
+                Collections.singletonList("9"));
+        Assert.assertTrue(InvoiceApiClient.matchingIds("{\"items\": []}", "INV-3").isEmpty());
+    }
+
+    @Test(description = "Fatura numarası olmayan kayıt eşleşme sayılmaz, hata verilir")
+    public void rejectsItemWithoutInvoiceNumber() {
+        RuntimeException error = Assert.expectThrows(RuntimeException.class, () -> InvoiceApiClient.matchingIds(
+                "[{\"id\": 7, \"invoiceNumber\": \"INV-1\"}, {\"id\": 8}]", "INV-1"));
+
+        Assert.assertTrue(error.getMessage().contains("no invoiceNumber for invoice 8"), error.getMessage());
+    }
+
+    @Test(description = "Filtre yok sayılıp başka faturalar dönerse hata verilir")
+    public void rejectsIgnoredFilter() {
+        RuntimeException error = Assert.expectThrows(RuntimeException.class, () -> InvoiceApiClient.matchingIds(
+                "[{\"id\": 7, \"invoiceNumber\": \"INV-1\"}, {\"id\": 8, \"invoiceNumber\": \"INV-99\"}]", "INV-1"));
+
+        Assert.assertTrue(error.getMessage().contains("ignored the invoiceNumber filter"), error.getMessage());
+    }
+}
@@ -0,0 +1,67 @@
+package com.erp.test.data.models;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fatura toplamı hesaplama maliyetini ölçen JMH benchmark'ı.
+ * Kalemlerin tek seferde verilmesi ile tek tek eklenmesi karşılaştırılır; her eklemede toplam yeniden hesaplandığı
+ * için ikinci yolun maliyeti kalem sayısıyla karesel artar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvoiceDataBenchmark {
+
+    @Param({"5", "50", "500"})
+    public int itemCount;
+
+    private List<InvoiceItemData> items;
+
+    @Setup
+    public void setUp() {
+        items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new InvoiceItemData("Ürün " + i, 1 + i % 7, 10.5 + i));
+        }
+    }
+
+    @Benchmark
+    public double totalWithAllItems() {
+        return new InvoiceData("INV-001", "Müşteri", "2024-01-01", new ArrayList<>(items)).getTotalAmount();
+    }
+
+    @Benchmark
+    public double totalWithAddedItems() {
+        InvoiceData invoice = new InvoiceData("INV-001", "Müşteri", "2024-01-01", new ArrayList<>());
+        for (InvoiceItemData item : items) {
+            invoice.addItem(item);
+        }
+        return invoice.getTotalAmount();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(InvoiceDataBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,146 @@
+package com.erp.test.pages.finance;
+
+import com.erp.test.core.driver.DriverManager;
+import com.erp.test.core.fake.FakeWebDriver;
+import com.erp.test.core.metrics.DriverMetrics;
+import com.erp.test.core.page.RoundTripBudget;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * InvoicePage'in arama, sayfalama ve silme akışlarını ve gidiş-dönüş bütçelerini {@link FakeWebDriver}
+ * üzerinde, tarayıcı başlatmadan doğrulayan sayfa nesnesi testleri.
+ */
+public class InvoicePageTest {
+    private static final String URL = "https://erp.local/invoices";
+    // Bütçeler ölçülen komut sayısının en fazla bu kadar üstünde tutulur; fazlası gerilemeleri gizler
+    private static final int BUDGET_HEADROOM = 2;
+
+    private FakeWebDriver driver;
+    private InvoicePage page;
+
+    @BeforeMethod
+    public void setUp() {
+        driver = new FakeWebDriver().addPage(URL, page(
+                row("INV-001", "Acme A.Ş.", "1.250,00"),
+                row("INV-002", "Beta Ltd.", "980,50")));
+        driver.get(URL);
+        DriverManager.setDriver(DriverMetrics.getInstance().instrument(driver));
+        page = new InvoicePage().verifyPageLoaded();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        DriverManager.quitDriver();
+    }
+
+    @Test(description = "Arama terimi girilir, sonuçlar yüklendikten sonra tablo yeniden okunur")
+    public void searchesInvoices() {
+        driver.onClick("#searchBtn", d -> d.setInnerHtml("#rows", row("INV-002", "Beta Ltd.", "980,50")));
+
+        page.searchInvoice("INV-002");
+
+        Assert.assertEquals(driver.findElement(By.id("searchInput")).getAttribute("value"), "INV-002");
+        Assert.assertEquals(page.getAllInvoiceNumbers(), List.of("INV-002"));
+        Assert.assertTrue(page.isInvoiceDisplayed("INV-002"));
+        Assert.assertFalse(page.isInvoiceDisplayed("INV-001"));
+    }
+
+    @Test(description = "Fatura bulunana kadar sayfalar ilerletilir, yoksa son sayfada durulur")
+    public void pagesToInvoice() {
+        List<String> pages = Arrays.asList(
+                row("INV-101", "Zeta", "1,00") + row("INV-102", "Eta", "2,00"),
+                row("INV-201", "Theta", "3,00"));
+        int[] loadedPages = {1};
+        driver.onClick("#nextPageBtn", d -> {
+            d.setInnerHtml("#rows", pages.get(loadedPages[0] - 1));
+            loadedPages[0]++;
+            if (loadedPages[0] > pages.size()) {
+                d.setInnerHtml("#pager", "<button id=\"nextPageBtn\" disabled>Sonraki</button>");
+            }
+        });
+
+        Assert.assertFalse(page.isInvoiceDisplayed("INV-102"));
+        Assert.assertTrue(page.pageToInvoice("INV-102"));
+        Assert.assertEquals(loadedPages[0], 2);
+        Assert.assertTrue(page.isInvoiceDisplayed("INV-102"));
+
+        Assert.assertFalse(page.pageToInvoice("INV-999"));
+        Assert.assertEquals(page.getAllInvoiceNumbers(), List.of("INV-201"));
+    }
+
+    @Test(description = "Silme onaylandıktan sonra fatura tablodan kalkar")
+    public void deletesInvoiceAfterConfirmation() {
+        String[] deleteRequested = new String[1];
+        driver.onClick("#rows tr:nth-child(2) button.delete", d -> deleteRequested[0] = "INV-002");
+        driver.onClick("#confirmDeleteBtn", d -> d.setInnerHtml("#rows", row("INV-001", "Acme A.Ş.", "1.250,00")));
+
+        page.deleteInvoice("INV-002");
+
+        Assert.assertEquals(deleteRequested[0], "INV-002");
+        Assert.assertEquals(page.getAllInvoiceNumbers(), List.of("INV-001"));
+    }
+
+    @Test(description = "Tabloda olmayan fatura açılmak ya da silinmek istenirse hata verilir")
+    public void rejectsUnknownInvoice() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> page.openInvoice("INV-999"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> page.deleteInvoice("INV-999"));
+    }
+
+    @Test(description = "Bütçeli her metot bütçesi içinde kalır ve bütçe ölçülen komut sayısına yakındır")
+    public void staysWithinRoundTripBudgets() throws Exception {
+        List<Method> budgeted = new ArrayList<>();
+        for (Method method : InvoicePage.class.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(RoundTripBudget.class)) {
+                budgeted.add(method);
+            }
+        }
+        budgeted.sort(Comparator.comparing(Method::getName));
+        Assert.assertFalse(budgeted.isEmpty());
+
+        List<String> mismatches = new ArrayList<>();
+        DriverMetrics metrics = DriverMetrics.getInstance();
+        for (Method method : budgeted) {
+            Object[] args = method.getParameterCount() == 0 ? new Object[0] : new Object[] {"INV-001"};
+            long before = metrics.getRoundTrips();
+            method.invoke(page, args);
+            long used = metrics.getRoundTrips() - before;
+
+            int budget = method.getAnnotation(RoundTripBudget.class).value();
+            if (used > budget || budget > used + BUDGET_HEADROOM) {
+                mismatches.add(method.getName() + " used " + used + ", budget " + budget);
+            }
+        }
+        Assert.assertTrue(mismatches.isEmpty(), "Budgets do not match measured round trips: " + mismatches);
+    }
+
+    private static String page(String... rows) {
+        return "<!DOCTYPE html><html><head><title>Faturalar</title></head><body>"
+                + "<h1>Faturalar</h1>"
+                + "<input type=\"text\" id=\"searchInput\"><button id=\"searchBtn\">Ara</button>"
+                + "<button id=\"clearFilterBtn\">Temizle</button>"
+                + "<button id=\"exportBtn\">Dışa Aktar</button><button id=\"printBtn\">Yazdır</button>"
+                + "<table id=\"invoiceTable\"><thead><tr><th>Fatura No</th><th>Müşteri</th><th>Tarih</th>"
+                + "<th>Tutar</th><th>Durum</th><th>İşlemler</th></tr></thead>"
+                + "<tbody id=\"rows\">" + String.join("", rows) + "</tbody></table>"
+                + "<div id=\"pager\"><button id=\"nextPageBtn\">Sonraki</button></div>"
+                + "<div id=\"confirmDialog\"><button id=\"confirmDeleteBtn\">Evet, Sil</button></div>"
+                + "</body></html>";
+    }
+
+    private static String row(String invoiceNumber, String customer, String amount) {
+        return "<tr><td>" + invoiceNumber + "</td><td>" + customer + "</td><td>2024-01-15</td><td>" + amount
+                + "</td><td>Onaylandı</td><td>"
+                + "<button title=\"Görüntüle\">Görüntüle</button>"
+                + "<button class=\"delete\" title=\"Sil\">Sil</button></td></tr>";
+    }
+}
@@ -3,15 +3,20 @@ package com.erp.test.tests;
 import com.erp.test.core.driver.DriverManager;
 import com.erp.test.core.reporting.AllureReportHelper;
 import com.erp.test.core.reporting.ExtentReportManager;
+import com.erp.test.core.reporting.ScreenshotPipeline;
 import io.qameta.allure.Allure;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
+import org.testng.xml.XmlSuite;
 
 import java.lang.reflect.Method;
 
@@ -20,17 +25,33 @@ import java.lang.reflect.Method;
  * Test yaşam döngüsü yönetimini sağlar.
  */
 public abstract class BaseTest {
-    protected WebDriver driver;
     protected final Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    /**
+     * Test suite'i başlamadan önce çalışır.
+     * Sürücü havuzu etkinse tarayıcıları arka planda önceden başlatır.
+     */
+    @BeforeSuite(alwaysRun = true)
+    public void warmUpDrivers() {
+        DriverManager.warmUpPool();
+    }
+
     /**
      * Test sınıfı başlamadan önce çalışır.
-     * WebDriver'ı başlatır.
      */
     @BeforeClass
     public void setUp() {
         logger.info("Setting up test class: {}", this.getClass().getSimpleName());
-        driver = DriverManager.getDriver();
+    }
+
+    /**
+     * Mevcut thread'in WebDriver'ını döndürür.
+     * Paralel çalışmada her işçi thread kendi sürücüsünü kullanır; sürücü örnek alanında saklanmaz.
+     *
+     * @return WebDriver instance
+     */
+    protected WebDriver getDriver() {
+        return DriverManager.getDriver();
     }
 
     /**
@@ -50,6 +71,9 @@ public abstract class BaseTest {
 
         logger.info("Starting test: {}", testName);
 
+        // Test metodunu çalıştıracak thread için sürücüyü hazırla
+        DriverManager.getDriver();
+
         // ExtentReports için test oluştur
         ExtentReportManager.createTest(testName, testDescription);
 
@@ -92,16 +116,61 @@ public abstract class BaseTest {
             logger.warn("Test skipped: {}", testName);
             ExtentReportManager.getTest().skip(result.getThrowable());
         }
+
+        // Metot bazlı paralel çalışmada sınıfın sonraki metotları başka thread'lerde çalışabilir
+        if (isMethodLevelParallel(result.getTestContext())) {
+            DriverManager.releaseDriver();
+        }
     }
 
     /**
      * Test sınıfı bittikten sonra çalışır.
-     * WebDriver'ı kapatır ve raporları kaydeder.
+     * WebDriver'ı serbest bırakır ve raporları kaydeder.
+     *
+     * @param context Çalışan testin bağlamı
      */
     @AfterClass
-    public void tearDown() {
+    public void tearDown(ITestContext context) {
         logger.info("Tearing down test class: {}", this.getClass().getSimpleName());
-        DriverManager.quitDriver();
+        DriverManager.releaseDriver();
+        // Paralel çalışmada rapor yalnızca suite sonunda yazılır
+        if (!parallelMode(context).isParallel()) {
+            ExtentReportManager.flushReports();
+        }
+    }
+
+    /**
+     * Test suite'i bittikten sonra çalışır.
+     * Bekleyen ekran görüntülerini yazar, işçi thread'lerde açık kalan sürücüleri serbest bırakır,
+     * sürücü havuzundaki tüm tarayıcıları kapatır ve komut gecikmesi özetini rapora ekler.
+     */
+    @AfterSuite(alwaysRun = true)
+    public void shutdownDrivers() {
+        ScreenshotPipeline.getInstance().flush();
         ExtentReportManager.flushReports();
+        DriverManager.releaseAllDrivers();
+        DriverManager.shutdownPool();
+        AllureReportHelper.attachDriverLatency();
+    }
+
+    private static boolean isMethodLevelParallel(ITestContext context) {
+        XmlSuite.ParallelMode mode = parallelMode(context);
+        return mode == XmlSuite.ParallelMode.METHODS || mode == XmlSuite.ParallelMode.INSTANCES;
+    }
+
+    /**
+     * Çalışan suite'in gerçek paralel modunu döndürür. testng.xml ayarı ve ParallelSuiteListener'ın uyguladığı
+     * yapılandırma burada birleşmiş olur; &lt;test&gt; düzeyinde verilen mod suite ayarından önce gelir.
+     *
+     * @param context Çalışan testin bağlamı
+     * @return Paralel mod
+     */
+    private static XmlSuite.ParallelMode parallelMode(ITestContext context) {
+        XmlSuite.ParallelMode testMode = context.getCurrentXmlTest().getParallel();
+        if (testMode != null && testMode.isParallel()) {
+            return testMode;
+        }
+        XmlSuite.ParallelMode suiteMode = context.getSuite().getXmlSuite().getParallel();
+        return suiteMode == null ? XmlSuite.ParallelMode.NONE : suiteMode;
     }
 }
@@ -1,6 +1,7 @@
 package com.erp.test.tests.finance;
 
 import com.erp.test.core.reporting.ExtentReportManager;
+import com.erp.test.data.api.InvoiceApiClient;
 import com.erp.test.data.models.InvoiceData;
 import com.erp.test.data.models.InvoiceItemData;
 import com.erp.test.pages.common.DashboardPage;
@@ -12,12 +13,14 @@ import com.erp.test.pages.login.LoginPage;
 import com.erp.test.tests.BaseTest;
 import io.qameta.allure.*;
 import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -26,9 +29,10 @@ import java.util.List;
 @Epic("ERP Sistemi")
 @Feature("Fatura Yönetimi")
 public class InvoiceTests extends BaseTest {
-    private LoginPage loginPage;
-    private DashboardPage dashboardPage;
-    private InvoicePage invoicePage;
+    // Paralel çalışmada her thread kendi sayfa nesnesini kullanır
+    private final ThreadLocal<InvoicePage> invoicePages = new ThreadLocal<>();
+    // Test verileri arayüz yerine API ile, tarayıcının oturumu kullanılarak oluşturulur ve silinir
+    private final ThreadLocal<InvoiceApiClient> invoiceApis = new ThreadLocal<>();
 
     /**
      * Her test metodundan önce çalışır.
@@ -36,16 +40,53 @@ public class InvoiceTests extends BaseTest {
      */
     @BeforeMethod
     public void navigateToInvoicePage() {
-        loginPage = new LoginPage();
+        LoginPage loginPage = new LoginPage();
 
         ExtentReportManager.getTest().info("Kullanıcı girişi yapılıyor");
-        dashboardPage = loginPage.loginWithConfigCredentials();
+        DashboardPage dashboardPage = loginPage.loginWithConfigCredentials();
 
         ExtentReportManager.getTest().info("Fatura sayfasına gidiliyor");
-        invoicePage = dashboardPage.navigateToInvoicePage();
+        InvoicePage invoicePage = dashboardPage.navigateToInvoicePage();
 
         ExtentReportManager.getTest().info("Fatura sayfasının yüklendiği doğrulanıyor");
         invoicePage.verifyPageLoaded();
+        invoicePages.set(invoicePage);
+        invoiceApis.set(InvoiceApiClient.fromBrowserSession(getDriver()));
+    }
+
+    /**
+     * Her test metodundan sonra çalışır.
+     * API ile oluşturulan test faturalarını siler ve thread'e bağlı nesneleri temizler.
+     */
+    @AfterMethod(alwaysRun = true)
+    public void clearInvoicePage() {
+        InvoiceApiClient invoiceApi = invoiceApis.get();
+        try {
+            if (invoiceApi != null) {
+                invoiceApi.deleteCreatedInvoices();
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Test invoices could not be cleaned up: {}", e.getMessage());
+        } finally {
+            invoiceApis.remove();
+            invoicePages.remove();
+        }
+    }
+
+    /**
+     * Test için tek kalemli bir faturayı API ile oluşturur ve fatura listesini yeniler.
+     *
+     * @param invoiceNumber Fatura numarası
+     * @param customerName Müşteri adı
+     * @param productName Ürün adı
+     */
+    private void seedInvoice(String invoiceNumber, String customerName, String productName) {
+        String invoiceDate = LocalDate.now().format(DateTimeFormatter.ofPattern("dd.MM.yyyy"));
+        List<InvoiceItemData> items = Collections.singletonList(new InvoiceItemData(productName, 1, 100.00));
+
+        ExtentReportManager.getTest().info("Test için fatura API ile oluşturuluyor: " + invoiceNumber);
+        invoiceApis.get().createInvoice(new InvoiceData(invoiceNumber, customerName, invoiceDate, items));
+        invoicePages.get().refresh();
     }
 
     /**
@@ -56,6 +97,7 @@ public class InvoiceTests extends BaseTest {
     @Story("Fatura Oluşturma")
     @Description("Yeni bir fatura oluşturulabildiğini ve fatura listesinde görüntülendiğini doğrular")
     public void testCreateInvoice() {
+        InvoicePage invoicePage = invoicePages.get();
         // Test verileri
         String invoiceNumber = "INV-" + System.currentTimeMillis();
         String customerName = "Test Müşteri";
@@ -93,9 +135,9 @@ public class InvoiceTests extends BaseTest {
         Assert.assertTrue(invoicePage.isInvoiceDisplayed(invoiceNumber),
                 "Oluşturulan fatura listede görüntülenmiyor");
 
-        // Temizlik: Oluşturulan faturayı sil
+        // Temizlik: Arayüzden oluşturulan faturayı API ile sil
         ExtentReportManager.getTest().info("Test temizliği: Oluşturulan fatura siliniyor");
-        invoicePage.deleteInvoice(invoiceNumber);
+        invoiceApis.get().deleteInvoicesByNumber(invoiceNumber);
     }
 
     /**
@@ -106,21 +148,10 @@ public class InvoiceTests extends BaseTest {
     @Story("Fatura Arama")
     @Description("Fatura arama işlevinin çalıştığını ve doğru sonuçları döndürdüğünü doğrular")
     public void testSearchInvoice() {
+        InvoicePage invoicePage = invoicePages.get();
         // Önce bir fatura oluştur
         String invoiceNumber = "SEARCH-" + System.currentTimeMillis();
-        String customerName = "Arama Test Müşterisi";
-        String invoiceDate = LocalDate.now().format(DateTimeFormatter.ofPattern("dd.MM.yyyy"));
-
-        List<InvoiceItemData> items = new ArrayList<>();
-        items.add(new InvoiceItemData("Arama Ürünü", 1, 100.00));
-
-        ExtentReportManager.getTest().info("Test için fatura oluşturuluyor");
-        NewInvoicePage newInvoicePage = invoicePage.clickNewInvoiceButton();
-        newInvoicePage.enterInvoiceNumber(invoiceNumber)
-                     .selectCustomer(customerName)
-                     .enterInvoiceDate(invoiceDate)
-                     .addInvoiceItem(items.get(0).getProductName(), items.get(0).getQuantity(), items.get(0).getUnitPrice())
-                     .saveInvoice();
+        seedInvoice(invoiceNumber, "Arama Test Müşterisi", "Arama Ürünü");
 
         // Fatura araması yap
         ExtentReportManager.getTest().info("Fatura araması yapılıyor: " + invoiceNumber);
@@ -133,10 +164,6 @@ public class InvoiceTests extends BaseTest {
         // Filtreleri temizle
         ExtentReportManager.getTest().info("Filtreler temizleniyor");
         invoicePage.clearFilters();
-
-        // Temizlik: Oluşturulan faturayı sil
-        ExtentReportManager.getTest().info("Test temizliği: Oluşturulan fatura siliniyor");
-        invoicePage.deleteInvoice(invoiceNumber);
     }
 
     /**
@@ -147,21 +174,10 @@ public class InvoiceTests extends BaseTest {
     @Story("Fatura Düzenleme")
     @Description("Fatura düzenleme işlevinin çalıştığını ve değişikliklerin kaydedildiğini doğrular")
     public void testEditInvoice() {
+        InvoicePage invoicePage = invoicePages.get();
         // Önce bir fatura oluştur
         String invoiceNumber = "EDIT-" + System.currentTimeMillis();
-        String customerName = "Düzenleme Test Müşterisi";
-        String invoiceDate = LocalDate.now().format(DateTimeFormatter.ofPattern("dd.MM.yyyy"));
-
-        List<InvoiceItemData> items = new ArrayList<>();
-        items.add(new InvoiceItemData("Düzenleme Ürünü", 1, 100.00));
-
-        ExtentReportManager.getTest().info("Test için fatura oluşturuluyor");
-        NewInvoicePage newInvoicePage = invoicePage.clickNewInvoiceButton();
-        newInvoicePage.enterInvoiceNumber(invoiceNumber)
-                     .selectCustomer(customerName)
-                     .enterInvoiceDate(invoiceDate)
-                     .addInvoiceItem(items.get(0).getProductName(), items.get(0).getQuantity(), items.get(0).getUnitPrice())
-                     .saveInvoice();
+        seedInvoice(invoiceNumber, "Düzenleme Test Müşterisi", "Düzenleme Ürünü");
 
         // Faturayı düzenle
         ExtentReportManager.getTest().info("Fatura düzenleniyor: " + invoiceNumber);
@@ -185,14 +201,6 @@ public class InvoiceTests extends BaseTest {
                 "Müşteri adı güncellenmemiş");
         Assert.assertEquals(detailPage.getInvoiceItemCount(), 2,
                 "Fatura kalemi sayısı beklendiği gibi değil");
-
-        // Fatura sayfasına geri dön
-        ExtentReportManager.getTest().info("Fatura listesine geri dönülüyor");
-        invoicePage = detailPage.backToInvoiceList();
-
-        // Temizlik: Oluşturulan faturayı sil
-        ExtentReportManager.getTest().info("Test temizliği: Oluşturulan fatura siliniyor");
-        invoicePage.deleteInvoice(invoiceNumber);
     }
 
     /**
@@ -203,21 +211,10 @@ public class InvoiceTests extends BaseTest {
     @Story("Fatura Silme")
     @Description("Fatura silme işlevinin çalıştığını ve silinen faturanın listede görüntülenmediğini doğrular")
     public void testDeleteInvoice() {
+        InvoicePage invoicePage = invoicePages.get();
         // Önce bir fatura oluştur
         String invoiceNumber = "DELETE-" + System.currentTimeMillis();
-        String customerName = "Silme Test Müşterisi";
-        String invoiceDate = LocalDate.now().format(DateTimeFormatter.ofPattern("dd.MM.yyyy"));
-
-        List<InvoiceItemData> items = new ArrayList<>();
-        items.add(new InvoiceItemData("Silme Ürünü", 1, 100.00));
-
-        ExtentReportManager.getTest().info("Test için fatura oluşturuluyor");
-        NewInvoicePage newInvoicePage = invoicePage.clickNewInvoiceButton();
-        newInvoicePage.enterInvoiceNumber(invoiceNumber)
-                     .selectCustomer(customerName)
-                     .enterInvoiceDate(invoiceDate)
-                     .addInvoiceItem(items.get(0).getProductName(), items.get(0).getQuantity(), items.get(0).getUnitPrice())
-                     .saveInvoice();
+        seedInvoice(invoiceNumber, "Silme Test Müşterisi", "Silme Ürünü");
 
         // Faturayı sil
         ExtentReportManager.getTest().info("Fatura siliniyor: " + invoiceNumber);
@@ -0,0 +1,317 @@
+package com.example.api;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * API isteklerini kaydedip tekrar oynatan REST Assured filtresi.
+ * Kayıt modunda her istek/yanıt çifti belleğe alınır ve JVM kapanırken (ya da {@link #save()} ile) tek bir kaset
+ * dosyasına yazılır. Oynatma modunda yanıtlar, belleğe eşlenen kaset dosyasından ağa çıkılmadan döndürülür.
+ * İstekler HTTP metodu, yol (sorgu dahil) ve gövdenin SHA-256 özetinden türetilen 64 bitlik anahtarla eşleştirilir;
+ * sunucu adresi anahtara dahil değildir, böylece stub ya da gerçek sunucuya karşı alınan kayıtlar aynı şekilde
+ * kullanılabilir.
+ *
+ * <p>Mod api.cassette.mode sistem özelliğiyle (off, record, replay) seçilir; dosya yolu api.cassette.file ile
+ * değiştirilebilir. Kayıt modunda mevcut kasetteki kayıtlar korunur, aynı anahtarlı kayıtlar güncellenir.</p>
+ *
+ * <p>Dosya biçimi: "APICAS01" imzası, kayıt sayısı, anahtara göre sıralı (anahtar, konum) dizini ve kayıtlar
+ * (durum kodu, içerik türü, istek satırı, gövde). Dizin ikili aramayla okunduğundan oynatma, kayıt sayısından
+ * bağımsız olarak dosyanın yalnızca ilgili bölümlerine dokunur.</p>
+ */
+public final class ApiCassette implements Filter {
+    private static final Logger logger = LoggerFactory.getLogger(ApiCassette.class);
+    private static final byte[] MAGIC = "APICAS01".getBytes(StandardCharsets.US_ASCII);
+    private static final int HEADER_SIZE = MAGIC.length + Integer.BYTES;
+    private static final int INDEX_ENTRY_SIZE = Long.BYTES * 2;
+    private static ApiCassette shared;
+
+    /**
+     * Kaset modu.
+     */
+    public enum Mode {
+        OFF, RECORD, REPLAY
+    }
+
+    private final Path file;
+    private final Mode mode;
+    private final Map<Long, Entry> recorded = new ConcurrentHashMap<>();
+    private final ByteBuffer mapped;
+    private final int count;
+
+    /**
+     * Kaset oluşturur. Oynatma modunda dosya belleğe eşlenir; kayıt modunda dosya varsa kayıtları yüklenir.
+     *
+     * @param file Kaset dosyası
+     * @param mode Kayıt ya da oynatma
+     */
+    public ApiCassette(Path file, Mode mode) {
+        if (mode == Mode.OFF) {
+            throw new IllegalArgumentException("Kaset modu record ya da replay olmalıdır");
+        }
+        if (mode == Mode.REPLAY && !Files.exists(file)) {
+            throw new IllegalArgumentException("Kaset dosyası bulunamadı: " + file.toAbsolutePath());
+        }
+        this.file = file;
+        this.mode = mode;
+        this.mapped = Files.exists(file) ? open(file, mode == Mode.REPLAY) : null;
+        this.count = mapped == null ? 0 : mapped.getInt(MAGIC.length);
+        if (mode == Mode.RECORD) {
+            for (int i = 0; i < count; i++) {
+                recorded.put(keyAt(i), readEntry(offsetAt(i)));
+            }
+        }
+        logger.info("API kaseti açıldı: {} ({}, {} kayıt)", file, mode, count);
+    }
+
+    /**
+     * api.cassette.mode sistem özelliğiyle kayıt ya da oynatmanın etkinleştirilip etkinleştirilmediğini döndürür.
+     *
+     * @return Kayıt ya da oynatma modundaysa true
+     */
+    public static boolean isEnabled() {
+        return configuredMode() != Mode.OFF;
+    }
+
+    /**
+     * Tüm spec'lerin paylaştığı kaseti döndürür; ilk çağrıda sistem özellikleriyle açılır. Kayıt modunda kaset
+     * JVM kapanırken kaydedilir.
+     *
+     * @return Paylaşılan kaset
+     */
+    public static synchronized ApiCassette shared() {
+        if (shared == null) {
+            shared = new ApiCassette(Paths.get(System.getProperty("api.cassette.file",
+                    "src/test/resources/cassettes/api.cassette")), configuredMode());
+            if (shared.mode == Mode.RECORD) {
+                ApiCassette cassette = shared;
+                Runtime.getRuntime().addShutdownHook(new Thread(cassette::save, "api-cassette-save"));
+            }
+        }
+        return shared;
+    }
+
+    private static Mode configuredMode() {
+        return Mode.valueOf(System.getProperty("api.cassette.mode", "off").trim().toUpperCase());
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String request = requestSpec.getMethod() + " " + pathAndQuery(requestSpec.getURI());
+        byte[] body = bodyBytes(requestSpec.getBody());
+        long key = key(request, body);
+
+        if (mode == Mode.REPLAY) {
+            Entry entry = find(key);
+            if (entry == null || !entry.request.equals(request)) {
+                throw new IllegalStateException("Kasette kayıtlı yanıt yok: " + request);
+            }
+            return entry.toResponse();
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        recorded.put(key, new Entry(request, response.getStatusCode(), response.getContentType(),
+                response.asByteArray()));
+        return response;
+    }
+
+    /**
+     * Kayıt modunda alınan kayıtları kaset dosyasına yazar. Dosya önce geçici bir dosyaya yazılıp yerine taşınır.
+     */
+    public synchronized void save() {
+        if (mode != Mode.RECORD) {
+            return;
+        }
+        Long[] keys = recorded.keySet().toArray(new Long[0]);
+        Arrays.sort(keys);
+        byte[][] entries = new byte[keys.length][];
+        long offset = HEADER_SIZE + (long) keys.length * INDEX_ENTRY_SIZE;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + keys.length * INDEX_ENTRY_SIZE);
+        header.put(MAGIC).putInt(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            entries[i] = recorded.get(keys[i]).encode();
+            header.putLong(keys[i]).putLong(offset);
+            offset += entries[i].length;
+        }
+        header.flip();
+
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeFully(channel, header);
+                for (byte[] entry : entries) {
+                    writeFully(channel, ByteBuffer.wrap(entry));
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("API kaseti kaydedildi: {} ({} kayıt)", file, keys.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Kaset kaydedilemedi: " + file, e);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    private Entry find(long key) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midKey = keyAt(mid);
+            if (midKey < key) {
+                low = mid + 1;
+            } else if (midKey > key) {
+                high = mid - 1;
+            } else {
+                return readEntry(offsetAt(mid));
+            }
+        }
+        return null;
+    }
+
+    private long keyAt(int index) {
+        return mapped.getLong(HEADER_SIZE + index * INDEX_ENTRY_SIZE);
+    }
+
+    private int offsetAt(int index) {
+        return (int) mapped.getLong(HEADER_SIZE + index * INDEX_ENTRY_SIZE + Long.BYTES);
+    }
+
+    // Yalnızca mutlak konumlu okumalar kullanılır; eşlenen tampon iş parçacıkları arasında güvenle paylaşılır
+    private Entry readEntry(int offset) {
+        int status = mapped.getInt(offset);
+        int position = offset + Integer.BYTES;
+        String contentType = readString(position);
+        position += Integer.BYTES + mapped.getInt(position);
+        String request = readString(position);
+        position += Integer.BYTES + mapped.getInt(position);
+        byte[] body = new byte[mapped.getInt(position)];
+        mapped.get(position + Integer.BYTES, body);
+        return new Entry(request, status, contentType, body);
+    }
+
+    private String readString(int position) {
+        byte[] bytes = new byte[mapped.getInt(position)];
+        mapped.get(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Kaset dosyasını açar. Oynatmada dosya belleğe eşlenir; kayıtta dosya sonradan değiştirileceğinden eşleme
+     * açık bırakılmaz, içerik belleğe okunur.
+     */
+    private static ByteBuffer open(Path file, boolean map) {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = map ? channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                    : ByteBuffer.wrap(Files.readAllBytes(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Kaset okunamadı: " + file, e);
+        }
+        byte[] magic = new byte[MAGIC.length];
+        if (buffer.limit() >= HEADER_SIZE) {
+            buffer.get(0, magic);
+        }
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IllegalArgumentException("Geçerli bir kaset dosyası değil: " + file);
+        }
+        return buffer;
+    }
+
+    private static String pathAndQuery(String uri) {
+        URI parsed = URI.create(uri);
+        return parsed.getRawQuery() == null ? parsed.getRawPath() : parsed.getRawPath() + "?" + parsed.getRawQuery();
+    }
+
+    private static byte[] bodyBytes(Object body) {
+        if (body == null) {
+            return new byte[0];
+        }
+        return body instanceof byte[] ? (byte[]) body : body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long key(String request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(body);
+            return ByteBuffer.wrap(digest.digest()).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 desteklenmiyor", e);
+        }
+    }
+
+    /**
+     * Kaydedilmiş bir istek/yanıt çifti.
+     */
+    private static final class Entry {
+        private final String request;
+        private final int status;
+        private final String contentType;
+        private final byte[] body;
+
+        Entry(String request, int status, String contentType, byte[] body) {
+            this.request = request;
+            this.status = status;
+            this.contentType = contentType == null ? "" : contentType;
+            this.body = body;
+        }
+
+        byte[] encode() {
+            byte[] contentTypeBytes = contentType.getBytes(StandardCharsets.UTF_8);
+            byte[] requestBytes = request.getBytes(StandardCharsets.UTF_8);
+            return ByteBuffer.allocate(Integer.BYTES * 4 + contentTypeBytes.length + requestBytes.length + body.length)
+                    .putInt(status)
+                    .putInt(contentTypeBytes.length).put(contentTypeBytes)
+                    .putInt(requestBytes.length).put(requestBytes)
+                    .putInt(body.length).put(body)
+                    .array();
+        }
+
+        Response toResponse() {
+            ResponseBuilder builder = new ResponseBuilder()
+                    .setStatusCode(status)
+                    .setStatusLine("HTTP/1.1 " + status)
+                    .setBody(body);
+            if (!contentType.isEmpty()) {
+                builder.setContentType(contentType);
+            }
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.api;
+
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * ApiCassette'in kaydettiği yanıtları dosyadan, ağa çıkmadan aynen oynattığını doğrulayan birim testleri.
+ */
+public class ApiCassetteTest {
+    // Oynatmada ağa çıkılmadığını göstermek için dinlenmeyen bir adres kullanılır
+    private static final String UNREACHABLE = "http://127.0.0.1:9";
+
+    private ApiStubServer server;
+    private Path file;
+
+    @BeforeClass
+    public void startServer() {
+        server = new ApiStubServer(0).start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        file = Files.createTempDirectory("api-cassette").resolve("api.cassette");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(file.getParent());
+    }
+
+    @Test(description = "Kaydedilen yanıtlar kaydedildikten sonra durum, içerik türü ve gövdesiyle oynatılır")
+    public void replaysRecordedResponses() {
+        ApiCassette recorder = new ApiCassette(file, ApiCassette.Mode.RECORD);
+        Response listed = request(server.getBaseUrl(), recorder).get("/users?_limit=3");
+        Response created = request(server.getBaseUrl(), recorder).body("{\"name\": \"Ayşe\"}").post("/users");
+        request(server.getBaseUrl(), recorder).body("{\"name\": \"Mehmet\"}").post("/users");
+        recorder.save();
+
+        ApiCassette player = new ApiCassette(file, ApiCassette.Mode.REPLAY);
+        Response replayedList = request(UNREACHABLE, player).get("/users?_limit=3");
+        Response replayedCreate = request(UNREACHABLE, player).body("{\"name\": \"Ayşe\"}").post("/users");
+
+        Assert.assertEquals(replayedList.getStatusCode(), 200);
+        Assert.assertEquals(replayedList.asString(), listed.asString());
+        Assert.assertEquals(replayedList.getContentType(), listed.getContentType());
+        Assert.assertEquals(replayedCreate.getStatusCode(), 201);
+        Assert.assertEquals(replayedCreate.jsonPath().getString("name"), "Ayşe");
+        Assert.assertEquals(replayedCreate.asString(), created.asString());
+        Assert.assertEquals(request(UNREACHABLE, player).body("{\"name\": \"Mehmet\"}").post("/users")
+                .jsonPath().getString("name"), "Mehmet");
+    }
+
+    @Test(description = "Kasette olmayan istek, yol, sorgu ve gövdeye göre ayırt edilip hata verir")
+    public void rejectsUnrecordedRequests() {
+        ApiCassette recorder = new ApiCassette(file, ApiCassette.Mode.RECORD);
+        request(server.getBaseUrl(), recorder).get("/users/1");
+        recorder.save();
+
+        ApiCassette player = new ApiCassette(file, ApiCassette.Mode.REPLAY);
+
+        Assert.assertEquals(request(UNREACHABLE, player).get("/users/1").getStatusCode(), 200);
+        Assert.assertThrows(IllegalStateException.class, () -> request(UNREACHABLE, player).get("/users/2"));
+        Assert.assertThrows(IllegalStateException.class, () -> request(UNREACHABLE, player).get("/users/1?x=1"));
+        Assert.assertThrows(IllegalStateException.class,
+                () -> request(UNREACHABLE, player).body("{}").delete("/users/1"));
+    }
+
+    @Test(description = "Yeniden kayıtta mevcut kayıtlar korunur, aynı istek güncellenir")
+    public void keepsExistingEntriesWhenRecordingAgain() {
+        server.stub("GET", "/reports/{id}", 200, "{\"version\": 1}");
+        ApiCassette first = new ApiCassette(file, ApiCassette.Mode.RECORD);
+        request(server.getBaseUrl(), first).get("/users/1");
+        request(server.getBaseUrl(), first).get("/reports/7");
+        first.save();
+
+        server.stub("GET", "/reports/{id}", 200, "{\"version\": 2}");
+        ApiCassette second = new ApiCassette(file, ApiCassette.Mode.RECORD);
+        request(server.getBaseUrl(), second).get("/reports/7");
+        second.save();
+
+        ApiCassette player = new ApiCassette(file, ApiCassette.Mode.REPLAY);
+        Assert.assertEquals(request(UNREACHABLE, player).get("/users/1").getStatusCode(), 200);
+        Assert.assertEquals(request(UNREACHABLE, player).get("/reports/7").jsonPath().getInt("version"), 2);
+    }
+
+    @Test(description = "Eksik ya da geçersiz kaset dosyası ve kapalı mod reddedilir")
+    public void rejectsInvalidSetup() throws IOException {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ApiCassette(file, ApiCassette.Mode.REPLAY));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ApiCassette(file, ApiCassette.Mode.OFF));
+
+        Files.write(file, "not a cassette".getBytes(StandardCharsets.UTF_8));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ApiCassette(file, ApiCassette.Mode.REPLAY));
+    }
+
+    private static RequestSpecification request(String baseUri, ApiCassette cassette) {
+        return RestAssured.given().baseUri(baseUri).contentType("application/json").filter(cassette);
+    }
+}
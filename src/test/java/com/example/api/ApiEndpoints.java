@@ -4,7 +4,9 @@ import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -136,6 +138,29 @@ public class ApiEndpoints {
         }
     }
     
+    /**
+     * Tanımlı tüm kategorileri döndürür.
+     *
+     * @return Kategori adları listesi
+     */
+    public static List<String> getCategories() {
+        return new ArrayList<>(endpointsMap.keySet());
+    }
+
+    /**
+     * Belirtilen kategorideki tüm endpoint adlarını döndürür.
+     *
+     * @param category Kategori adı
+     * @return Endpoint adları listesi
+     */
+    public static List<String> getEndpointNames(String category) {
+        if (!endpointsMap.containsKey(category)) {
+            logger.error("Kategori bulunamadı: {}", category);
+            throw new IllegalArgumentException("Kategori bulunamadı: " + category);
+        }
+        return new ArrayList<>(endpointsMap.get(category).keySet());
+    }
+
     /**
      * Dinamik bir endpoint yolu oluşturur.
      * 
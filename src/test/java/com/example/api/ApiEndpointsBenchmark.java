@@ -0,0 +1,66 @@
+package com.example.api;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API endpoint yolu oluşturma maliyetini ölçen JMH benchmark'ı.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiEndpointsBenchmark {
+    private static final String CATEGORY = "benchmark";
+
+    private final Map<String, String> singleParam = new LinkedHashMap<>();
+    private final Map<String, String> multipleParams = new LinkedHashMap<>();
+
+    @Setup
+    public void setUp() {
+        ApiEndpoints.addOrUpdateEndpoint(CATEGORY, "invoiceLine", "GET",
+                "/companies/{companyId}/invoices/{invoiceId}/lines/{lineId}", "Fatura kalemini getirir");
+        singleParam.put("id", "42");
+        multipleParams.put("companyId", "7");
+        multipleParams.put("invoiceId", "INV-2024-000123");
+        multipleParams.put("lineId", "3");
+    }
+
+    @Benchmark
+    public String getPath() {
+        return ApiEndpoints.getPath("users", "getSingleUser");
+    }
+
+    @Benchmark
+    public String getDynamicPathSingleParam() {
+        return ApiEndpoints.getDynamicPath("users", "getSingleUser", singleParam);
+    }
+
+    @Benchmark
+    public String getDynamicPathMultipleParams() {
+        return ApiEndpoints.getDynamicPath(CATEGORY, "invoiceLine", multipleParams);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ApiEndpointsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,334 @@
+package com.example.api;
+
+import com.erp.test.core.metrics.LatencyHistogram;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link ApiEndpoints} tanımlarını {@link ApiRequest} üzerinden çağırarak yük üreten sınıf.
+ * İki model desteklenir:
+ * <ul>
+ *     <li>Açık model: istekler, yanıtların gelmesini beklemeden sabit bir varış hızıyla gönderilir.</li>
+ *     <li>Kapalı model: N sanal kullanıcı istekleri sırayla gönderir; isteğe bağlı tempo ile her kullanıcı
+ *     belirli aralıklarla istek gönderecek şekilde planlanır.</li>
+ * </ul>
+ * Her istek kendi sanal iş parçacığında çalışır. Gecikme, isteğin planlandığı andan itibaren ölçülür; böylece
+ * sistem yavaşlayıp istekler geciktiğinde bekleme süresi de sonuçlara yansır (koordineli ihmal düzeltmesi).
+ * Tempo verilmeyen kapalı modelde planlanan an tanımlı olmadığından düzeltme yapılmaz.
+ *
+ * <p>Komut satırından çalıştırmak için: {@code mvn -Pload verify -Dapi.base.url=http://localhost:8080}; yerel
+ * stub sunucusuna karşı çalıştırmak için {@code mvn -Pload,stub verify}.
+ * Ayarlar api.load.* sistem özellikleriyle verilir (bkz. {@link #main(String[])}).</p>
+ */
+public final class ApiLoadGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(ApiLoadGenerator.class);
+
+    private final String model;
+    private final double ratePerSecond;
+    private final int users;
+    private final Duration pacing;
+    private Duration duration = Duration.ofSeconds(30);
+    private List<String> categories = ApiEndpoints.getCategories();
+    private List<String> methods = List.of("GET");
+    private Map<String, String> params = ApiRequest.createIdParam("1");
+
+    private ApiLoadGenerator(String model, double ratePerSecond, int users, Duration pacing) {
+        this.model = model;
+        this.ratePerSecond = ratePerSecond;
+        this.users = users;
+        this.pacing = pacing;
+    }
+
+    /**
+     * Sabit varış hızlı (açık model) yük üreteci oluşturur.
+     *
+     * @param ratePerSecond Saniyedeki istek sayısı
+     * @return ApiLoadGenerator nesnesi
+     */
+    public static ApiLoadGenerator openModel(double ratePerSecond) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("İstek hızı sıfırdan büyük olmalıdır: " + ratePerSecond);
+        }
+        return new ApiLoadGenerator("open model " + ratePerSecond + " req/s", ratePerSecond, 0, Duration.ZERO);
+    }
+
+    /**
+     * Sanal kullanıcılı (kapalı model) yük üreteci oluşturur.
+     *
+     * @param users Sanal kullanıcı sayısı
+     * @param pacing Bir kullanıcının ardışık iki isteğinin planlanan başlangıçları arasındaki süre; sıfırsa
+     *               kullanıcılar beklemeden istek gönderir
+     * @return ApiLoadGenerator nesnesi
+     */
+    public static ApiLoadGenerator closedModel(int users, Duration pacing) {
+        if (users < 1) {
+            throw new IllegalArgumentException("Kullanıcı sayısı en az 1 olmalıdır: " + users);
+        }
+        return new ApiLoadGenerator("closed model " + users + " users", 0, users, pacing);
+    }
+
+    /**
+     * Yükün uygulanacağı süreyi ayarlar.
+     *
+     * @param duration Süre
+     * @return ApiLoadGenerator nesnesi
+     */
+    public ApiLoadGenerator duration(Duration duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    /**
+     * Çağrılacak endpoint kategorilerini ayarlar. Varsayılan olarak tüm kategoriler kullanılır.
+     *
+     * @param categories Kategori adları
+     * @return ApiLoadGenerator nesnesi
+     */
+    public ApiLoadGenerator categories(String... categories) {
+        this.categories = Arrays.asList(categories);
+        return this;
+    }
+
+    /**
+     * Çağrılacak endpoint'lerin HTTP metotlarını ayarlar. Varsayılan olarak yalnızca GET endpoint'leri çağrılır.
+     *
+     * @param methods HTTP metotları
+     * @return ApiLoadGenerator nesnesi
+     */
+    public ApiLoadGenerator methods(String... methods) {
+        this.methods = Arrays.asList(methods);
+        return this;
+    }
+
+    /**
+     * Endpoint yollarındaki yer tutucular için parametreleri ayarlar. Varsayılan olarak id=1 kullanılır.
+     *
+     * @param params Parametre haritası
+     * @return ApiLoadGenerator nesnesi
+     */
+    public ApiLoadGenerator params(Map<String, String> params) {
+        this.params = params;
+        return this;
+    }
+
+    /**
+     * Yükü verilen spec ile uygular ve sonuçları döndürür. Seçilen endpoint'ler sırayla, döngüsel olarak çağrılır.
+     *
+     * @param requestSpec İsteklerde kullanılacak spec
+     * @return Koşu sonuçları
+     */
+    public LoadReport run(RequestSpecification requestSpec) {
+        List<Operation> operations = operations(requestSpec);
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("Yük için uygun endpoint bulunamadı: " + categories + " " + methods);
+        }
+        if (users > ApiSpecFactory.getMaxConnectionsPerRoute()) {
+            logger.warn("Kullanıcı sayısı route başına bağlantı sınırını ({}) aşıyor; kullanıcılar bağlantı bekleyecek, "
+                    + "api.http.pool.max.per.route artırılabilir", ApiSpecFactory.getMaxConnectionsPerRoute());
+        }
+
+        logger.info("Yük testi başlatılıyor: {}, {} endpoint, {} s", model, operations.size(), duration.toSeconds());
+        Run run = new Run(operations);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (users > 0) {
+                for (int user = 0; user < users; user++) {
+                    int offset = user;
+                    executor.execute(() -> runUser(run, offset, start, end));
+                }
+            } else {
+                dispatchAtConstantRate(run, executor, start, end);
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        LoadReport report = new LoadReport(model, elapsed, run.errors.sum(), run.responseTimes, run.serviceTimes,
+                users == 0 || !pacing.isZero());
+        logger.info("Yük testi tamamlandı:\n{}", report);
+        return report;
+    }
+
+    /**
+     * Açık model: i. istek start + i * aralık anında planlanır. Gönderim gerisinde kalınsa bile planlanan an
+     * değişmez; gecikme bu andan itibaren ölçülür.
+     */
+    private void dispatchAtConstantRate(Run run, ExecutorService executor, long start, long end) {
+        double intervalNanos = 1e9 / ratePerSecond;
+        for (long i = 0; ; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            if (intended >= end) {
+                return;
+            }
+            sleepUntil(intended);
+            Operation operation = run.operations.get((int) (i % run.operations.size()));
+            executor.execute(() -> run.execute(operation, intended));
+        }
+    }
+
+    /**
+     * Kapalı model: kullanıcı bir önceki yanıtı aldıktan sonra sıradaki isteği gönderir. Tempo varsa k. istek
+     * start + k * tempo anında planlanır; kullanıcı gerisinde kalırsa beklemeden gönderir ve gecikme yine planlanan
+     * andan ölçülür.
+     */
+    private void runUser(Run run, int offset, long start, long end) {
+        long pacingNanos = pacing.toNanos();
+        long next = start;
+        for (int i = offset; ; i++) {
+            long intended;
+            if (pacingNanos > 0) {
+                sleepUntil(next);
+                intended = next;
+                next += pacingNanos;
+            } else {
+                intended = System.nanoTime();
+            }
+            if (intended >= end) {
+                return;
+            }
+            run.execute(run.operations.get(i % run.operations.size()), intended);
+        }
+    }
+
+    private List<Operation> operations(RequestSpecification requestSpec) {
+        List<Operation> operations = new ArrayList<>();
+        for (String category : categories) {
+            ApiRequest request = new ApiRequest(requestSpec, category);
+            for (String endpointName : ApiEndpoints.getEndpointNames(category)) {
+                String method = ApiEndpoints.getMethod(category, endpointName).toUpperCase();
+                if (methods.stream().anyMatch(method::equalsIgnoreCase)) {
+                    operations.add(new Operation(request, endpointName, method, params));
+                }
+            }
+        }
+        return operations;
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Tek bir endpoint çağrısı.
+     */
+    private record Operation(ApiRequest request, String endpointName, String method, Map<String, String> params) {
+        Response send() {
+            switch (method) {
+                case "GET":
+                    return request.get(endpointName, params);
+                case "POST":
+                    return request.post(endpointName, new JSONObject());
+                case "PUT":
+                    return request.put(endpointName, params, new JSONObject());
+                case "DELETE":
+                    return request.delete(endpointName, params);
+                default:
+                    throw new IllegalArgumentException("Desteklenmeyen HTTP metodu: " + method);
+            }
+        }
+    }
+
+    /**
+     * Bir koşunun ölçümleri. Aynı anda gönderilen istek sayısı, bağlantı havuzunun route başına sınırıyla kısıtlanır:
+     * HttpClient havuzdan bağlantı beklerken senkronize bir blok içinde kaldığından, sınırı aşan istekler sanal
+     * iş parçacıklarını taşıyıcıya sabitleyip tüm koşuyu kilitleyebilir. Sırada geçen süre yanıt süresine yansır.
+     */
+    private static final class Run {
+        private final List<Operation> operations;
+        private final Semaphore inFlight = new Semaphore(ApiSpecFactory.getMaxConnectionsPerRoute(), true);
+        private final LatencyHistogram responseTimes = new LatencyHistogram();
+        private final LatencyHistogram serviceTimes = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        Run(List<Operation> operations) {
+            this.operations = operations;
+        }
+
+        void execute(Operation operation, long intended) {
+            inFlight.acquireUninterruptibly();
+            long sent = System.nanoTime();
+            boolean failed;
+            try {
+                failed = operation.send().getStatusCode() >= 400;
+            } catch (Exception e) {
+                // REST Assured bağlantı hatalarını (IOException) bildirilmeden fırlatır
+                failed = true;
+            } finally {
+                inFlight.release();
+            }
+            long done = System.nanoTime();
+            responseTimes.record(done - intended);
+            serviceTimes.record(done - sent);
+            if (failed) {
+                errors.increment();
+            }
+        }
+    }
+
+    /**
+     * Yük testini sistem özelliklerindeki ayarlarla çalıştırır:
+     * <ul>
+     *     <li>api.base.url: Hedef adres; api.stub=true ise yerel stub sunucusu kullanılır</li>
+     *     <li>api.load.model: open (varsayılan) ya da closed</li>
+     *     <li>api.load.rate: Açık modelde saniyedeki istek sayısı (varsayılan 100)</li>
+     *     <li>api.load.users: Kapalı modelde sanal kullanıcı sayısı (varsayılan 10)</li>
+     *     <li>api.load.pacing.ms: Kapalı modelde kullanıcı başına istek aralığı (varsayılan 0)</li>
+     *     <li>api.load.duration.s: Süre (varsayılan 30)</li>
+     *     <li>api.load.categories: Virgülle ayrılmış kategoriler (varsayılan tümü)</li>
+     *     <li>api.load.methods: Virgülle ayrılmış HTTP metotları (varsayılan GET)</li>
+     *     <li>api.load.params: Yol parametreleri, ör. id=1,postId=2 (varsayılan id=1)</li>
+     *     <li>api.load.max.error.rate: Aşıldığında koşunun başarısız sayılacağı hata oranı (varsayılan 0.01)</li>
+     * </ul>
+     *
+     * @param args Kullanılmaz
+     * @throws IllegalStateException Hata oranı sınırı aşıldığında
+     */
+    public static void main(String[] args) {
+        ApiLoadGenerator generator = "closed".equalsIgnoreCase(System.getProperty("api.load.model", "open"))
+                ? closedModel(Integer.getInteger("api.load.users", 10),
+                        Duration.ofMillis(Long.getLong("api.load.pacing.ms", 0L)))
+                : openModel(Double.parseDouble(System.getProperty("api.load.rate", "100")));
+        generator.duration(Duration.ofSeconds(Long.getLong("api.load.duration.s", 30L)));
+
+        String categories = System.getProperty("api.load.categories", "");
+        if (!categories.isBlank()) {
+            generator.categories(categories.split("\\s*,\\s*"));
+        }
+        generator.methods(System.getProperty("api.load.methods", "GET").split("\\s*,\\s*"));
+        Map<String, String> params = new HashMap<>();
+        for (String pair : System.getProperty("api.load.params", "id=1").split("\\s*,\\s*")) {
+            String[] parts = pair.split("=", 2);
+            if (parts.length == 2) {
+                params.put(parts[0], parts[1]);
+            }
+        }
+        generator.params(params);
+
+        LoadReport report = generator.run(ApiSpecFactory.requestSpec(ApiSpecFactory.getBaseUrl(), false));
+        logger.info("HTTP bağlantı havuzu kullanımı: {}", ApiSpecFactory.getConnectionMetrics());
+
+        double maxErrorRate = Double.parseDouble(System.getProperty("api.load.max.error.rate", "0.01"));
+        if (report.getErrorRate() > maxErrorRate) {
+            logger.error("Hata oranı sınırı aşıldı: {} > {}", report.getErrorRate(), maxErrorRate);
+            throw new IllegalStateException("Hata oranı sınırı aşıldı: " + report.getErrorRate() + " > " + maxErrorRate);
+        }
+    }
+}
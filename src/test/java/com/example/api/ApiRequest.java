@@ -6,8 +6,16 @@ import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static io.restassured.RestAssured.given;
 
@@ -17,10 +25,29 @@ import static io.restassured.RestAssured.given;
  */
 public class ApiRequest {
     private static final Logger logger = LoggerFactory.getLogger(ApiRequest.class);
-    
+
+    // Eşzamansız istekler sanal iş parçacıklarında çalışır; varsayılan sınır tüm ApiRequest nesnelerince paylaşılır
+    // ve bağlantı havuzunun route başına sınırını aşmaz, böylece istekler havuzdan bağlantı beklerken zaman aşımına uğramaz
+    private static final ExecutorService ASYNC_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+    private static final Semaphore DEFAULT_ASYNC_PERMITS = new Semaphore(
+            Integer.getInteger("api.async.max.concurrency", ApiSpecFactory.getMaxConnectionsPerRoute()), true);
+    private static final Duration DEFAULT_ASYNC_TIMEOUT =
+            Duration.ofMillis(Long.getLong("api.async.timeout.ms", 30000L));
+
     private RequestSpecification requestSpec;
     private String category;
+    private Semaphore asyncPermits = DEFAULT_ASYNC_PERMITS;
+    private Duration asyncTimeout = DEFAULT_ASYNC_TIMEOUT;
     
+    /**
+     * Paylaşılan bağlantı havuzunu kullanan varsayılan spec ile API isteği sınıfı oluşturur.
+     *
+     * @param category Kategori adı
+     */
+    public ApiRequest(String category) {
+        this(ApiSpecFactory.requestSpec(), category);
+    }
+
     /**
      * API isteği sınıfı constructor'ı.
      * 
@@ -134,6 +161,131 @@ public class ApiRequest {
                 .response();
     }
     
+    /**
+     * Bu nesnenin eşzamansız istekleri için eşzamanlılık sınırını ve istek başına zaman aşımını ayarlar.
+     * Ayarlanmadığında api.async.max.concurrency ve api.async.timeout.ms sistem özellikleri kullanılır.
+     *
+     * @param maxConcurrency Aynı anda gönderilebilecek en fazla istek sayısı
+     * @param timeout İstek başına zaman aşımı
+     * @return ApiRequest nesnesi
+     */
+    public ApiRequest withAsyncLimits(int maxConcurrency, Duration timeout) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Eşzamanlılık sınırı en az 1 olmalıdır: " + maxConcurrency);
+        }
+        this.asyncPermits = new Semaphore(maxConcurrency, true);
+        this.asyncTimeout = timeout;
+        return this;
+    }
+
+    /**
+     * GET isteğini eşzamansız gönderir.
+     *
+     * @param endpointName Endpoint adı
+     * @return Yanıtla tamamlanan CompletableFuture
+     */
+    public CompletableFuture<Response> getAsync(String endpointName) {
+        return submit(() -> get(endpointName));
+    }
+
+    /**
+     * Parametreli GET isteğini eşzamansız gönderir.
+     *
+     * @param endpointName Endpoint adı
+     * @param params Parametre haritası
+     * @return Yanıtla tamamlanan CompletableFuture
+     */
+    public CompletableFuture<Response> getAsync(String endpointName, Map<String, String> params) {
+        return submit(() -> get(endpointName, params));
+    }
+
+    /**
+     * POST isteğini eşzamansız gönderir.
+     *
+     * @param endpointName Endpoint adı
+     * @param body İstek gövdesi
+     * @return Yanıtla tamamlanan CompletableFuture
+     */
+    public CompletableFuture<Response> postAsync(String endpointName, JSONObject body) {
+        return submit(() -> post(endpointName, body));
+    }
+
+    /**
+     * PUT isteğini eşzamansız gönderir.
+     *
+     * @param endpointName Endpoint adı
+     * @param params Parametre haritası
+     * @param body İstek gövdesi
+     * @return Yanıtla tamamlanan CompletableFuture
+     */
+    public CompletableFuture<Response> putAsync(String endpointName, Map<String, String> params, JSONObject body) {
+        return submit(() -> put(endpointName, params, body));
+    }
+
+    /**
+     * DELETE isteğini eşzamansız gönderir.
+     *
+     * @param endpointName Endpoint adı
+     * @param params Parametre haritası
+     * @return Yanıtla tamamlanan CompletableFuture
+     */
+    public CompletableFuture<Response> deleteAsync(String endpointName, Map<String, String> params) {
+        return submit(() -> delete(endpointName, params));
+    }
+
+    /**
+     * Kategorideki tüm GET endpoint'lerine aynı anda istek gönderir.
+     *
+     * @param params Yollardaki yer tutucular için parametre haritası
+     * @return Endpoint adına göre yanıtlarla tamamlanan CompletableFuture; bir istek başarısız olursa o hatayla
+     *         tamamlanır
+     */
+    public CompletableFuture<Map<String, Response>> getAllAsync(Map<String, String> params) {
+        logger.info("Tüm GET endpoint'lerine eşzamansız istek gönderiliyor: {}", category);
+        Map<String, CompletableFuture<Response>> futures = new LinkedHashMap<>();
+        for (String endpointName : ApiEndpoints.getEndpointNames(category)) {
+            if ("GET".equalsIgnoreCase(ApiEndpoints.getMethod(category, endpointName))) {
+                futures.put(endpointName, getAsync(endpointName, params));
+            }
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    Map<String, Response> responses = new LinkedHashMap<>();
+                    futures.forEach((endpointName, future) -> responses.put(endpointName, future.join()));
+                    return responses;
+                });
+    }
+
+    /**
+     * İsteği sanal bir iş parçacığında, eşzamanlılık sınırı içinde çalıştırır. Zaman aşımı, sırada beklenen süreyi
+     * değil isteğin gönderildiği andan itibaren geçen süreyi kapsar. Zaman aşımına uğrayan istek, soket zaman aşımına
+     * kadar arka planda sürebilir.
+     *
+     * @param request Gönderilecek engelleyici istek
+     * @return Yanıtla tamamlanan CompletableFuture
+     */
+    private CompletableFuture<Response> submit(Supplier<Response> request) {
+        Semaphore permits = asyncPermits;
+        Duration timeout = asyncTimeout;
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        ASYNC_EXECUTOR.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                if (future.isDone()) {
+                    return;
+                }
+                future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                future.complete(request.get());
+            } catch (Exception e) {
+                // REST Assured bağlantı hatalarını (IOException) bildirilmeden fırlatır
+                future.completeExceptionally(e);
+            } finally {
+                permits.release();
+            }
+        });
+        return future;
+    }
+
     /**
      * ID parametresi için harita oluşturur.
      * 
@@ -0,0 +1,219 @@
+package com.example.api;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.log.RequestLoggingFilter;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+import org.apache.http.HttpConnection;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.protocol.HttpCoreContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST Assured istekleri için paylaşılan HTTP istemcisi yapılandırmasını ve spec'leri oluşturan fabrika.
+ * REST Assured varsayılan olarak her istek için yeni bir HttpClient, dolayısıyla yeni bir TCP/TLS bağlantısı açar.
+ * Bu fabrikanın spec'leriyle gönderilen istekler, route (şema, sunucu, port) başına sınırlı tek bir bağlantı havuzunu
+ * paylaşır; bağlantılar keep-alive ile açık tutulur ve boşta kalanlar arka planda kapatılır.
+ *
+ * <p>Ayarlar sistem özellikleriyle değiştirilebilir: api.base.url, api.stub, api.cassette.mode, api.http.pool.max.total,
+ * api.http.pool.max.per.route, api.http.connect.timeout.ms, api.http.socket.timeout.ms, api.http.keepalive.ms.</p>
+ */
+public final class ApiSpecFactory {
+    private static final Logger logger = LoggerFactory.getLogger(ApiSpecFactory.class);
+
+    private static final String BASE_URL = System.getProperty("api.base.url", "https://jsonplaceholder.typicode.com");
+    private static final int MAX_TOTAL = Integer.getInteger("api.http.pool.max.total", 50);
+    private static final int MAX_PER_ROUTE = Integer.getInteger("api.http.pool.max.per.route", 20);
+    private static final int CONNECT_TIMEOUT_MS = Integer.getInteger("api.http.connect.timeout.ms", 5000);
+    private static final int SOCKET_TIMEOUT_MS = Integer.getInteger("api.http.socket.timeout.ms", 30000);
+    private static final long KEEP_ALIVE_MS = Long.getLong("api.http.keepalive.ms", 30000L);
+
+    private ApiSpecFactory() {
+    }
+
+    /**
+     * Varsayılan API adresi için JSON istek spec'i oluşturur.
+     *
+     * @return RequestSpecification nesnesi
+     */
+    public static RequestSpecification requestSpec() {
+        return requestSpec(getBaseUrl());
+    }
+
+    /**
+     * Verilen API adresi için, paylaşılan bağlantı havuzunu kullanan JSON istek spec'i oluşturur.
+     *
+     * @param baseUri API temel adresi
+     * @return RequestSpecification nesnesi
+     */
+    public static RequestSpecification requestSpec(String baseUri) {
+        return requestSpec(baseUri, true);
+    }
+
+    /**
+     * Verilen API adresi için JSON istek spec'i oluşturur. Yük testlerinde her isteğin konsola yazılması
+     * ölçümleri bozacağından istek/yanıt günlüğü kapatılabilir.
+     *
+     * @param baseUri API temel adresi
+     * @param logTraffic İstek ve yanıtlar günlüğe yazılsın mı
+     * @return RequestSpecification nesnesi
+     */
+    public static RequestSpecification requestSpec(String baseUri, boolean logTraffic) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri(baseUri)
+                .setConfig(config())
+                .setContentType(ContentType.JSON)
+                .addHeader("Accept", ContentType.JSON.toString())
+                .addFilter(ApiSpecFactory::bufferResponseBody);
+        if (logTraffic) {
+            builder.addFilter(new RequestLoggingFilter())
+                    .addFilter(new ResponseLoggingFilter());
+        }
+        // Kaset en sonda çalışır; oynatılan yanıtlar da günlüğe yazılır
+        if (ApiCassette.isEnabled()) {
+            builder.addFilter(ApiCassette.shared());
+        }
+        return builder.build();
+    }
+
+    /**
+     * JSON yanıt bekleyen yanıt spec'i oluşturur.
+     *
+     * @return ResponseSpecification nesnesi
+     */
+    public static ResponseSpecification jsonResponseSpec() {
+        return new ResponseSpecBuilder()
+                .expectContentType(ContentType.JSON)
+                .build();
+    }
+
+    /**
+     * Paylaşılan bağlantı havuzunu kullanan REST Assured yapılandırmasını döndürür.
+     *
+     * @return RestAssuredConfig nesnesi
+     */
+    public static RestAssuredConfig config() {
+        return RestAssuredConfig.config().httpClient(Pool.HTTP_CLIENT_CONFIG);
+    }
+
+    /**
+     * Varsayılan API adresini döndürür. api.stub etkinse paylaşılan stub sunucusu başlatılır ve onun adresi döner.
+     *
+     * @return API temel adresi
+     */
+    public static String getBaseUrl() {
+        return ApiStubServer.isEnabled() ? ApiStubServer.shared().getBaseUrl() : BASE_URL;
+    }
+
+    /**
+     * Aynı sunucuya aynı anda açılabilecek en fazla bağlantı sayısını döndürür.
+     *
+     * @return Route başına bağlantı sınırı
+     */
+    public static int getMaxConnectionsPerRoute() {
+        return MAX_PER_ROUTE;
+    }
+
+    /**
+     * Bağlantı havuzunun kullanım sayaçlarını döndürür.
+     *
+     * @return ConnectionMetrics nesnesi
+     */
+    public static ConnectionMetrics getConnectionMetrics() {
+        return Pool.METRICS;
+    }
+
+    /**
+     * Yanıt gövdesini hemen belleğe okur. REST Assured gövdeyi ancak okunduğunda tüketir ve bağlantı havuza o zaman
+     * döner; yalnızca durum kodunu kontrol eden istekler bağlantıyı tutmaya devam eder ve havuz tükenir.
+     */
+    private static Response bufferResponseBody(FilterableRequestSpecification request,
+                                               FilterableResponseSpecification response, FilterContext context) {
+        Response result = context.next(request, response);
+        result.asByteArray();
+        return result;
+    }
+
+    /**
+     * Bağlantı havuzu ve ona bağlı istemci yapılandırması; ilk kullanımda bir kez oluşturulur.
+     * REST Assured'ın HttpClient 4 entegrasyonu AbstractHttpClient beklediğinden DefaultHttpClient ve
+     * PoolingClientConnectionManager kullanılır.
+     */
+    @SuppressWarnings("deprecation")
+    private static final class Pool {
+        private static final PoolingClientConnectionManager CONNECTION_MANAGER = createConnectionManager();
+        private static final ConnectionMetrics METRICS = new ConnectionMetrics(CONNECTION_MANAGER::getTotalStats);
+        private static final HttpClientConfig HTTP_CLIENT_CONFIG = HttpClientConfig.httpClientConfig()
+                // Havuz tüm istemcilerde ortak; REST Assured'ın her istekten sonra havuzu kapatmasını engeller
+                .reuseHttpClientInstance()
+                .httpClientFactory(Pool::createHttpClient)
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, CONNECT_TIMEOUT_MS)
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, SOCKET_TIMEOUT_MS)
+                .setParam(ClientPNames.CONN_MANAGER_TIMEOUT, (long) CONNECT_TIMEOUT_MS);
+
+        static {
+            ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "api-connection-evictor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = Math.max(1000, KEEP_ALIVE_MS / 2);
+            evictor.scheduleWithFixedDelay(() -> {
+                CONNECTION_MANAGER.closeExpiredConnections();
+                CONNECTION_MANAGER.closeIdleConnections(KEEP_ALIVE_MS, TimeUnit.MILLISECONDS);
+            }, interval, interval, TimeUnit.MILLISECONDS);
+            logger.info("HTTP bağlantı havuzu oluşturuldu: en fazla {} bağlantı, route başına {}, keep-alive {} ms",
+                    MAX_TOTAL, MAX_PER_ROUTE, KEEP_ALIVE_MS);
+        }
+
+        private static PoolingClientConnectionManager createConnectionManager() {
+            PoolingClientConnectionManager manager =
+                    new PoolingClientConnectionManager(SchemeRegistryFactory.createDefault());
+            manager.setMaxTotal(MAX_TOTAL);
+            manager.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+            return manager;
+        }
+
+        private static DefaultHttpClient createHttpClient() {
+            DefaultHttpClient client = new DefaultHttpClient(CONNECTION_MANAGER);
+            client.setKeepAliveStrategy(KEEP_ALIVE_STRATEGY);
+            client.addRequestInterceptor(REUSE_TRACKER);
+            return client;
+        }
+
+        // Sunucunun Keep-Alive başlığına uyar, ancak bağlantıyı yapılandırılan süreden uzun tutmaz
+        private static final ConnectionKeepAliveStrategy KEEP_ALIVE_STRATEGY = (response, context) -> {
+            long serverValue = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverValue > 0 ? Math.min(serverValue, KEEP_ALIVE_MS) : KEEP_ALIVE_MS;
+        };
+
+        // İstek gönderilmeden önce çalışır; bağlantıdan daha önce istek gönderildiyse bağlantı yeniden kullanılıyordur
+        private static final HttpRequestInterceptor REUSE_TRACKER = (request, context) -> {
+            Object connection = context.getAttribute(HttpCoreContext.HTTP_CONNECTION);
+            if (connection instanceof HttpConnection) {
+                METRICS.record(((HttpConnection) connection).getMetrics().getRequestCount() > 0);
+            }
+        };
+    }
+}
@@ -0,0 +1,409 @@
+package com.example.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * API testleri ve yük testleri için süreç içinde çalışan HTTP stub sunucusu.
+ * {@link ApiEndpoints} içindeki her endpoint için bir yanıt sunar. Yanıt şu sırayla seçilir:
+ * <ol>
+ *     <li>{@link #stub(String, String, int, String)} ile tanımlanan yanıt</li>
+ *     <li>Sınıf yolundaki stubs/&lt;kategori&gt;.json dosyasında kaydedilmiş yanıt</li>
+ *     <li>HTTP metoduna göre varsayılan yanıt</li>
+ * </ol>
+ * Kaydedilmiş dosya endpoint adından {"status", "body", "echo"} nesnesine bir haritadır. echo true ise istek
+ * gövdesi ve yol parametreleri yanıt gövdesine eklenir; böylece oluşturma ve güncelleme istekleri gönderilen
+ * değerleri geri döndürür.
+ *
+ * <p>Sunucu api.stub=true sistem özelliğiyle (mvn -Pstub) etkinleştirilir. Gecikme ve sapma api.stub.latency.ms
+ * ve api.stub.jitter.ms ile eklenir; yanıtlar zamanlayıcıyla geciktirildiğinden gecikme iş parçacıklarını
+ * meşgul etmez.</p>
+ */
+public final class ApiStubServer {
+    private static final Logger logger = LoggerFactory.getLogger(ApiStubServer.class);
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([^}/]+)}");
+    private static final Pattern NUMBER = Pattern.compile("-?\\d{1,18}");
+    private static ApiStubServer shared;
+
+    private final int port;
+    private final Map<String, StubResponse> declared = new ConcurrentHashMap<>();
+    private final Map<String, JSONObject> recorded = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private volatile List<Route> routes = new ArrayList<>();
+    private volatile long latencyMillis;
+    private volatile long jitterMillis;
+    private HttpServer server;
+    private ExecutorService workers;
+    private ScheduledExecutorService delayer;
+
+    /**
+     * Stub sunucusu oluşturur.
+     *
+     * @param port Dinlenecek port; 0 ise boş bir port seçilir
+     */
+    public ApiStubServer(int port) {
+        this.port = port;
+    }
+
+    /**
+     * api.stub sistem özelliğiyle stub sunucusunun etkinleştirilip etkinleştirilmediğini döndürür.
+     *
+     * @return Etkinse true
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("api.stub");
+    }
+
+    /**
+     * Tüm testlerin paylaştığı stub sunucusunu döndürür; ilk çağrıda api.stub.* sistem özellikleriyle başlatılır.
+     *
+     * @return Çalışan stub sunucusu
+     */
+    public static synchronized ApiStubServer shared() {
+        if (shared == null) {
+            shared = new ApiStubServer(Integer.getInteger("api.stub.port", 0))
+                    .withLatency(Duration.ofMillis(Long.getLong("api.stub.latency.ms", 0L)),
+                            Duration.ofMillis(Long.getLong("api.stub.jitter.ms", 0L)))
+                    .start();
+        }
+        return shared;
+    }
+
+    /**
+     * Her yanıta eklenecek gecikmeyi ayarlar. Gerçek gecikme latency ile latency + jitter arasında rastgele seçilir.
+     *
+     * @param latency Sabit gecikme
+     * @param jitter Rastgele ek gecikmenin üst sınırı
+     * @return ApiStubServer nesnesi
+     */
+    public ApiStubServer withLatency(Duration latency, Duration jitter) {
+        this.latencyMillis = latency.toMillis();
+        this.jitterMillis = jitter.toMillis();
+        return this;
+    }
+
+    /**
+     * Bir endpoint yolu için yanıt tanımlar. Yol, ApiEndpoints'teki gibi {id} yer tutucuları içerebilir.
+     *
+     * @param method HTTP metodu
+     * @param pathTemplate Yol şablonu
+     * @param status Durum kodu
+     * @param body Yanıt gövdesi (JSON)
+     * @return ApiStubServer nesnesi
+     */
+    public ApiStubServer stub(String method, String pathTemplate, int status, String body) {
+        declared.put(key(method, pathTemplate), new StubResponse(status, body, false));
+        refreshRoutes();
+        return this;
+    }
+
+    /**
+     * ApiEndpoints'teki bir endpoint için yanıt tanımlar.
+     *
+     * @param category Kategori adı
+     * @param endpointName Endpoint adı
+     * @param status Durum kodu
+     * @param body Yanıt gövdesi (JSON)
+     * @return ApiStubServer nesnesi
+     */
+    public ApiStubServer stubEndpoint(String category, String endpointName, int status, String body) {
+        return stub(ApiEndpoints.getMethod(category, endpointName), ApiEndpoints.getPath(category, endpointName),
+                status, body);
+    }
+
+    /**
+     * Sunucuyu başlatır.
+     *
+     * @return ApiStubServer nesnesi
+     */
+    public synchronized ApiStubServer start() {
+        if (server != null) {
+            return this;
+        }
+        // Küçük yanıtların gecikmeli ACK yüzünden ~40 ms beklememesi için; sunucu yapılandırması ilk kullanımda okunur
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Stub sunucusu başlatılamadı: " + port, e);
+        }
+        // Platform iş parçacıkları kullanılır: aynı süreçteki istemciler sanal iş parçacıklarını taşıyıcılara
+        // sabitlediğinde (HttpClient bağlantı beklerken) sanal iş parçacıklı bir sunucu yanıt veremez
+        workers = Executors.newFixedThreadPool(Math.max(8, Runtime.getRuntime().availableProcessors() * 2),
+                daemonThreads("api-stub-worker"));
+        delayer = Executors.newSingleThreadScheduledExecutor(daemonThreads("api-stub-delay"));
+        server.setExecutor(workers);
+        server.createContext("/", this::handle);
+        refreshRoutes();
+
+        // Sunucunun dağıtıcı iş parçacığı, start() çağıran iş parçacığının daemon özelliğini alır; testler bitince
+        // JVM'in kapanmasını engellememesi için sunucu bir daemon iş parçacığından başlatılır
+        Thread starter = new Thread(server::start, "api-stub-starter");
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Stub sunucusu başlatılırken kesildi", e);
+        }
+        logger.info("API stub sunucusu başlatıldı: {}, {} endpoint", getBaseUrl(), routes.size());
+        return this;
+    }
+
+    /**
+     * Sunucuyu durdurur.
+     */
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        workers.shutdownNow();
+        delayer.shutdownNow();
+        server = null;
+        logger.info("API stub sunucusu durduruldu, {} istek yanıtlandı", getRequestCount());
+    }
+
+    /**
+     * Sunucunun temel adresini döndürür.
+     *
+     * @return Temel adres, ör. http://127.0.0.1:51234
+     */
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        byte[] requestBody;
+        try (InputStream in = exchange.getRequestBody()) {
+            requestBody = in.readAllBytes();
+        }
+
+        Response response = resolve(method, path, requestBody);
+        if (response == null) {
+            // Sunucu başladıktan sonra ApiEndpoints'e eklenen endpoint'ler için rotalar bir kez yenilenir
+            refreshRoutes();
+            response = resolve(method, path, requestBody);
+        }
+        if (response == null) {
+            response = new Response(404, new JSONObject().put("error", "No stub for " + method + " " + path)
+                    .toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        long delay = latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0);
+        if (delay > 0) {
+            Response delayed = response;
+            delayer.schedule(() -> send(exchange, delayed), delay, TimeUnit.MILLISECONDS);
+        } else {
+            send(exchange, response);
+        }
+    }
+
+    private Response resolve(String method, String path, byte[] requestBody) {
+        for (Route route : routes) {
+            if (!route.method.equalsIgnoreCase(method)) {
+                continue;
+            }
+            Matcher matcher = route.pattern.matcher(path);
+            if (matcher.matches()) {
+                Map<String, String> params = new HashMap<>();
+                for (int i = 0; i < route.paramNames.size(); i++) {
+                    params.put(route.paramNames.get(i), matcher.group(i + 1));
+                }
+                return route.response.render(params, requestBody);
+            }
+        }
+        return null;
+    }
+
+    private static void send(HttpExchange exchange, Response response) {
+        try (OutputStream out = exchange.getResponseBody()) {
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            // 204 ve 304 yanıtlarının gövdesi olamaz
+            boolean empty = response.status == 204 || response.status == 304;
+            exchange.sendResponseHeaders(response.status, empty ? -1 : response.body.length);
+            if (!empty) {
+                out.write(response.body);
+            }
+        } catch (IOException e) {
+            logger.debug("Stub yanıtı gönderilemedi: {}", e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Rotaları tanımlı yanıtlardan ve ApiEndpoints'teki tüm endpoint'lerden yeniden oluşturur. Tanımlı yanıtlar
+     * önce eşleşir.
+     */
+    private synchronized void refreshRoutes() {
+        List<Route> updated = new ArrayList<>();
+        Map<String, Boolean> seen = new HashMap<>();
+        declared.forEach((key, response) -> {
+            String[] parts = key.split(" ", 2);
+            updated.add(new Route(parts[0], parts[1], response));
+            seen.put(key, true);
+        });
+        for (String category : ApiEndpoints.getCategories()) {
+            JSONObject recordings = recorded.computeIfAbsent(category, ApiStubServer::loadRecordings);
+            for (String endpointName : ApiEndpoints.getEndpointNames(category)) {
+                String method = ApiEndpoints.getMethod(category, endpointName).toUpperCase();
+                String pathTemplate = ApiEndpoints.getPath(category, endpointName);
+                if (seen.putIfAbsent(key(method, pathTemplate), true) == null) {
+                    JSONObject recording = recordings.optJSONObject(endpointName);
+                    updated.add(new Route(method, pathTemplate,
+                            recording != null ? StubResponse.fromRecording(recording) : StubResponse.defaultFor(method)));
+                }
+            }
+        }
+        routes = updated;
+    }
+
+    private static JSONObject loadRecordings(String category) {
+        String resource = "stubs/" + category + ".json";
+        try (InputStream in = ApiStubServer.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                return new JSONObject();
+            }
+            logger.info("Kaydedilmiş stub yanıtları yüklendi: {}", resource);
+            return new JSONObject(new JSONTokener(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Stub yanıtları okunamadı: " + resource, e);
+        }
+    }
+
+    private static String key(String method, String pathTemplate) {
+        return method.toUpperCase() + " " + pathTemplate;
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Bir HTTP metodu ve yol şablonu için derlenmiş rota.
+     */
+    private static final class Route {
+        private final String method;
+        private final Pattern pattern;
+        private final List<String> paramNames = new ArrayList<>();
+        private final StubResponse response;
+
+        Route(String method, String pathTemplate, StubResponse response) {
+            this.method = method;
+            this.response = response;
+            StringBuilder regex = new StringBuilder();
+            Matcher matcher = PLACEHOLDER.matcher(pathTemplate);
+            int last = 0;
+            while (matcher.find()) {
+                regex.append(Pattern.quote(pathTemplate.substring(last, matcher.start()))).append("([^/]+)");
+                paramNames.add(matcher.group(1));
+                last = matcher.end();
+            }
+            regex.append(Pattern.quote(pathTemplate.substring(last))).append("/?");
+            this.pattern = Pattern.compile(regex.toString());
+        }
+    }
+
+    /**
+     * Bir rotanın yanıtı. echo kapalıysa gövde bir kez kodlanıp her istekte aynen gönderilir.
+     */
+    private static final class StubResponse {
+        private final int status;
+        private final String body;
+        private final boolean echo;
+        private final byte[] bytes;
+
+        StubResponse(int status, String body, boolean echo) {
+            this.status = status;
+            this.body = body;
+            this.echo = echo;
+            this.bytes = body.getBytes(StandardCharsets.UTF_8);
+        }
+
+        static StubResponse fromRecording(JSONObject recording) {
+            Object body = recording.opt("body");
+            return new StubResponse(recording.optInt("status", 200), body == null ? "{}" : body.toString(),
+                    recording.optBoolean("echo", false));
+        }
+
+        /**
+         * Kaydı olmayan endpoint'ler için JSONPlaceholder'a benzer varsayılan yanıt: POST 201, diğerleri 200;
+         * GET, POST ve PUT istek değerlerini geri döndürür.
+         */
+        static StubResponse defaultFor(String method) {
+            return new StubResponse("POST".equals(method) ? 201 : 200, "{}", !"DELETE".equals(method));
+        }
+
+        Response render(Map<String, String> params, byte[] requestBody) {
+            if (!echo || !body.trim().startsWith("{")) {
+                return new Response(status, bytes);
+            }
+            JSONObject json = new JSONObject(body);
+            params.forEach((name, value) -> json.put(name, NUMBER.matcher(value).matches() ? Long.parseLong(value) : value));
+            String text = new String(requestBody, StandardCharsets.UTF_8).trim();
+            if (text.startsWith("{")) {
+                JSONObject request = new JSONObject(text);
+                request.keySet().forEach(name -> json.put(name, request.get(name)));
+            }
+            return new Response(status, json.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Gönderilecek yanıt.
+     */
+    private static final class Response {
+        private final int status;
+        private final byte[] body;
+
+        Response(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
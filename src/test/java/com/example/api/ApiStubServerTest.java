@@ -0,0 +1,103 @@
+package com.example.api;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * ApiStubServer'ın istekleri doğru yanıta yönlendirdiğini gerçek HTTP istekleriyle doğrulayan birim testleri.
+ */
+public class ApiStubServerTest {
+    private static final HttpClient CLIENT = HttpClient.newHttpClient();
+
+    private ApiStubServer server;
+
+    @BeforeMethod
+    public void setUp() {
+        server = new ApiStubServer(0).start();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test(description = "Kaydedilmiş yanıt, endpoint'in metodu ve yoluyla eşleşen isteğe döner")
+    public void servesRecordedResponse() throws Exception {
+        HttpResponse<String> response = send("GET", "/users", null);
+
+        Assert.assertEquals(response.statusCode(), 200);
+        JSONArray users = new JSONArray(response.body());
+        Assert.assertEquals(users.length(), 3);
+        Assert.assertEquals(users.getJSONObject(0).getString("username"), "Bret");
+    }
+
+    @Test(description = "echo açık yanıtlara yol parametreleri ve istek gövdesi eklenir")
+    public void echoesPathParametersAndBody() throws Exception {
+        JSONObject user = new JSONObject(send("GET", "/users/5", null).body());
+        Assert.assertEquals(user.getLong("id"), 5);
+        Assert.assertEquals(user.getString("name"), "Leanne Graham");
+
+        HttpResponse<String> created = send("POST", "/users", "{\"name\": \"Ayşe Yılmaz\"}");
+        Assert.assertEquals(created.statusCode(), 201);
+        JSONObject body = new JSONObject(created.body());
+        Assert.assertEquals(body.getLong("id"), 11);
+        Assert.assertEquals(body.getString("name"), "Ayşe Yılmaz");
+
+        Assert.assertEquals(new JSONObject(send("PUT", "/users/abc", "{}").body()).getString("id"), "abc");
+    }
+
+    @Test(description = "Tanımlanan yanıt, kaydedilmiş yanıttan önce eşleşir")
+    public void prefersDeclaredStub() throws Exception {
+        server.stub("GET", "/users/{id}", 404, "{\"error\": \"bulunamadı\"}");
+
+        HttpResponse<String> response = send("GET", "/users/7", null);
+
+        Assert.assertEquals(response.statusCode(), 404);
+        Assert.assertEquals(new JSONObject(response.body()).getString("error"), "bulunamadı");
+        Assert.assertEquals(send("GET", "/users", null).statusCode(), 200);
+    }
+
+    @Test(description = "Sondaki eğik çizgi yok sayılır; metot ya da yol eşleşmezse 404 döner")
+    public void matchesMethodAndPathOnly() throws Exception {
+        Assert.assertEquals(send("GET", "/users/", null).statusCode(), 200);
+        Assert.assertEquals(send("DELETE", "/users/3", null).statusCode(), 200);
+
+        HttpResponse<String> wrongMethod = send("PATCH", "/users", "{}");
+        Assert.assertEquals(wrongMethod.statusCode(), 404);
+        Assert.assertEquals(new JSONObject(wrongMethod.body()).getString("error"), "No stub for PATCH /users");
+        Assert.assertEquals(send("GET", "/users/3/posts", null).statusCode(), 404);
+        Assert.assertEquals(server.getRequestCount(), 4);
+    }
+
+    @Test(description = "Sunucu başladıktan sonra yeni bir yol için tanımlanan yanıt hemen sunulur")
+    public void servesStubsAddedAfterStart() throws Exception {
+        // Paylaşılan ApiEndpoints haritası değiştirilmez; sonraki testlere sahte endpoint sızmaz
+        Assert.assertEquals(send("POST", "/reports/2024", "{}").statusCode(), 404);
+
+        server.stub("POST", "/reports/{year}", 201, "{\"status\": \"kuyrukta\"}");
+        HttpResponse<String> response = send("POST", "/reports/2024", "{\"type\": \"yıllık\"}");
+
+        Assert.assertEquals(response.statusCode(), 201);
+        Assert.assertEquals(new JSONObject(response.body()).getString("status"), "kuyrukta");
+        Assert.assertEquals(send("POST", "/reports/2025/draft", "{}").statusCode(), 404);
+    }
+
+    private HttpResponse<String> send(String method, String path, String body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(server.getBaseUrl() + path))
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body));
+        return CLIENT.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.api;
+
+import org.apache.http.pool.PoolStats;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Paylaşılan HTTP bağlantı havuzunun kullanım sayaçları.
+ * Her istek için, isteğin yeni açılmış bir bağlantıdan mı yoksa havuzdan yeniden kullanılan bir bağlantıdan mı
+ * gittiği kaydedilir; düşük yeniden kullanım oranı keep-alive'ın çalışmadığını ya da havuzun küçük kaldığını gösterir.
+ */
+public final class ConnectionMetrics {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder newConnections = new LongAdder();
+    private final Supplier<PoolStats> poolStats;
+
+    ConnectionMetrics(Supplier<PoolStats> poolStats) {
+        this.poolStats = poolStats;
+    }
+
+    /**
+     * Gönderilen bir isteği kaydeder.
+     *
+     * @param reused Bağlantı daha önce başka bir istek için kullanıldıysa true
+     */
+    void record(boolean reused) {
+        requests.increment();
+        if (!reused) {
+            newConnections.increment();
+        }
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    public long getNewConnectionCount() {
+        return newConnections.sum();
+    }
+
+    public long getReusedConnectionCount() {
+        return getRequestCount() - getNewConnectionCount();
+    }
+
+    /**
+     * Yeniden kullanılan bağlantıyla gönderilen isteklerin oranını döndürür.
+     *
+     * @return 0 ile 1 arasında oran; hiç istek yoksa 0
+     */
+    public double getReuseRatio() {
+        long total = getRequestCount();
+        return total == 0 ? 0 : (double) getReusedConnectionCount() / total;
+    }
+
+    /**
+     * Havuzun anlık durumunu döndürür (kullanımdaki, boşta bekleyen ve bağlantı bekleyen istek sayıları).
+     *
+     * @return Havuz istatistikleri
+     */
+    public PoolStats getPoolStats() {
+        return poolStats.get();
+    }
+
+    /**
+     * İstek ve bağlantı sayaçlarını sıfırlar.
+     */
+    public void reset() {
+        requests.reset();
+        newConnections.reset();
+    }
+
+    @Override
+    public String toString() {
+        PoolStats stats = getPoolStats();
+        return String.format("requests=%d, newConnections=%d, reused=%d (%.0f%%), pool[leased=%d, available=%d, "
+                        + "pending=%d, max=%d]", getRequestCount(), getNewConnectionCount(), getReusedConnectionCount(),
+                getReuseRatio() * 100, stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+}
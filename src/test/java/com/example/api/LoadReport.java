@@ -0,0 +1,106 @@
+package com.example.api;
+
+import com.erp.test.core.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Bir yük testi koşusunun sonuçları.
+ * İki gecikme dağılımı tutulur: yanıt süresi isteğin planlandığı andan yanıtın alındığı ana kadar geçen süredir ve
+ * koordineli ihmal (coordinated omission) düzeltmesini içerir; servis süresi ise yalnızca isteğin gönderildiği andan
+ * itibaren ölçülür. Sistem yavaşladığında iki dağılım arasındaki fark, sırada bekleyen isteklerin gördüğü gecikmedir.
+ */
+public final class LoadReport {
+    private static final double[] PERCENTILES = {50, 95, 99, 99.9};
+
+    private final String model;
+    private final Duration elapsed;
+    private final long errors;
+    private final LatencyHistogram responseTimes;
+    private final LatencyHistogram serviceTimes;
+    private final boolean corrected;
+
+    LoadReport(String model, Duration elapsed, long errors, LatencyHistogram responseTimes,
+               LatencyHistogram serviceTimes, boolean corrected) {
+        this.model = model;
+        this.elapsed = elapsed;
+        this.errors = errors;
+        this.responseTimes = responseTimes;
+        this.serviceTimes = serviceTimes;
+        this.corrected = corrected;
+    }
+
+    public long getRequestCount() {
+        return responseTimes.getCount();
+    }
+
+    public long getErrorCount() {
+        return errors;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Saniyedeki tamamlanan istek sayısını döndürür.
+     *
+     * @return İstek/saniye
+     */
+    public double getThroughput() {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0 : getRequestCount() / seconds;
+    }
+
+    /**
+     * Hatalı isteklerin (4xx/5xx yanıt ya da bağlantı hatası) oranını döndürür.
+     *
+     * @return 0 ile 1 arasında oran; hiç istek yoksa 0
+     */
+    public double getErrorRate() {
+        long total = getRequestCount();
+        return total == 0 ? 0 : (double) errors / total;
+    }
+
+    /**
+     * Planlanan başlangıçtan itibaren ölçülen yanıt süresinin yüzdelik değerini döndürür.
+     *
+     * @param percentile 0-100 arası yüzdelik
+     * @return Süre (milisaniye)
+     */
+    public double getResponseTimeMillis(double percentile) {
+        return responseTimes.getPercentileMillis(percentile);
+    }
+
+    /**
+     * İsteğin gönderildiği andan itibaren ölçülen servis süresinin yüzdelik değerini döndürür.
+     *
+     * @param percentile 0-100 arası yüzdelik
+     * @return Süre (milisaniye)
+     */
+    public double getServiceTimeMillis(double percentile) {
+        return serviceTimes.getPercentileMillis(percentile);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "%s: %d requests in %.1f s, %.1f req/s, errors %d (%.2f%%)%n",
+                model, getRequestCount(), elapsed.toMillis() / 1000.0, getThroughput(), errors, getErrorRate() * 100));
+        report.append(corrected ? "response time (corrected): " : "response time (uncorrected): ");
+        appendPercentiles(report, responseTimes);
+        report.append(String.format("%nservice time:              "));
+        appendPercentiles(report, serviceTimes);
+        return report.toString();
+    }
+
+    private static void appendPercentiles(StringBuilder report, LatencyHistogram histogram) {
+        for (double percentile : PERCENTILES) {
+            report.append(String.format(Locale.ROOT, "p%s=%.2f ms  ",
+                    percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile),
+                    histogram.getPercentileMillis(percentile)));
+        }
+        report.append(String.format(Locale.ROOT, "max=%.2f ms", histogram.getMaxMillis()));
+    }
+}
@@ -1,15 +1,11 @@
 package com.example.api;
 
 import io.restassured.RestAssured;
-import io.restassured.builder.RequestSpecBuilder;
-import io.restassured.builder.ResponseSpecBuilder;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
-import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 
 /**
@@ -19,8 +15,8 @@ import org.testng.annotations.BeforeClass;
 public class RestAssuredBase {
     private static final Logger logger = LoggerFactory.getLogger(RestAssuredBase.class);
 
-    // API temel URL'si - JSONPlaceholder API'sini kullanıyoruz
-    protected static final String BASE_URL = "https://jsonplaceholder.typicode.com";
+    // API temel URL'si - varsayılan olarak JSONPlaceholder API'si, api.stub etkinse yerel stub sunucusu
+    protected String baseUrl;
 
     protected RequestSpecification requestSpec;
     protected ResponseSpecification responseSpec;
@@ -31,22 +27,23 @@ public class RestAssuredBase {
         configureRestAssured();
     }
 
+    @AfterClass(alwaysRun = true)
+    public void logConnectionMetrics() {
+        logger.info("HTTP bağlantı havuzu kullanımı: {}", ApiSpecFactory.getConnectionMetrics());
+    }
+
     /**
      * REST Assured için temel yapılandırmayı ayarlar.
+     * İstekler, {@link ApiSpecFactory} üzerinden paylaşılan bağlantı havuzunu kullanır. api.stub etkinse
+     * (mvn -Pstub) süreç içi {@link ApiStubServer} burada başlatılır ve istekler ona gönderilir.
      */
     private void configureRestAssured() {
-        RestAssured.baseURI = BASE_URL;
-
-        requestSpec = new RequestSpecBuilder()
-                .setContentType(ContentType.JSON)
-                .addHeader("Accept", ContentType.JSON.toString())
-                .addFilter(new RequestLoggingFilter())
-                .addFilter(new ResponseLoggingFilter())
-                .build();
-
-        responseSpec = new ResponseSpecBuilder()
-                .expectContentType(ContentType.JSON)
-                .build();
+        baseUrl = ApiSpecFactory.getBaseUrl();
+        RestAssured.baseURI = baseUrl;
+        RestAssured.config = ApiSpecFactory.config();
+
+        requestSpec = ApiSpecFactory.requestSpec(baseUrl);
+        responseSpec = ApiSpecFactory.jsonResponseSpec();
 
         logger.info("REST Assured yapılandırması tamamlandı");
     }
@@ -3,9 +3,15 @@ package com.example.api;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * API için test sınıfı.
  * REST Assured kullanarak API işlevlerini test eder.
@@ -18,6 +24,7 @@ public class RestAssuredTest extends RestAssuredBase {
 
     @BeforeClass
     public void setUp() {
+        super.setUp();
         logger.info("API testi başlatılıyor");
         userApi = new UserApi(requestSpec);
     }
@@ -72,4 +79,22 @@ public class RestAssuredTest extends RestAssuredBase {
         // Kullanıcıyı sil
         userApi.deleteUser("1");
     }
+
+    @Test(priority = 6)
+    public void testAllGetEndpointsRespond() {
+        logger.info("Tüm GET endpoint'leri eşzamansız kontrol ediliyor");
+
+        // Tüm kategorilerdeki GET endpoint'lerine aynı anda istek gönder
+        List<CompletableFuture<Map<String, Response>>> checks = new ArrayList<>();
+        for (String category : ApiEndpoints.getCategories()) {
+            checks.add(new ApiRequest(category).getAllAsync(ApiRequest.createIdParam("1")));
+        }
+
+        // Her endpoint'in başarılı yanıt döndürdüğünü doğrula
+        for (CompletableFuture<Map<String, Response>> check : checks) {
+            check.join().forEach((endpointName, response) ->
+                    Assert.assertTrue(response.getStatusCode() < 400,
+                            endpointName + " endpoint'i hata döndürdü: " + response.getStatusCode()));
+        }
+    }
 }
@@ -20,6 +20,13 @@ import static org.hamcrest.Matchers.*;
 public class UserApi extends ApiRequest {
     private static final Logger logger = LoggerFactory.getLogger(UserApi.class);
     
+    /**
+     * Paylaşılan bağlantı havuzunu kullanan varsayılan spec ile kullanıcı API'si sınıfı oluşturur.
+     */
+    public UserApi() {
+        super("users");
+    }
+
     /**
      * Kullanıcı API'si sınıfı constructor'ı.
      * 
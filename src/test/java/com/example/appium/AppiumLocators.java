@@ -1,5 +1,6 @@
 package com.example.appium;
 
+import com.example.locators.LocatorRegistry;
 import org.json.JSONObject;
 import org.openqa.selenium.By;
 import org.slf4j.Logger;
@@ -15,6 +16,9 @@ import java.util.Map;
 public class AppiumLocators {
     private static final Logger logger = LoggerFactory.getLogger(AppiumLocators.class);
     
+    // Derlenmiş locator kaydındaki platform adı
+    private static final String PLATFORM = "android";
+    
     // Tüm ekranların locator'larını saklayan harita
     private static final Map<String, JSONObject> screenLocatorsMap = new HashMap<>();
     
@@ -62,39 +66,7 @@ public class AppiumLocators {
      */
     public static By getLocator(String screenName, String elementName) {
         try {
-            if (!screenLocatorsMap.containsKey(screenName)) {
-                logger.error("Ekran bulunamadı: {}", screenName);
-                throw new IllegalArgumentException("Ekran bulunamadı: " + screenName);
-            }
-            
-            JSONObject screenLocators = screenLocatorsMap.get(screenName);
-            
-            if (!screenLocators.has(elementName)) {
-                logger.error("Eleman bulunamadı: {} ekranında {}", screenName, elementName);
-                throw new IllegalArgumentException("Eleman bulunamadı: " + screenName + " ekranında " + elementName);
-            }
-            
-            JSONObject elementLocator = screenLocators.getJSONObject(elementName);
-            String type = elementLocator.getString("type");
-            String value = elementLocator.getString("value");
-            
-            switch (type.toLowerCase()) {
-                case "id":
-                    return By.id(value);
-                case "xpath":
-                    return By.xpath(value);
-                case "accessibility id":
-                    return By.xpath("//*[@content-desc='" + value + "']");
-                case "class":
-                    return By.className(value);
-                case "name":
-                    return By.name(value);
-                case "css":
-                    return By.cssSelector(value);
-                default:
-                    logger.error("Geçersiz locator tipi: {}", type);
-                    throw new IllegalArgumentException("Geçersiz locator tipi: " + type);
-            }
+            return LocatorRegistry.get(PLATFORM, screenName, elementName, () -> getDefinition(screenName, elementName));
         } catch (Exception e) {
             logger.error("Locator alınırken hata oluştu: {}", e.getMessage());
             throw new RuntimeException("Locator alınırken hata oluştu: " + e.getMessage(), e);
@@ -111,45 +83,38 @@ public class AppiumLocators {
      */
     public static By getDynamicLocator(String screenName, String elementName, String dynamicValue) {
         try {
-            if (!screenLocatorsMap.containsKey(screenName)) {
-                logger.error("Ekran bulunamadı: {}", screenName);
-                throw new IllegalArgumentException("Ekran bulunamadı: " + screenName);
-            }
-            
-            JSONObject screenLocators = screenLocatorsMap.get(screenName);
-            
-            if (!screenLocators.has(elementName)) {
-                logger.error("Eleman bulunamadı: {} ekranında {}", screenName, elementName);
-                throw new IllegalArgumentException("Eleman bulunamadı: " + screenName + " ekranında " + elementName);
-            }
-            
-            JSONObject elementLocator = screenLocators.getJSONObject(elementName);
-            String type = elementLocator.getString("type");
-            String value = elementLocator.getString("value").replace("{}", dynamicValue);
-            
-            switch (type.toLowerCase()) {
-                case "id":
-                    return By.id(value);
-                case "xpath":
-                    return By.xpath(value);
-                case "accessibility id":
-                    return By.xpath("//*[@content-desc='" + value + "']");
-                case "class":
-                    return By.className(value);
-                case "name":
-                    return By.name(value);
-                case "css":
-                    return By.cssSelector(value);
-                default:
-                    logger.error("Geçersiz locator tipi: {}", type);
-                    throw new IllegalArgumentException("Geçersiz locator tipi: " + type);
-            }
+            return LocatorRegistry.getDynamic(PLATFORM, screenName, elementName, dynamicValue,
+                    () -> getDefinition(screenName, elementName));
         } catch (Exception e) {
             logger.error("Dinamik locator alınırken hata oluştu: {}", e.getMessage());
             throw new RuntimeException("Dinamik locator alınırken hata oluştu: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * Belirtilen ekran ve eleman için JSON tanımını okur.
+     * 
+     * @param screenName Ekran adı
+     * @param elementName Eleman adı
+     * @return Locator tanımı
+     */
+    public static LocatorRegistry.LocatorDefinition getDefinition(String screenName, String elementName) {
+        if (!screenLocatorsMap.containsKey(screenName)) {
+            logger.error("Ekran bulunamadı: {}", screenName);
+            throw new IllegalArgumentException("Ekran bulunamadı: " + screenName);
+        }
+        
+        JSONObject screenLocators = screenLocatorsMap.get(screenName);
+        
+        if (!screenLocators.has(elementName)) {
+            logger.error("Eleman bulunamadı: {} ekranında {}", screenName, elementName);
+            throw new IllegalArgumentException("Eleman bulunamadı: " + screenName + " ekranında " + elementName);
+        }
+        
+        JSONObject elementLocator = screenLocators.getJSONObject(elementName);
+        return new LocatorRegistry.LocatorDefinition(elementLocator.getString("type"), elementLocator.getString("value"));
+    }
+    
     /**
      * Yeni bir locator ekler veya mevcut bir locator'ı günceller.
      * 
@@ -166,6 +131,7 @@ public class AppiumLocators {
             
             JSONObject screenLocators = screenLocatorsMap.get(screenName);
             screenLocators.put(elementName, new JSONObject().put("type", type).put("value", value));
+            LocatorRegistry.invalidate(PLATFORM, screenName, elementName);
             
             logger.info("Locator eklendi/güncellendi: {} ekranında {}", screenName, elementName);
         } catch (Exception e) {
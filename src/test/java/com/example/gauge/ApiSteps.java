@@ -1,6 +1,8 @@
 package com.example.gauge;
 
+import com.example.api.ApiSpecFactory;
 import com.example.api.RestAssuredBase;
+import com.thoughtworks.gauge.AfterSuite;
 import com.thoughtworks.gauge.Step;
 import com.thoughtworks.gauge.BeforeScenario;
 import io.restassured.path.json.JsonPath;
@@ -29,6 +31,11 @@ public class ApiSteps extends RestAssuredBase {
         logger.info("API senaryosu başlatılıyor");
     }
 
+    @AfterSuite
+    public void logConnectionMetrics() {
+        logger.info("HTTP bağlantı havuzu kullanımı: {}", ApiSpecFactory.getConnectionMetrics());
+    }
+
     @Step("Kullanıcı listesi API'sine GET isteği gönder")
     public void sendGetRequestToUsersApi() {
         logger.info("Kullanıcı listesi API'sine GET isteği gönderiliyor");
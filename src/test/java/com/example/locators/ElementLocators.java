@@ -22,8 +22,11 @@ public class ElementLocators {
     // Lokatorları saklayan harita
     private static final Map<String, JSONObject> locatorsMap = new HashMap<>();
     
+    // Derlenmiş lokator kaydında bu sınıfın lokatorlarının tutulduğu sayfa adı
+    private static final String PAGE = "app";
+    
     // Platform türü (android veya ios)
-    private static String platform = "android"; // Varsayılan olarak Android
+    private static volatile String platform = "android"; // Varsayılan olarak Android
     
     static {
         // JSON formatında lokatorları tanımla
@@ -81,6 +84,7 @@ public class ElementLocators {
                 JSONObject locator = locatorsArray.getJSONObject(i);
                 locatorsMap.put(locator.getString("key"), locator);
             }
+            LocatorRegistry.invalidatePage(PAGE);
             
             logger.info("Lokatorlar başarıyla yüklendi: {}", filePath);
         } catch (IOException e) {
@@ -121,42 +125,22 @@ public class ElementLocators {
      * @return By Selenium By nesnesi
      */
     public static By getBy(String key) {
+        return LocatorRegistry.get(platform, PAGE, key, () -> getDefinition(key));
+    }
+    
+    /**
+     * Belirtilen key için o anki platformun lokator tanımını okur.
+     * 
+     * @param key Lokator anahtarı
+     * @return Lokator tanımı
+     */
+    public static LocatorRegistry.LocatorDefinition getDefinition(String key) {
         JSONObject locator = getLocator(key);
+        boolean android = platform.equals("android");
         
-        String type = platform.equals("android") ? 
-                locator.getString("androidType") : 
-                locator.getString("iosType");
-        
-        String value = platform.equals("android") ? 
-                locator.getString("androidValue") : 
-                locator.getString("iosValue");
-        
-        switch (type.toLowerCase()) {
-            case "id":
-                return By.id(value);
-            case "xpath":
-                return By.xpath(value);
-            case "classchain":
-                // iOS için classChain, Appium'da özel bir lokator tipidir
-                // Android'de kullanılmaz, bu yüzden iOS için özel bir durum
-                if (platform.equals("ios")) {
-                    return By.xpath(value); // Basitleştirmek için xpath olarak kullanıyoruz
-                }
-                throw new IllegalArgumentException("ClassChain lokator tipi Android'de desteklenmiyor");
-            case "class":
-                return By.className(value);
-            case "name":
-                return By.name(value);
-            case "css":
-                return By.cssSelector(value);
-            case "linktext":
-                return By.linkText(value);
-            case "partiallinktext":
-                return By.partialLinkText(value);
-            default:
-                logger.error("Geçersiz lokator tipi: {}", type);
-                throw new IllegalArgumentException("Geçersiz lokator tipi: " + type);
-        }
+        return new LocatorRegistry.LocatorDefinition(
+                android ? locator.getString("androidType") : locator.getString("iosType"),
+                android ? locator.getString("androidValue") : locator.getString("iosValue"));
     }
     
     /**
@@ -177,6 +161,8 @@ public class ElementLocators {
                 .put("iosType", iosType);
         
         locatorsMap.put(key, locator);
+        LocatorRegistry.invalidate("android", PAGE, key);
+        LocatorRegistry.invalidate("ios", PAGE, key);
         logger.info("Lokator eklendi/güncellendi: {}", key);
     }
 }
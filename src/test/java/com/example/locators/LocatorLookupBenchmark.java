@@ -0,0 +1,84 @@
+package com.example.locators;
+
+import com.example.selenium.PageLocators;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lokator erişim maliyetini ölçen JMH benchmark'ı.
+ * "legacy" metotları önceki davranışı (her erişimde JSON okuma ve By oluşturma) taklit eder,
+ * diğerleri derlenmiş lokator kaydını kullanır.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocatorLookupBenchmark {
+    private static final String ELEMENT_KEY = "login";
+    private static final String PAGE = "benchmarkPage";
+    private static final String DYNAMIC_ELEMENT = "resultRow";
+    private static final String DYNAMIC_VALUE = "INV-2024-000123";
+
+    @Setup
+    public void setUp() {
+        ElementLocators.setPlatform("android");
+        PageLocators.addOrUpdateLocator(PAGE, DYNAMIC_ELEMENT, "xpath",
+                "//tr[td[text()='{}']]//button[@data-invoice='{}']");
+    }
+
+    @Benchmark
+    public By legacyElementGetBy() {
+        JSONObject locator = ElementLocators.getLocator(ELEMENT_KEY);
+        return LocatorRegistry.compile("android", locator.getString("androidType"), locator.getString("androidValue"));
+    }
+
+    @Benchmark
+    public By cachedElementGetBy() {
+        return ElementLocators.getBy(ELEMENT_KEY);
+    }
+
+    @Benchmark
+    public By legacyPageLocator() {
+        LocatorRegistry.LocatorDefinition definition = PageLocators.getDefinition("loginPage", "username");
+        return LocatorRegistry.compile("web", definition.getType(), definition.getValue());
+    }
+
+    @Benchmark
+    public By cachedPageLocator() {
+        return PageLocators.getLocator("loginPage", "username");
+    }
+
+    @Benchmark
+    public By legacyDynamicLocator() {
+        LocatorRegistry.LocatorDefinition definition = PageLocators.getDefinition(PAGE, DYNAMIC_ELEMENT);
+        return LocatorRegistry.compile("web", definition.getType(), definition.getValue().replace("{}", DYNAMIC_VALUE));
+    }
+
+    @Benchmark
+    public By cachedDynamicLocator() {
+        return PageLocators.getDynamicLocator(PAGE, DYNAMIC_ELEMENT, DYNAMIC_VALUE);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LocatorLookupBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.locators;
+
+import org.openqa.selenium.By;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Derlenmiş lokatorları platform, sayfa ve eleman adına göre saklayan ortak kayıt.
+ * Her lokator JSON tanımından yalnızca bir kez By nesnesine dönüştürülür; dinamik lokator şablonları
+ * önceden parçalara ayrılır, böylece dinamik lokator oluşturmak yalnızca metin birleştirmeden ibaret olur.
+ */
+public final class LocatorRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(LocatorRegistry.class);
+
+    // Dinamik lokatorlarda değerin yerleştirileceği yer tutucu
+    private static final String PLACEHOLDER = "{}";
+
+    private static final ConcurrentMap<LocatorKey, By> compiledLocators = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<LocatorKey, DynamicTemplate> dynamicTemplates = new ConcurrentHashMap<>();
+
+    private LocatorRegistry() {
+    }
+
+    /**
+     * Derlenmiş lokatoru döndürür; kayıtta yoksa tanımı okuyup bir kez derler.
+     *
+     * @param platform Platform adı (android, ios veya web)
+     * @param page Sayfa veya ekran adı
+     * @param element Eleman adı
+     * @param definition Lokator tanımını okuyan fonksiyon
+     * @return Selenium By nesnesi
+     */
+    public static By get(String platform, String page, String element, Supplier<LocatorDefinition> definition) {
+        LocatorKey key = new LocatorKey(platform, page, element);
+        By locator = compiledLocators.get(key);
+        if (locator == null) {
+            locator = compiledLocators.computeIfAbsent(key, k -> {
+                LocatorDefinition def = definition.get();
+                return compile(platform, def.getType(), def.getValue());
+            });
+        }
+        return locator;
+    }
+
+    /**
+     * Dinamik lokatoru oluşturur. Şablon ilk kullanımda parçalanır ve kayıtta saklanır.
+     *
+     * @param platform Platform adı (android, ios veya web)
+     * @param page Sayfa veya ekran adı
+     * @param element Eleman adı
+     * @param dynamicValue Yer tutucunun yerine konacak değer
+     * @param definition Lokator tanımını okuyan fonksiyon
+     * @return Selenium By nesnesi
+     */
+    public static By getDynamic(String platform, String page, String element, String dynamicValue,
+                                Supplier<LocatorDefinition> definition) {
+        LocatorKey key = new LocatorKey(platform, page, element);
+        DynamicTemplate template = dynamicTemplates.get(key);
+        if (template == null) {
+            template = dynamicTemplates.computeIfAbsent(key, k -> DynamicTemplate.parse(definition.get()));
+        }
+        return compile(platform, template.type, template.format(dynamicValue));
+    }
+
+    /**
+     * Bir lokatorun derlenmiş halini ve dinamik şablonunu kayıttan siler.
+     * Lokator tanımı değiştiğinde çağrılmalıdır.
+     *
+     * @param platform Platform adı
+     * @param page Sayfa veya ekran adı
+     * @param element Eleman adı
+     */
+    public static void invalidate(String platform, String page, String element) {
+        LocatorKey key = new LocatorKey(platform, page, element);
+        compiledLocators.remove(key);
+        dynamicTemplates.remove(key);
+    }
+
+    /**
+     * Bir sayfaya ait tüm derlenmiş lokatorları kayıttan siler.
+     *
+     * @param page Sayfa veya ekran adı
+     */
+    public static void invalidatePage(String page) {
+        compiledLocators.keySet().removeIf(key -> key.page.equals(page));
+        dynamicTemplates.keySet().removeIf(key -> key.page.equals(page));
+        logger.debug("Derlenmiş lokatorlar temizlendi: {}", page);
+    }
+
+    /**
+     * Lokator tipini ve değerini By nesnesine dönüştürür.
+     *
+     * @param platform Platform adı (android, ios veya web)
+     * @param type Lokator tipi
+     * @param value Lokator değeri
+     * @return Selenium By nesnesi
+     */
+    public static By compile(String platform, String type, String value) {
+        switch (type.toLowerCase()) {
+            case "id":
+                return By.id(value);
+            case "xpath":
+                return By.xpath(value);
+            case "css":
+                return By.cssSelector(value);
+            case "name":
+                return By.name(value);
+            case "class":
+                return By.className(value);
+            case "tag":
+                return By.tagName(value);
+            case "linktext":
+                return By.linkText(value);
+            case "partiallinktext":
+                return By.partialLinkText(value);
+            case "accessibility id":
+                return By.xpath("//*[@content-desc='" + value + "']");
+            case "classchain":
+                // iOS için classChain, Appium'da özel bir lokator tipidir; basitleştirmek için xpath olarak kullanıyoruz
+                if ("ios".equals(platform)) {
+                    return By.xpath(value);
+                }
+                throw new IllegalArgumentException("ClassChain lokator tipi yalnızca iOS'ta desteklenir, platform: "
+                        + platform);
+            default:
+                logger.error("Geçersiz lokator tipi: {}", type);
+                throw new IllegalArgumentException("Geçersiz lokator tipi: " + type);
+        }
+    }
+
+    /**
+     * Lokator tanımı: tip ve değer.
+     */
+    public static final class LocatorDefinition {
+        private final String type;
+        private final String value;
+
+        public LocatorDefinition(String type, String value) {
+            this.type = type;
+            this.value = value;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * Yer tutucu noktalarından önceden parçalanmış dinamik lokator şablonu.
+     */
+    private static final class DynamicTemplate {
+        private final String type;
+        private final String[] segments;
+        private final int fixedLength;
+
+        private DynamicTemplate(String type, String[] segments) {
+            this.type = type;
+            this.segments = segments;
+            int length = 0;
+            for (String segment : segments) {
+                length += segment.length();
+            }
+            this.fixedLength = length;
+        }
+
+        static DynamicTemplate parse(LocatorDefinition definition) {
+            String value = definition.getValue();
+            List<String> parts = new ArrayList<>();
+            int start = 0;
+            int index;
+            while ((index = value.indexOf(PLACEHOLDER, start)) != -1) {
+                parts.add(value.substring(start, index));
+                start = index + PLACEHOLDER.length();
+            }
+            parts.add(value.substring(start));
+            return new DynamicTemplate(definition.getType(), parts.toArray(new String[0]));
+        }
+
+        String format(String dynamicValue) {
+            if (segments.length == 1) {
+                return segments[0];
+            }
+            StringBuilder builder = new StringBuilder(fixedLength + dynamicValue.length() * (segments.length - 1));
+            builder.append(segments[0]);
+            for (int i = 1; i < segments.length; i++) {
+                builder.append(dynamicValue).append(segments[i]);
+            }
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Kayıt anahtarı: (platform, sayfa, eleman).
+     */
+    private static final class LocatorKey {
+        private final String platform;
+        private final String page;
+        private final String element;
+        private final int hash;
+
+        private LocatorKey(String platform, String page, String element) {
+            this.platform = platform;
+            this.page = page;
+            this.element = element;
+            this.hash = Objects.hash(platform, page, element);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LocatorKey)) {
+                return false;
+            }
+            LocatorKey other = (LocatorKey) o;
+            return platform.equals(other.platform) && page.equals(other.page) && element.equals(other.element);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
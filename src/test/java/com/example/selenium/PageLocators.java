@@ -1,5 +1,6 @@
 package com.example.selenium;
 
+import com.example.locators.LocatorRegistry;
 import org.json.JSONObject;
 import org.openqa.selenium.By;
 import org.slf4j.Logger;
@@ -15,6 +16,9 @@ import java.util.Map;
 public class PageLocators {
     private static final Logger logger = LoggerFactory.getLogger(PageLocators.class);
     
+    // Derlenmiş locator kaydındaki platform adı
+    private static final String PLATFORM = "web";
+    
     // Tüm sayfaların locator'larını saklayan harita
     private static final Map<String, JSONObject> pageLocatorsMap = new HashMap<>();
     
@@ -61,43 +65,7 @@ public class PageLocators {
      */
     public static By getLocator(String pageName, String elementName) {
         try {
-            if (!pageLocatorsMap.containsKey(pageName)) {
-                logger.error("Sayfa bulunamadı: {}", pageName);
-                throw new IllegalArgumentException("Sayfa bulunamadı: " + pageName);
-            }
-            
-            JSONObject pageLocators = pageLocatorsMap.get(pageName);
-            
-            if (!pageLocators.has(elementName)) {
-                logger.error("Eleman bulunamadı: {} sayfasında {}", pageName, elementName);
-                throw new IllegalArgumentException("Eleman bulunamadı: " + pageName + " sayfasında " + elementName);
-            }
-            
-            JSONObject elementLocator = pageLocators.getJSONObject(elementName);
-            String type = elementLocator.getString("type");
-            String value = elementLocator.getString("value");
-            
-            switch (type.toLowerCase()) {
-                case "id":
-                    return By.id(value);
-                case "xpath":
-                    return By.xpath(value);
-                case "css":
-                    return By.cssSelector(value);
-                case "name":
-                    return By.name(value);
-                case "class":
-                    return By.className(value);
-                case "tag":
-                    return By.tagName(value);
-                case "linktext":
-                    return By.linkText(value);
-                case "partiallinktext":
-                    return By.partialLinkText(value);
-                default:
-                    logger.error("Geçersiz locator tipi: {}", type);
-                    throw new IllegalArgumentException("Geçersiz locator tipi: " + type);
-            }
+            return LocatorRegistry.get(PLATFORM, pageName, elementName, () -> getDefinition(pageName, elementName));
         } catch (Exception e) {
             logger.error("Locator alınırken hata oluştu: {}", e.getMessage());
             throw new RuntimeException("Locator alınırken hata oluştu: " + e.getMessage(), e);
@@ -114,49 +82,38 @@ public class PageLocators {
      */
     public static By getDynamicLocator(String pageName, String elementName, String dynamicValue) {
         try {
-            if (!pageLocatorsMap.containsKey(pageName)) {
-                logger.error("Sayfa bulunamadı: {}", pageName);
-                throw new IllegalArgumentException("Sayfa bulunamadı: " + pageName);
-            }
-            
-            JSONObject pageLocators = pageLocatorsMap.get(pageName);
-            
-            if (!pageLocators.has(elementName)) {
-                logger.error("Eleman bulunamadı: {} sayfasında {}", pageName, elementName);
-                throw new IllegalArgumentException("Eleman bulunamadı: " + pageName + " sayfasında " + elementName);
-            }
-            
-            JSONObject elementLocator = pageLocators.getJSONObject(elementName);
-            String type = elementLocator.getString("type");
-            String value = elementLocator.getString("value").replace("{}", dynamicValue);
-            
-            switch (type.toLowerCase()) {
-                case "id":
-                    return By.id(value);
-                case "xpath":
-                    return By.xpath(value);
-                case "css":
-                    return By.cssSelector(value);
-                case "name":
-                    return By.name(value);
-                case "class":
-                    return By.className(value);
-                case "tag":
-                    return By.tagName(value);
-                case "linktext":
-                    return By.linkText(value);
-                case "partiallinktext":
-                    return By.partialLinkText(value);
-                default:
-                    logger.error("Geçersiz locator tipi: {}", type);
-                    throw new IllegalArgumentException("Geçersiz locator tipi: " + type);
-            }
+            return LocatorRegistry.getDynamic(PLATFORM, pageName, elementName, dynamicValue,
+                    () -> getDefinition(pageName, elementName));
         } catch (Exception e) {
             logger.error("Dinamik locator alınırken hata oluştu: {}", e.getMessage());
             throw new RuntimeException("Dinamik locator alınırken hata oluştu: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * Belirtilen sayfa ve eleman için JSON tanımını okur.
+     * 
+     * @param pageName Sayfa adı
+     * @param elementName Eleman adı
+     * @return Locator tanımı
+     */
+    public static LocatorRegistry.LocatorDefinition getDefinition(String pageName, String elementName) {
+        if (!pageLocatorsMap.containsKey(pageName)) {
+            logger.error("Sayfa bulunamadı: {}", pageName);
+            throw new IllegalArgumentException("Sayfa bulunamadı: " + pageName);
+        }
+        
+        JSONObject pageLocators = pageLocatorsMap.get(pageName);
+        
+        if (!pageLocators.has(elementName)) {
+            logger.error("Eleman bulunamadı: {} sayfasında {}", pageName, elementName);
+            throw new IllegalArgumentException("Eleman bulunamadı: " + pageName + " sayfasında " + elementName);
+        }
+        
+        JSONObject elementLocator = pageLocators.getJSONObject(elementName);
+        return new LocatorRegistry.LocatorDefinition(elementLocator.getString("type"), elementLocator.getString("value"));
+    }
+    
     /**
      * Yeni bir locator ekler veya mevcut bir locator'ı günceller.
      * 
@@ -173,6 +130,7 @@ public class PageLocators {
             
             JSONObject pageLocators = pageLocatorsMap.get(pageName);
             pageLocators.put(elementName, new JSONObject().put("type", type).put("value", value));
+            LocatorRegistry.invalidate(PLATFORM, pageName, elementName);
             
             logger.info("Locator eklendi/güncellendi: {} sayfasında {}", pageName, elementName);
         } catch (Exception e) {